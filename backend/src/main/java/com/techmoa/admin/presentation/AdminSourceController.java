@@ -1,14 +1,13 @@
 package com.techmoa.admin.presentation;
 
 import com.techmoa.admin.presentation.dto.CreateSourceRequest;
-import com.techmoa.admin.presentation.dto.ManualSyncResponse;
+import com.techmoa.admin.presentation.dto.SyncJobResponse;
 import com.techmoa.ingestion.application.SourceSyncService;
-import com.techmoa.ingestion.application.SyncResult;
+import com.techmoa.ingestion.application.SyncLeaseUnavailableException;
 import com.techmoa.ingestion.parser.ParserType;
 import com.techmoa.source.application.SourceService;
 import com.techmoa.source.presentation.dto.SourceResponse;
 import jakarta.validation.Valid;
-import java.util.NoSuchElementException;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
@@ -16,6 +15,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.server.ResponseStatusException;
 
 @RestController
@@ -39,47 +39,33 @@ public class AdminSourceController {
                         request.feedUrl(),
                         parseParserType(request.parserType()),
                         request.intervalMin(),
+                        request.minIntervalMin(),
+                        request.maxIntervalMin(),
                         request.active()
                 )
         );
     }
 
     @PostMapping("/{id}/sync")
-    public ManualSyncResponse syncSource(@PathVariable("id") Long sourceId) {
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public SyncJobResponse syncSource(@PathVariable("id") Long sourceId) {
         try {
-            SyncResult result = sourceSyncService.syncSourceById(sourceId);
-            return new ManualSyncResponse(
-                    sourceId,
-                    result.sourceName(),
-                    result.parsedCount(),
-                    result.savedCount(),
-                    "COMPLETED"
-            );
-        } catch (NoSuchElementException e) {
-            throw new ResponseStatusException(HttpStatus.NOT_FOUND, e.getMessage());
-        } catch (Exception e) {
-            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "Sync failed");
+            return SyncJobResponse.from(sourceSyncService.enqueueSync(sourceId));
+        } catch (SyncLeaseUnavailableException e) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, e.getMessage());
         }
     }
 
     @PostMapping("/{id}/backfill")
-    public ManualSyncResponse backfillSource(
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public SyncJobResponse backfillSource(
             @PathVariable("id") Long sourceId,
             @RequestParam(value = "sitemapUrl", required = false) String sitemapUrl
     ) {
         try {
-            SyncResult result = sourceSyncService.backfillSourceById(sourceId, sitemapUrl);
-            return new ManualSyncResponse(
-                    sourceId,
-                    result.sourceName(),
-                    result.parsedCount(),
-                    result.savedCount(),
-                    "COMPLETED"
-            );
-        } catch (NoSuchElementException e) {
-            throw new ResponseStatusException(HttpStatus.NOT_FOUND, e.getMessage());
-        } catch (Exception e) {
-            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "Backfill failed");
+            return SyncJobResponse.from(sourceSyncService.enqueueBackfill(sourceId, sitemapUrl));
+        } catch (SyncLeaseUnavailableException e) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, e.getMessage());
         }
     }
 
@@ -0,0 +1,36 @@
+package com.techmoa.admin.presentation;
+
+import com.techmoa.admin.presentation.dto.SyncJobResponse;
+import com.techmoa.ingestion.application.SyncJobService;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+@RestController
+@RequestMapping("/api/admin/sync-jobs")
+public class AdminSyncJobController {
+
+    private final SyncJobService syncJobService;
+
+    public AdminSyncJobController(SyncJobService syncJobService) {
+        this.syncJobService = syncJobService;
+    }
+
+    @GetMapping("/{id}")
+    public SyncJobResponse getSyncJob(@PathVariable("id") Long syncJobId) {
+        return SyncJobResponse.from(syncJobService.getJob(syncJobId));
+    }
+
+    @PostMapping("/{id}/cancel")
+    public SyncJobResponse cancelSyncJob(@PathVariable("id") Long syncJobId) {
+        try {
+            return SyncJobResponse.from(syncJobService.requestCancel(syncJobId));
+        } catch (IllegalStateException e) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, e.getMessage());
+        }
+    }
+}
@@ -11,6 +11,8 @@ public record CreateSourceRequest(
         String feedUrl,
         @NotBlank String parserType,
         @NotNull @Min(1) @Max(1440) Integer intervalMin,
+        @Min(1) @Max(1440) Integer minIntervalMin,
+        @Min(1) @Max(1440) Integer maxIntervalMin,
         @NotNull Boolean active
 ) {
 }
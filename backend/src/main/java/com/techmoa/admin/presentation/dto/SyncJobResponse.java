@@ -0,0 +1,40 @@
+package com.techmoa.admin.presentation.dto;
+
+import com.techmoa.ingestion.domain.SyncJob;
+import java.time.LocalDateTime;
+
+public record SyncJobResponse(
+        Long jobId,
+        Long sourceId,
+        String sourceName,
+        String status,
+        Integer discoveredCount,
+        Integer fetchedCount,
+        Integer savedCount,
+        Integer newPostCount,
+        Integer unchangedCount,
+        Integer failureCount,
+        Boolean cancelRequested,
+        LocalDateTime startedAt,
+        LocalDateTime endedAt,
+        String errorMessage
+) {
+    public static SyncJobResponse from(SyncJob syncJob) {
+        return new SyncJobResponse(
+                syncJob.getId(),
+                syncJob.getSource().getId(),
+                syncJob.getSource().getName(),
+                syncJob.getStatus().name(),
+                syncJob.getDiscoveredCount(),
+                syncJob.getFetchedCount(),
+                syncJob.getSuccessCount(),
+                syncJob.getNewPostCount(),
+                syncJob.getUnchangedCount(),
+                syncJob.getFailureCount(),
+                syncJob.getCancelRequested(),
+                syncJob.getStartedAt(),
+                syncJob.getEndedAt(),
+                syncJob.getErrorMessage()
+        );
+    }
+}
@@ -0,0 +1,72 @@
+package com.techmoa.common.config;
+
+import com.techmoa.common.jdbc.ReplicaHealthMonitor;
+import com.techmoa.common.jdbc.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import java.time.Duration;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.flyway.FlywayDataSource;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+// techmoa.datasource.replica.jdbc-url이 있을 때만 켜진다. 없으면 Spring Boot 기본 DataSource 하나만 쓴다.
+@Configuration
+@ConditionalOnProperty(prefix = "techmoa.datasource.replica", name = "jdbc-url")
+public class ReplicaDataSourceConfig {
+
+    private static final int HEALTH_CHECK_TIMEOUT_SECONDS = 2;
+
+    @Bean
+    @FlywayDataSource
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    @ConfigurationProperties("techmoa.datasource.replica")
+    public HikariDataSource replicaDataSource() {
+        HikariDataSource replica = new HikariDataSource();
+        replica.setPoolName("replica");
+        replica.setReadOnly(true);
+        return replica;
+    }
+
+    @Bean
+    public ReplicaHealthMonitor replicaHealthMonitor(
+            @Qualifier("replicaDataSource") DataSource replicaDataSource,
+            @Value("${techmoa.datasource.replica.max-lag-ms:10000}") long maxLagMs,
+            @Value("${techmoa.datasource.replica.health-check-interval-ms:5000}") long healthCheckIntervalMs
+    ) {
+        JdbcTemplate replicaJdbcTemplate = new JdbcTemplate(replicaDataSource);
+        replicaJdbcTemplate.setQueryTimeout(HEALTH_CHECK_TIMEOUT_SECONDS);
+        return new ReplicaHealthMonitor(
+                replicaJdbcTemplate,
+                Duration.ofMillis(maxLagMs),
+                Duration.ofMillis(healthCheckIntervalMs)
+        );
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(
+            @Qualifier("primaryDataSource") DataSource primaryDataSource,
+            @Qualifier("replicaDataSource") DataSource replicaDataSource,
+            ReplicaHealthMonitor replicaHealthMonitor
+    ) {
+        // 읽기 전용 여부는 트랜잭션이 시작된 뒤에야 정해지므로 실제 커넥션은 첫 쿼리 때 고르도록 지연시킨다.
+        return new LazyConnectionDataSourceProxy(new ReplicaRoutingDataSource(
+                primaryDataSource,
+                replicaDataSource,
+                replicaHealthMonitor::isAvailable
+        ));
+    }
+}
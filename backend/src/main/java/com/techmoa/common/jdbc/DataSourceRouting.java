@@ -0,0 +1,33 @@
+package com.techmoa.common.jdbc;
+
+import java.util.function.Supplier;
+
+public final class DataSourceRouting {
+
+    private static final ThreadLocal<Boolean> PRIMARY_PINNED = ThreadLocal.withInitial(() -> false);
+
+    private DataSourceRouting() {
+    }
+
+    // 수집처럼 방금 쓴 데이터를 곧바로 다시 읽어야 하는 작업은 읽기 전용 트랜잭션이라도 primary에서 읽게 고정한다.
+    public static void runOnPrimary(Runnable work) {
+        callOnPrimary(() -> {
+            work.run();
+            return null;
+        });
+    }
+
+    public static <T> T callOnPrimary(Supplier<T> work) {
+        boolean previous = PRIMARY_PINNED.get();
+        PRIMARY_PINNED.set(true);
+        try {
+            return work.get();
+        } finally {
+            PRIMARY_PINNED.set(previous);
+        }
+    }
+
+    static boolean isPrimaryPinned() {
+        return PRIMARY_PINNED.get();
+    }
+}
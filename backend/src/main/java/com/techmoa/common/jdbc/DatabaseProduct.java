@@ -0,0 +1,17 @@
+package com.techmoa.common.jdbc;
+
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+public final class DatabaseProduct {
+
+    private DatabaseProduct() {
+    }
+
+    // unnest·ON CONFLICT 같은 PostgreSQL 전용 구문을 쓸 수 있는지 판단한다. 테스트의 H2에서는 JPA 경로로 돌아간다.
+    public static boolean isPostgres(JdbcTemplate jdbcTemplate) {
+        return Boolean.TRUE.equals(jdbcTemplate.execute((ConnectionCallback<Boolean>) connection ->
+                "PostgreSQL".equalsIgnoreCase(connection.getMetaData().getDatabaseProductName())
+        ));
+    }
+}
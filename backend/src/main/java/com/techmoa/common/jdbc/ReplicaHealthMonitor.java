@@ -0,0 +1,78 @@
+package com.techmoa.common.jdbc;
+
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+public class ReplicaHealthMonitor {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaHealthMonitor.class);
+
+    // 복제 중이 아닌 독립 DB(로컬 검증용)는 지연 0으로 본다. 받은 WAL을 모두 재생했다면 primary가 조용한 것이므로 역시 0이다.
+    private static final String REPLICATION_LAG_SQL = """
+            SELECT CASE
+                WHEN NOT pg_is_in_recovery() THEN 0
+                WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0)
+            END
+            """;
+
+    private final JdbcTemplate replicaJdbcTemplate;
+    private final Duration maxLag;
+    private final Duration checkInterval;
+    // 공용 스케줄러 스레드는 재시도, 검색 색인 따라잡기와 함께 쓰므로 점검이 그 뒤에 밀리지 않게 따로 돈다.
+    private final ScheduledExecutorService checker = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("replica-health-check").daemon(true).factory()
+    );
+    private volatile boolean available;
+
+    public ReplicaHealthMonitor(JdbcTemplate replicaJdbcTemplate, Duration maxLag, Duration checkInterval) {
+        this.replicaJdbcTemplate = replicaJdbcTemplate;
+        this.maxLag = maxLag;
+        this.checkInterval = checkInterval;
+    }
+
+    public boolean isAvailable() {
+        return available;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        checker.scheduleWithFixedDelay(this::check, 0, checkInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        checker.shutdownNow();
+    }
+
+    void check() {
+        boolean healthy;
+        String reason;
+        try {
+            Double lagSeconds = replicaJdbcTemplate.queryForObject(REPLICATION_LAG_SQL, Double.class);
+            double lag = lagSeconds == null ? 0 : lagSeconds;
+            healthy = lag * 1000 <= maxLag.toMillis();
+            reason = "lagSeconds=" + lag;
+        } catch (Exception e) {
+            healthy = false;
+            reason = e.getMessage();
+        }
+
+        if (healthy != available) {
+            if (healthy) {
+                log.info("Read replica available. {}", reason);
+            } else {
+                log.warn("Read replica unavailable, routing reads to primary. {}", reason);
+            }
+        }
+        available = healthy;
+    }
+}
@@ -0,0 +1,127 @@
+package com.techmoa.ingestion.application;
+
+import com.techmoa.ingestion.domain.SyncJob;
+import com.techmoa.ingestion.domain.SyncJobRepository;
+import com.techmoa.ingestion.domain.SyncJobStatus;
+import com.techmoa.post.domain.PostRepository;
+import com.techmoa.source.domain.Source;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+@Component
+public class AdaptiveIntervalPolicy {
+
+    private static final int RECENT_POST_COUNT = 20;
+    private static final int MIN_PUBLISH_GAPS = 2;
+    private static final int POLLS_PER_PUBLISH_GAP = 4;
+    private static final int BURST_NEW_POST_COUNT = 3;
+    private static final double IDLE_BACKOFF_FACTOR = 1.5;
+    private static final int MAX_IDLE_STEPS = 6;
+    private static final int MAX_FAILURE_STEPS = 4;
+
+    private final PostRepository postRepository;
+    private final SyncJobRepository syncJobRepository;
+    private final boolean enabled;
+    private final int defaultMinIntervalMin;
+    private final int defaultMaxIntervalMin;
+
+    public AdaptiveIntervalPolicy(
+            PostRepository postRepository,
+            SyncJobRepository syncJobRepository,
+            @Value("${techmoa.sync.adaptive.enabled:true}") boolean enabled,
+            @Value("${techmoa.sync.adaptive.min-interval-min:10}") int defaultMinIntervalMin,
+            @Value("${techmoa.sync.adaptive.max-interval-min:1440}") int defaultMaxIntervalMin
+    ) {
+        this.postRepository = postRepository;
+        this.syncJobRepository = syncJobRepository;
+        this.enabled = enabled;
+        this.defaultMinIntervalMin = defaultMinIntervalMin;
+        this.defaultMaxIntervalMin = defaultMaxIntervalMin;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public int computeIntervalMin(Source source) {
+        int floor = resolveFloor(source);
+        int ceiling = Math.max(floor, resolveCeiling(source));
+
+        List<SyncJob> recentJobs = syncJobRepository.findTop10BySource_IdOrderByStartedAtDesc(source.getId());
+        double intervalMin = cadenceIntervalMin(source);
+
+        // 직전 수집에서 새 글이 몰려 들어왔다면 발행 주기보다 촘촘하게 당긴다.
+        if (!recentJobs.isEmpty() && recentJobs.get(0).getNewPostCount() >= BURST_NEW_POST_COUNT) {
+            intervalMin /= 2;
+        }
+
+        // 새 글 없는 수집이 이어질수록, 실패가 이어질수록 지수적으로 물러선다.
+        intervalMin *= Math.pow(IDLE_BACKOFF_FACTOR, Math.min(idleStreak(recentJobs), MAX_IDLE_STEPS));
+        intervalMin *= Math.pow(2, Math.min(failureStreak(recentJobs), MAX_FAILURE_STEPS));
+
+        long rounded = Math.round(intervalMin);
+        return (int) Math.max(floor, Math.min(ceiling, rounded));
+    }
+
+    private double cadenceIntervalMin(Source source) {
+        List<LocalDateTime> publishedAts = postRepository.findRecentPublishedAtBySourceId(
+                source.getId(),
+                PageRequest.of(0, RECENT_POST_COUNT)
+        );
+
+        List<Long> gapsMin = new ArrayList<>();
+        for (int i = 0; i + 1 < publishedAts.size(); i++) {
+            long gap = Duration.between(publishedAts.get(i + 1), publishedAts.get(i)).toMinutes();
+            if (gap > 0) {
+                gapsMin.add(gap);
+            }
+        }
+        if (gapsMin.size() < MIN_PUBLISH_GAPS) {
+            return source.getIntervalMin() == null ? defaultMinIntervalMin : source.getIntervalMin();
+        }
+
+        Collections.sort(gapsMin);
+        long medianGapMin = gapsMin.get(gapsMin.size() / 2);
+        return (double) medianGapMin / POLLS_PER_PUBLISH_GAP;
+    }
+
+    private int idleStreak(List<SyncJob> recentJobs) {
+        int streak = 0;
+        for (SyncJob job : recentJobs) {
+            boolean idle = job.getStatus() == SyncJobStatus.NOT_MODIFIED
+                    || (job.getStatus() == SyncJobStatus.COMPLETED && job.getNewPostCount() == 0);
+            if (!idle) {
+                break;
+            }
+            streak++;
+        }
+        return streak;
+    }
+
+    private int failureStreak(List<SyncJob> recentJobs) {
+        int streak = 0;
+        for (SyncJob job : recentJobs) {
+            if (job.getStatus() != SyncJobStatus.FAILED) {
+                break;
+            }
+            streak++;
+        }
+        return streak;
+    }
+
+    private int resolveFloor(Source source) {
+        Integer minIntervalMin = source.getMinIntervalMin();
+        return minIntervalMin == null || minIntervalMin <= 0 ? defaultMinIntervalMin : minIntervalMin;
+    }
+
+    private int resolveCeiling(Source source) {
+        Integer maxIntervalMin = source.getMaxIntervalMin();
+        return maxIntervalMin == null || maxIntervalMin <= 0 ? defaultMaxIntervalMin : maxIntervalMin;
+    }
+}
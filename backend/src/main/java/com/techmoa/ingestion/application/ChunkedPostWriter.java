@@ -0,0 +1,67 @@
+package com.techmoa.ingestion.application;
+
+import com.techmoa.ingestion.parser.ParsedPost;
+import com.techmoa.post.application.PostUpsertService;
+import com.techmoa.post.application.UpsertResult;
+import com.techmoa.source.domain.Source;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+class ChunkedPostWriter implements Consumer<ParsedPost> {
+
+    private final PostUpsertService postUpsertService;
+    private final Source source;
+    private final int chunkSize;
+    private final List<ParsedPost> buffer;
+    private final Consumer<UpsertResult> onChunkCommitted;
+    private UpsertResult total = UpsertResult.empty();
+    private int receivedCount;
+
+    ChunkedPostWriter(PostUpsertService postUpsertService, Source source, int chunkSize) {
+        this(postUpsertService, source, chunkSize, total -> {
+        });
+    }
+
+    // onChunkCommitted는 청크가 커밋될 때마다 지금까지의 누적 집계를 받는다.
+    ChunkedPostWriter(
+            PostUpsertService postUpsertService,
+            Source source,
+            int chunkSize,
+            Consumer<UpsertResult> onChunkCommitted
+    ) {
+        this.postUpsertService = postUpsertService;
+        this.source = source;
+        this.chunkSize = Math.max(1, chunkSize);
+        this.buffer = new ArrayList<>(this.chunkSize);
+        this.onChunkCommitted = onChunkCommitted;
+    }
+
+    @Override
+    public void accept(ParsedPost parsedPost) {
+        receivedCount++;
+        buffer.add(parsedPost);
+        if (buffer.size() >= chunkSize) {
+            flush();
+        }
+    }
+
+    void flush() {
+        if (buffer.isEmpty()) {
+            return;
+        }
+        // 청크마다 upsert 트랜잭션이 따로 커밋되므로, 뒤에서 실패해도 앞서 저장한 글과 집계는 남는다.
+        List<ParsedPost> chunk = List.copyOf(buffer);
+        buffer.clear();
+        total = total.plus(postUpsertService.upsert(source, chunk));
+        onChunkCommitted.accept(total);
+    }
+
+    UpsertResult total() {
+        return total;
+    }
+
+    int receivedCount() {
+        return receivedCount;
+    }
+}
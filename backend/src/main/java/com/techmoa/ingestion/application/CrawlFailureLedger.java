@@ -0,0 +1,109 @@
+package com.techmoa.ingestion.application;
+
+import com.techmoa.ingestion.domain.CrawlFailure;
+import com.techmoa.ingestion.domain.CrawlFailureRepository;
+import com.techmoa.ingestion.parser.FetchFailure;
+import com.techmoa.source.domain.Source;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+public class CrawlFailureLedger {
+
+    private static final int URL_BATCH_SIZE = 500;
+    private static final int MAX_BACKOFF_SHIFT = 20;
+
+    private final CrawlFailureRepository crawlFailureRepository;
+    private final long baseDelayMs;
+    private final long maxDelayMs;
+    private final int maxAttempts;
+    private final long claimDurationMs;
+
+    public CrawlFailureLedger(
+            CrawlFailureRepository crawlFailureRepository,
+            @Value("${techmoa.crawler.retry.base-delay-ms:600000}") long baseDelayMs,
+            @Value("${techmoa.crawler.retry.max-delay-ms:86400000}") long maxDelayMs,
+            @Value("${techmoa.crawler.retry.max-attempts:8}") int maxAttempts,
+            @Value("${techmoa.crawler.retry.claim-duration-ms:1800000}") long claimDurationMs
+    ) {
+        this.crawlFailureRepository = crawlFailureRepository;
+        this.baseDelayMs = Math.max(1, baseDelayMs);
+        this.maxDelayMs = Math.max(this.baseDelayMs, maxDelayMs);
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.claimDurationMs = claimDurationMs;
+    }
+
+    @Transactional
+    public void record(Source source, Collection<FetchFailure> failures) {
+        if (failures.isEmpty()) {
+            return;
+        }
+
+        Map<String, FetchFailure> failuresByUrl = new LinkedHashMap<>();
+        failures.forEach(failure -> failuresByUrl.put(failure.url(), failure));
+        List<String> urls = List.copyOf(failuresByUrl.keySet());
+        Map<String, CrawlFailure> existing = new HashMap<>();
+        for (int from = 0; from < urls.size(); from += URL_BATCH_SIZE) {
+            List<String> batch = urls.subList(from, Math.min(from + URL_BATCH_SIZE, urls.size()));
+            crawlFailureRepository.findBySource_IdAndUrlIn(source.getId(), batch)
+                    .forEach(entry -> existing.put(entry.getUrl(), entry));
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<CrawlFailure> created = new ArrayList<>();
+        failuresByUrl.forEach((url, failure) -> {
+            CrawlFailure entry = existing.get(url);
+            if (entry == null) {
+                entry = new CrawlFailure(source, url);
+                created.add(entry);
+            }
+            entry.recordAttempt(failure.errorClass(), failure.message(), now);
+            entry.scheduleRetry(nextRetryAt(entry.getAttemptCount(), now));
+        });
+        crawlFailureRepository.saveAll(created);
+    }
+
+    @Transactional
+    public void resolve(Long sourceId, Collection<String> urls) {
+        List<String> values = List.copyOf(urls);
+        for (int from = 0; from < values.size(); from += URL_BATCH_SIZE) {
+            crawlFailureRepository.deleteBySourceIdAndUrls(
+                    sourceId,
+                    values.subList(from, Math.min(from + URL_BATCH_SIZE, values.size()))
+            );
+        }
+    }
+
+    public List<CrawlFailure> claimDue(int limit) {
+        // 여러 워커가 같은 글을 동시에 다시 받지 않도록 한 건씩 조건부 UPDATE로 선점한다.
+        // 선점한 워커가 죽으면 선점 시간이 지난 뒤 다른 워커가 다시 가져간다.
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime claimUntil = now.plusNanos(claimDurationMs * 1_000_000L);
+        List<CrawlFailure> claimed = new ArrayList<>();
+        for (CrawlFailure entry : crawlFailureRepository.findDue(now, PageRequest.of(0, limit))) {
+            if (crawlFailureRepository.claim(entry.getId(), now, claimUntil) == 1) {
+                claimed.add(entry);
+            }
+        }
+        return claimed;
+    }
+
+    LocalDateTime nextRetryAt(int attemptCount, LocalDateTime from) {
+        if (attemptCount >= maxAttempts) {
+            // 더는 자동으로 다시 받지 않고 원인 확인용 기록만 남긴다.
+            return null;
+        }
+        int shift = Math.min(Math.max(0, attemptCount - 1), MAX_BACKOFF_SHIFT);
+        long delayMs = Math.min(maxDelayMs, baseDelayMs << shift);
+        return from.plusNanos(delayMs * 1_000_000L);
+    }
+}
@@ -0,0 +1,150 @@
+package com.techmoa.ingestion.application;
+
+import com.techmoa.common.jdbc.DataSourceRouting;
+import com.techmoa.ingestion.domain.CrawlFailure;
+import com.techmoa.ingestion.parser.FetchContext;
+import com.techmoa.ingestion.parser.FetchFailure;
+import com.techmoa.ingestion.parser.ParserType;
+import com.techmoa.ingestion.parser.SourceProfile;
+import com.techmoa.ingestion.parser.sitemap.SitemapTechBlogParser;
+import com.techmoa.post.application.PostUpsertService;
+import com.techmoa.source.domain.Source;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+public class CrawlFailureRetrier {
+
+    private static final Logger log = LoggerFactory.getLogger(CrawlFailureRetrier.class);
+
+    private final CrawlFailureLedger crawlFailureLedger;
+    private final SitemapTechBlogParser sitemapTechBlogParser;
+    private final PostUpsertService postUpsertService;
+    private final SourceSyncExecutor sourceSyncExecutor;
+    private final SyncLeaseService syncLeaseService;
+    private final boolean enabled;
+    private final int batchSize;
+    private final int upsertChunkSize;
+
+    public CrawlFailureRetrier(
+            CrawlFailureLedger crawlFailureLedger,
+            SitemapTechBlogParser sitemapTechBlogParser,
+            PostUpsertService postUpsertService,
+            SourceSyncExecutor sourceSyncExecutor,
+            SyncLeaseService syncLeaseService,
+            @Value("${techmoa.crawler.retry.enabled:true}") boolean enabled,
+            @Value("${techmoa.crawler.retry.batch-size:100}") int batchSize,
+            @Value("${techmoa.sync.upsert-chunk-size:200}") int upsertChunkSize
+    ) {
+        this.crawlFailureLedger = crawlFailureLedger;
+        this.sitemapTechBlogParser = sitemapTechBlogParser;
+        this.postUpsertService = postUpsertService;
+        this.sourceSyncExecutor = sourceSyncExecutor;
+        this.syncLeaseService = syncLeaseService;
+        this.enabled = enabled;
+        this.batchSize = Math.max(1, batchSize);
+        this.upsertChunkSize = upsertChunkSize;
+    }
+
+    @Scheduled(
+            initialDelayString = "${techmoa.crawler.retry.interval-ms:300000}",
+            fixedDelayString = "${techmoa.crawler.retry.interval-ms:300000}"
+    )
+    public void retryDue() {
+        if (!enabled) {
+            return;
+        }
+        Map<Long, List<CrawlFailure>> failuresBySource = new LinkedHashMap<>();
+        for (CrawlFailure failure : crawlFailureLedger.claimDue(batchSize)) {
+            failuresBySource.computeIfAbsent(failure.getSource().getId(), ignored -> new ArrayList<>()).add(failure);
+        }
+        // 스케줄러 스레드는 넘겨주기만 한다. 재시도도 정기 수집과 같은 호스트/전역 슬롯 안에서 돈다.
+        failuresBySource.values().forEach(failures -> {
+            Source source = failures.getFirst().getSource();
+            sourceSyncExecutor.submit(source, () -> retryUnderLease(source, failures));
+        });
+    }
+
+    private void retryUnderLease(Source source, List<CrawlFailure> failures) {
+        // 같은 소스의 정기 수집과 겹치지 않도록 리스를 잡는다. 못 잡으면 선점 시간이 지난 뒤 다음 주기에 다시 잡힌다.
+        if (!syncLeaseService.tryAcquireKeepingSchedule(source)) {
+            log.debug("Crawl failure retry deferred, source is syncing. sourceName={}", source.getName());
+            return;
+        }
+        try {
+            // 방금 저장한 글을 바로 다시 읽으므로 복제 지연이 있는 replica 대신 primary에서 읽는다.
+            DataSourceRouting.runOnPrimary(() -> retry(source, failures));
+        } catch (Exception e) {
+            log.warn("Crawl failure retry failed. sourceName={}, message={}", source.getName(), e.getMessage());
+        } finally {
+            // 제한 시간으로 인터럽트됐어도 리스 반납 쿼리는 끝까지 보낸다.
+            boolean interrupted = Thread.interrupted();
+            try {
+                syncLeaseService.release(source);
+            } finally {
+                if (interrupted) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+    }
+
+    void retry(Source source, List<CrawlFailure> failures) {
+        List<String> urls = failures.stream().map(CrawlFailure::getUrl).toList();
+        Map<String, LocalDateTime> fetchedAt = postUpsertService.findFetchedAt(source, urls);
+
+        // 실패 이후 정기 수집이 이미 그 글을 받아 갔다면 다시 요청하지 않고 원장에서만 지운다.
+        List<String> recovered = new ArrayList<>();
+        List<String> pending = new ArrayList<>();
+        for (CrawlFailure failure : failures) {
+            LocalDateTime postFetchedAt = fetchedAt.get(failure.getUrl());
+            if (postFetchedAt != null && postFetchedAt.isAfter(failure.getLastFailedAt())) {
+                recovered.add(failure.getUrl());
+            } else {
+                pending.add(failure.getUrl());
+            }
+        }
+
+        FetchContext context = new FetchContext();
+        if (!pending.isEmpty()) {
+            ChunkedPostWriter writer = new ChunkedPostWriter(postUpsertService, source, upsertChunkSize);
+            sitemapTechBlogParser.refetchPosts(profile(source), pending, context, writer);
+            writer.flush();
+
+            Set<String> stillFailing = context.getFailures().stream()
+                    .map(FetchFailure::url)
+                    .collect(Collectors.toSet());
+            pending.stream().filter(url -> !stillFailing.contains(url)).forEach(recovered::add);
+            crawlFailureLedger.record(source, context.getFailures());
+        }
+        crawlFailureLedger.resolve(source.getId(), recovered);
+
+        log.info(
+                "Crawl failures retried. sourceName={}, retriedCount={}, recoveredCount={}, failedCount={}",
+                source.getName(),
+                failures.size(),
+                recovered.size(),
+                context.getFailureCount()
+        );
+    }
+
+    private SourceProfile profile(Source source) {
+        return new SourceProfile(
+                source.getId(),
+                source.getName(),
+                source.getBaseUrl(),
+                source.getFeedUrl(),
+                ParserType.SITEMAP
+        );
+    }
+}
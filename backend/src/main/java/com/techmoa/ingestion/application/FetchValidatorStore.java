@@ -0,0 +1,83 @@
+package com.techmoa.ingestion.application;
+
+import com.techmoa.ingestion.domain.FetchValidator;
+import com.techmoa.ingestion.domain.FetchValidatorRepository;
+import com.techmoa.ingestion.parser.HttpValidator;
+import com.techmoa.source.domain.Source;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+public class FetchValidatorStore {
+
+    private static final int MAX_ETAG_LENGTH = 500;
+    private static final int MAX_LAST_MODIFIED_LENGTH = 100;
+
+    private final FetchValidatorRepository fetchValidatorRepository;
+
+    public FetchValidatorStore(FetchValidatorRepository fetchValidatorRepository) {
+        this.fetchValidatorRepository = fetchValidatorRepository;
+    }
+
+    @Transactional(readOnly = true)
+    public Map<String, HttpValidator> load(Long sourceId) {
+        Map<String, HttpValidator> validators = new HashMap<>();
+        for (FetchValidator fetchValidator : fetchValidatorRepository.findBySource_Id(sourceId)) {
+            validators.put(
+                    fetchValidator.getUrl(),
+                    new HttpValidator(fetchValidator.getEtag(), fetchValidator.getLastModified())
+            );
+        }
+        return validators;
+    }
+
+    @Transactional(readOnly = true)
+    public Map<String, LocalDateTime> loadSitemapLastmods(Long sourceId) {
+        Map<String, LocalDateTime> sitemapLastmods = new HashMap<>();
+        for (FetchValidator fetchValidator : fetchValidatorRepository.findBySource_Id(sourceId)) {
+            if (fetchValidator.getSitemapLastmod() != null) {
+                sitemapLastmods.put(fetchValidator.getUrl(), fetchValidator.getSitemapLastmod());
+            }
+        }
+        return sitemapLastmods;
+    }
+
+    @Transactional
+    public void save(
+            Source source,
+            Map<String, HttpValidator> validators,
+            Map<String, LocalDateTime> sitemapLastmods
+    ) {
+        if (validators.isEmpty() && sitemapLastmods.isEmpty()) {
+            return;
+        }
+
+        Map<String, FetchValidator> existing = fetchValidatorRepository.findBySource_Id(source.getId()).stream()
+                .collect(Collectors.toMap(FetchValidator::getUrl, Function.identity(), (left, right) -> left));
+        Map<String, FetchValidator> created = new HashMap<>();
+        Function<String, FetchValidator> resolve = url -> existing.containsKey(url)
+                ? existing.get(url)
+                : created.computeIfAbsent(url, ignored -> new FetchValidator(source, url));
+
+        validators.forEach((url, validator) -> {
+            // 규격을 넘는 검증자는 저장하지 않는다. 잘라서 보내면 서버가 다른 값으로 보고 매번 200을 준다.
+            String etag = fitOrNull(validator.etag(), MAX_ETAG_LENGTH);
+            String lastModified = fitOrNull(validator.lastModified(), MAX_LAST_MODIFIED_LENGTH);
+            resolve.apply(url).update(etag, lastModified);
+        });
+        sitemapLastmods.forEach((url, sitemapLastmod) -> resolve.apply(url).updateSitemapLastmod(sitemapLastmod));
+        fetchValidatorRepository.saveAll(created.values());
+    }
+
+    private String fitOrNull(String value, int maxLength) {
+        if (value == null || value.length() > maxLength) {
+            return null;
+        }
+        return value;
+    }
+}
@@ -0,0 +1,149 @@
+package com.techmoa.ingestion.application;
+
+import com.techmoa.source.domain.Source;
+import java.net.URI;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class SourceSyncExecutor implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(SourceSyncExecutor.class);
+
+    private static final String UNKNOWN_HOST = "unknown";
+
+    private final ExecutorService executor;
+    private final ScheduledExecutorService watchdog;
+    private final Semaphore globalPermits;
+    private final ConcurrentHashMap<String, Semaphore> hostPermits = new ConcurrentHashMap<>();
+    private final int maxConcurrencyPerHost;
+    private final long sourceTimeoutMs;
+    private final long backfillTimeoutMs;
+
+    public SourceSyncExecutor(
+            @Value("${techmoa.sync.max-concurrency:8}") int maxConcurrency,
+            @Value("${techmoa.sync.max-concurrency-per-host:2}") int maxConcurrencyPerHost,
+            @Value("${techmoa.sync.source-timeout-ms:300000}") long sourceTimeoutMs,
+            @Value("${techmoa.sync.backfill-timeout-ms:3600000}") long backfillTimeoutMs
+    ) {
+        if (maxConcurrency < 1 || maxConcurrencyPerHost < 1) {
+            throw new IllegalArgumentException("Sync concurrency limits must be positive");
+        }
+        this.executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("source-sync-", 0).factory());
+        this.watchdog = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("source-sync-watchdog").daemon(true).factory()
+        );
+        this.globalPermits = new Semaphore(maxConcurrency, true);
+        this.maxConcurrencyPerHost = maxConcurrencyPerHost;
+        this.sourceTimeoutMs = sourceTimeoutMs;
+        this.backfillTimeoutMs = backfillTimeoutMs;
+    }
+
+    public CompletableFuture<Void> submit(Source source, Runnable task) {
+        return submit(source, task, sourceTimeoutMs);
+    }
+
+    public CompletableFuture<Void> submitBackfill(Source source, Runnable task) {
+        // 사이트맵 전체를 훑는 백필은 일반 수집보다 훨씬 오래 걸리므로 별도 제한 시간을 쓴다.
+        return submit(source, task, backfillTimeoutMs);
+    }
+
+    private CompletableFuture<Void> submit(Source source, Runnable task, long timeoutMs) {
+        String host = resolveHost(source);
+        CompletableFuture<Void> completion = new CompletableFuture<>();
+        executor.submit(() -> {
+            try {
+                runWithinBulkhead(host, () -> runWithDeadline(source, host, task, timeoutMs, completion));
+                completion.complete(null);
+            } catch (Throwable e) {
+                completion.completeExceptionally(e);
+            }
+        });
+        return completion;
+    }
+
+    private void runWithinBulkhead(String host, Runnable task) throws InterruptedException {
+        // 호스트 슬롯을 먼저 잡아야 느린 호스트를 기다리는 작업이 전역 슬롯을 점유하지 않는다.
+        Semaphore hostPermit = hostPermits.computeIfAbsent(host, ignored -> new Semaphore(maxConcurrencyPerHost, true));
+        hostPermit.acquire();
+        try {
+            globalPermits.acquire();
+            try {
+                task.run();
+            } finally {
+                globalPermits.release();
+            }
+        } finally {
+            hostPermit.release();
+        }
+    }
+
+    // 제한 시간은 두 슬롯을 모두 잡은 뒤부터 잰다. 몰려든 수집이 줄을 서는 동안 시간이 다 돼 실행도 못 하고 실패로 남지 않게 한다.
+    private void runWithDeadline(
+            Source source,
+            String host,
+            Runnable task,
+            long timeoutMs,
+            CompletableFuture<Void> completion
+    ) {
+        if (timeoutMs <= 0) {
+            task.run();
+            return;
+        }
+        Thread worker = Thread.currentThread();
+        ScheduledFuture<?> deadline = watchdog.schedule(() -> {
+            if (completion.isDone()) {
+                return;
+            }
+            log.warn(
+                    "Source sync timed out, interrupting. sourceName={}, host={}, timeoutMs={}",
+                    source.getName(),
+                    host,
+                    timeoutMs
+            );
+            completion.completeExceptionally(new TimeoutException(
+                    "Source sync timed out after " + timeoutMs + "ms. sourceName=" + source.getName()
+            ));
+            worker.interrupt();
+        }, timeoutMs, TimeUnit.MILLISECONDS);
+        try {
+            task.run();
+        } finally {
+            deadline.cancel(false);
+        }
+    }
+
+    private String resolveHost(Source source) {
+        String url = source.getFeedUrl() == null || source.getFeedUrl().isBlank()
+                ? source.getBaseUrl()
+                : source.getFeedUrl();
+        if (url == null) {
+            return UNKNOWN_HOST;
+        }
+        try {
+            String host = URI.create(url.trim()).getHost();
+            return host == null ? UNKNOWN_HOST : host.toLowerCase(Locale.ROOT);
+        } catch (Exception e) {
+            return UNKNOWN_HOST;
+        }
+    }
+
+    @Override
+    public void destroy() {
+        watchdog.shutdownNow();
+        executor.shutdownNow();
+    }
+}
@@ -1,13 +1,16 @@
 package com.techmoa.ingestion.application;
 
-import com.techmoa.ingestion.parser.ParsedPost;
+import com.techmoa.common.jdbc.DataSourceRouting;
 import com.techmoa.ingestion.parser.ParserType;
 import com.techmoa.ingestion.parser.SourceProfile;
 import com.techmoa.ingestion.parser.TechBlogParser;
 import com.techmoa.ingestion.domain.SyncJob;
 import com.techmoa.ingestion.domain.SyncJobRepository;
+import com.techmoa.ingestion.domain.SyncJobStatus;
+import com.techmoa.ingestion.parser.FetchContext;
 import com.techmoa.ingestion.parser.sitemap.SitemapTechBlogParser;
 import com.techmoa.post.application.PostUpsertService;
+import com.techmoa.post.application.UpsertResult;
 import com.techmoa.source.domain.Source;
 import com.techmoa.source.domain.SourceRepository;
 import java.time.LocalDateTime;
@@ -15,8 +18,12 @@ import java.util.List;
 import java.util.Locale;
 import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiConsumer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -29,71 +36,147 @@ public class SourceSyncService {
     private final PostUpsertService postUpsertService;
     private final List<TechBlogParser> parsers;
     private final SitemapTechBlogParser sitemapTechBlogParser;
+    private final SourceSyncExecutor sourceSyncExecutor;
+    private final SyncSchedulePolicy syncSchedulePolicy;
+    private final SyncLeaseService syncLeaseService;
+    private final AdaptiveIntervalPolicy adaptiveIntervalPolicy;
+    private final SyncProgressTracker syncProgressTracker;
+    private final FetchValidatorStore fetchValidatorStore;
+    private final CrawlFailureLedger crawlFailureLedger;
+    private final int upsertChunkSize;
 
     public SourceSyncService(
             SourceRepository sourceRepository,
             SyncJobRepository syncJobRepository,
             PostUpsertService postUpsertService,
             List<TechBlogParser> parsers,
-            SitemapTechBlogParser sitemapTechBlogParser
+            SitemapTechBlogParser sitemapTechBlogParser,
+            SourceSyncExecutor sourceSyncExecutor,
+            SyncSchedulePolicy syncSchedulePolicy,
+            SyncLeaseService syncLeaseService,
+            AdaptiveIntervalPolicy adaptiveIntervalPolicy,
+            SyncProgressTracker syncProgressTracker,
+            FetchValidatorStore fetchValidatorStore,
+            CrawlFailureLedger crawlFailureLedger,
+            @Value("${techmoa.sync.upsert-chunk-size:200}") int upsertChunkSize
     ) {
         this.sourceRepository = sourceRepository;
         this.syncJobRepository = syncJobRepository;
         this.postUpsertService = postUpsertService;
         this.parsers = parsers;
         this.sitemapTechBlogParser = sitemapTechBlogParser;
+        this.sourceSyncExecutor = sourceSyncExecutor;
+        this.syncSchedulePolicy = syncSchedulePolicy;
+        this.syncLeaseService = syncLeaseService;
+        this.adaptiveIntervalPolicy = adaptiveIntervalPolicy;
+        this.syncProgressTracker = syncProgressTracker;
+        this.fetchValidatorStore = fetchValidatorStore;
+        this.crawlFailureLedger = crawlFailureLedger;
+        this.upsertChunkSize = upsertChunkSize;
     }
 
-    public void syncActiveSources() {
-        List<Source> activeSources = sourceRepository.findByActiveTrue();
-        LocalDateTime now = LocalDateTime.now();
-        for (Source source : activeSources) {
-            if (!isSyncDue(source, now)) {
-                log.debug(
-                        "Source sync skipped by interval. sourceName={}, intervalMin={}",
-                        source.getName(),
-                        source.getIntervalMin()
-                );
-                continue;
-            }
-            try {
-                syncSource(source);
-            } catch (Exception e) {
-                log.error(
-                        "Source sync failed. sourceName={}, parserType={}",
-                        source.getName(),
-                        source.getParserType(),
-                        e
-                );
-            }
+    public CompletableFuture<Void> submitSync(Source source) {
+        return sourceSyncExecutor.submit(source, () -> syncSourceQuietly(source));
+    }
+
+    private void syncSourceQuietly(Source source) {
+        try {
+            syncDueSource(source);
+        } catch (Exception e) {
+            log.error(
+                    "Source sync failed. sourceName={}, parserType={}",
+                    source.getName(),
+                    source.getParserType(),
+                    e
+            );
         }
     }
 
-    public SyncResult syncSourceById(Long sourceId) {
-        Source source = sourceRepository.findById(sourceId)
-                .orElseThrow(() -> new NoSuchElementException("Source not found: " + sourceId));
-        return syncSource(source);
+    public SyncJob enqueueSync(Long sourceId) {
+        Source source = findSource(sourceId);
+        LocalDateTime nextSyncAt = syncSchedulePolicy.nextSyncAt(source, LocalDateTime.now());
+        acquireLease(source, nextSyncAt);
+        source.scheduleNextSync(nextSyncAt);
+        return enqueue(source, false, (syncJob, context) -> runSync(source, syncJob, context));
     }
 
-    public SyncResult backfillSourceById(Long sourceId, String sitemapUrlOverride) {
-        Source source = sourceRepository.findById(sourceId)
-                .orElseThrow(() -> new NoSuchElementException("Source not found: " + sourceId));
-        return backfillSource(source, sitemapUrlOverride);
+    public SyncJob enqueueBackfill(Long sourceId, String sitemapUrlOverride) {
+        Source source = findSource(sourceId);
+        acquireLease(source, source.getNextSyncAt());
+        return enqueue(
+                source,
+                true,
+                (syncJob, context) -> runBackfill(source, sitemapUrlOverride, syncJob, context)
+        );
+    }
+
+    private SyncJob enqueue(Source source, boolean backfill, BiConsumer<SyncJob, FetchContext> work) {
+        SyncJob syncJob;
+        try {
+            syncJob = syncJobRepository.save(SyncJob.queue(source));
+        } catch (RuntimeException e) {
+            releaseLease(source);
+            throw e;
+        }
+        FetchContext context = syncProgressTracker.register(syncJob.getId());
+
+        // 본문과 타임아웃 정리 중 먼저 도착한 쪽만 작업 마무리(리스 반납, 추적 해제)를 맡는다.
+        AtomicBoolean claimed = new AtomicBoolean();
+        Runnable task = () -> {
+            if (!claimed.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                DataSourceRouting.runOnPrimary(() -> work.accept(syncJob, context));
+            } catch (Exception e) {
+                log.error("Sync job failed. syncJobId={}, sourceName={}", syncJob.getId(), source.getName(), e);
+            } finally {
+                syncProgressTracker.unregister(syncJob.getId());
+                if (backfill) {
+                    releaseLease(source);
+                } else {
+                    finishLease(source);
+                }
+            }
+        };
+
+        CompletableFuture<Void> completion = backfill
+                ? sourceSyncExecutor.submitBackfill(source, task)
+                : sourceSyncExecutor.submit(source, task);
+        completion.whenComplete((ignored, error) -> {
+            // 슬롯을 기다리다 종료 등으로 끝난 작업은 본문이 돌지 않았으므로 여기서 정리한다.
+            if (error != null && claimed.compareAndSet(false, true)) {
+                syncProgressTracker.unregister(syncJob.getId());
+                recordFailure(syncJob, error);
+                releaseLease(source);
+            }
+        });
+        return syncJob;
     }
 
-    private boolean isSyncDue(Source source, LocalDateTime now) {
-        Integer intervalMin = source.getIntervalMin();
-        if (intervalMin == null || intervalMin <= 0) {
-            return true;
+    private void syncDueSource(Source source) {
+        LocalDateTime nextSyncAt = syncSchedulePolicy.nextSyncAt(source, LocalDateTime.now());
+        if (!syncLeaseService.tryAcquire(source, nextSyncAt, true)) {
+            log.debug("Source sync claimed by another worker. sourceName={}", source.getName());
+            sourceRepository.findNextSyncAtById(source.getId()).ifPresent(source::scheduleNextSync);
+            return;
+        }
+        source.scheduleNextSync(nextSyncAt);
+        SyncJob syncJob = null;
+        try {
+            syncJob = syncJobRepository.save(SyncJob.start(source));
+            SyncJob runningJob = syncJob;
+            FetchContext context = syncProgressTracker.register(syncJob.getId());
+            DataSourceRouting.runOnPrimary(() -> runSync(source, runningJob, context));
+        } finally {
+            if (syncJob != null) {
+                syncProgressTracker.unregister(syncJob.getId());
+            }
+            finishLease(source);
         }
-        return syncJobRepository.findLatestStartedAtBySourceId(source.getId())
-                .map(lastStartedAt -> !lastStartedAt.plusMinutes(intervalMin).isAfter(now))
-                .orElse(true);
     }
 
-    public SyncResult syncSource(Source source) {
-        SyncJob syncJob = syncJobRepository.save(SyncJob.start(source));
-        TechBlogParser parser = resolveParser(source.getParserType());
+    private void runSync(Source source, SyncJob syncJob, FetchContext context) {
         SourceProfile profile = new SourceProfile(
                 source.getId(),
                 source.getName(),
@@ -101,30 +184,13 @@ public class SourceSyncService {
                 source.getFeedUrl(),
                 source.getParserType()
         );
-
-        try {
-            List<ParsedPost> parsedPosts = parser.fetch(profile);
-            int savedCount = postUpsertService.upsert(source, parsedPosts);
-            syncJob.complete(savedCount);
-            syncJobRepository.save(syncJob);
-
-            log.info(
-                    "Source sync completed. sourceName={}, parserType={}, parsedCount={}, savedCount={}",
-                    source.getName(),
-                    source.getParserType(),
-                    parsedPosts.size(),
-                    savedCount
-            );
-            return new SyncResult(source.getName(), parsedPosts.size(), savedCount);
-        } catch (Exception e) {
-            syncJob.fail(e.getMessage());
-            syncJobRepository.save(syncJob);
-            throw e;
-        }
+        context.useKnownValidators(fetchValidatorStore.load(source.getId()));
+        context.useKnownSitemapLastmods(fetchValidatorStore.loadSitemapLastmods(source.getId()));
+        context.useKnownPostLookup(urls -> postUpsertService.findFetchedAt(source, urls));
+        runJob(source, syncJob, context, resolveParser(source.getParserType()), profile, true);
     }
 
-    public SyncResult backfillSource(Source source, String sitemapUrlOverride) {
-        SyncJob syncJob = syncJobRepository.save(SyncJob.start(source));
+    private void runBackfill(Source source, String sitemapUrlOverride, SyncJob syncJob, FetchContext context) {
         TechBlogParser parser = resolveParser(ParserType.SITEMAP);
         String sitemapUrl = resolveSitemapUrl(source, sitemapUrlOverride);
         SourceProfile profile = new SourceProfile(
@@ -134,25 +200,173 @@ public class SourceSyncService {
                 sitemapUrl,
                 ParserType.SITEMAP
         );
+        // 백필은 검증자·lastmod 없이 전체를 다시 읽고, 들어온 과거 글은 수집 주기 학습(newPostCount)에 반영하지 않는다.
+        runJob(source, syncJob, context, parser, profile, false);
+    }
 
+    private void runJob(
+            Source source,
+            SyncJob syncJob,
+            FetchContext context,
+            TechBlogParser parser,
+            SourceProfile profile,
+            boolean incremental
+    ) {
+        if (context.isCancelRequested()) {
+            syncJob.cancel(0, 0);
+            syncJobRepository.save(syncJob);
+            log.info("Sync job cancelled before start. syncJobId={}, sourceName={}", syncJob.getId(), source.getName());
+            return;
+        }
+        if (syncJob.getStatus() == SyncJobStatus.QUEUED) {
+            syncJob.markRunning();
+            syncJobRepository.save(syncJob);
+        }
+
+        ChunkedPostWriter writer = new ChunkedPostWriter(
+                postUpsertService,
+                source,
+                upsertChunkSize,
+                committed -> syncProgressTracker.recordSaved(syncJob.getId(), committed)
+        );
         try {
-            List<ParsedPost> parsedPosts = parser.fetch(profile);
-            int savedCount = postUpsertService.upsert(source, parsedPosts);
-            syncJob.complete(savedCount);
+            parser.fetch(profile, context, writer);
+            if (context.isNotModified()) {
+                syncJob.markNotModified();
+                syncJobRepository.save(syncJob);
+                log.info(
+                        "Sync job skipped, feed not modified. syncJobId={}, sourceName={}, feedUrl={}",
+                        syncJob.getId(),
+                        source.getName(),
+                        profile.feedUrl()
+                );
+                return;
+            }
+
+            writer.flush();
+            UpsertResult upsertResult = writer.total();
+            int savedCount = upsertResult.savedCount();
+            int newPostCount = incremental ? upsertResult.insertedCount() : 0;
+            syncJob.recordProgress(context.getDiscoveredCount(), context.getFetchedCount());
+            syncJob.recordUnchanged(upsertResult.unchangedCount());
+            syncJob.recordFailures(context.getFailureCount());
+            if (context.isCancelRequested()) {
+                syncJob.cancel(savedCount, newPostCount);
+            } else {
+                syncJob.complete(savedCount, newPostCount);
+                saveValidators(source, context);
+            }
             syncJobRepository.save(syncJob);
+            recordCrawlFailures(source, context);
 
             log.info(
-                    "Source backfill completed. sourceName={}, sitemapUrl={}, parsedCount={}, savedCount={}",
+                    "Sync job finished. syncJobId={}, sourceName={}, parserType={}, feedUrl={}, status={}, parsedCount={}, savedCount={}, insertedCount={}, updatedCount={}, unchangedCount={}, failedCount={}",
+                    syncJob.getId(),
                     source.getName(),
-                    sitemapUrl,
-                    parsedPosts.size(),
-                    savedCount
+                    profile.parserType(),
+                    profile.feedUrl(),
+                    syncJob.getStatus(),
+                    writer.receivedCount(),
+                    savedCount,
+                    upsertResult.insertedCount(),
+                    upsertResult.updatedCount(),
+                    upsertResult.unchangedCount(),
+                    context.getFailureCount()
             );
-            return new SyncResult(source.getName(), parsedPosts.size(), savedCount);
         } catch (Exception e) {
+            // 이미 커밋된 청크는 되돌리지 않으므로 실패로 남기더라도 저장된 만큼은 집계에 남긴다.
+            UpsertResult committed = writer.total();
+            syncJob.recordProgress(context.getDiscoveredCount(), context.getFetchedCount());
+            syncJob.recordPartialSave(committed.savedCount(), incremental ? committed.insertedCount() : 0);
+            syncJob.recordUnchanged(committed.unchangedCount());
+            syncJob.recordFailures(context.getFailureCount());
+            recordFailure(syncJob, e);
+            recordCrawlFailures(source, context);
+            throw e;
+        }
+    }
+
+    private void saveValidators(Source source, FetchContext context) {
+        // 글 저장까지 끝난 뒤에만 검증자를 남겨야 다음 수집이 304로 놓친 글을 건너뛰지 않는다.
+        try {
+            fetchValidatorStore.save(source, context.getObservedValidators(), context.getObservedSitemapLastmods());
+        } catch (Exception e) {
+            log.warn("Failed to save fetch validators. sourceName={}, message={}", source.getName(), e.getMessage());
+        }
+    }
+
+    private void recordCrawlFailures(Source source, FetchContext context) {
+        // 실패한 글 URL은 원장에 남겨 CrawlFailureRetrier가 사이트맵 전체를 다시 읽지 않고 그 글만 다시 받게 한다.
+        if (context.getFailureCount() == 0) {
+            return;
+        }
+        runUninterrupted(() -> {
+            try {
+                crawlFailureLedger.record(source, context.getFailures());
+            } catch (Exception e) {
+                log.warn("Failed to record crawl failures. sourceName={}, message={}", source.getName(), e.getMessage());
+            }
+        });
+    }
+
+    private void releaseLease(Source source) {
+        runUninterrupted(() -> syncLeaseService.release(source));
+    }
+
+    private void finishLease(Source source) {
+        runUninterrupted(() -> {
+            try {
+                adaptInterval(source);
+            } catch (Exception e) {
+                log.warn("Failed to adapt sync interval. sourceName={}, message={}", source.getName(), e.getMessage());
+            }
+            syncLeaseService.release(source);
+        });
+    }
+
+    private void adaptInterval(Source source) {
+        if (!adaptiveIntervalPolicy.isEnabled()) {
+            return;
+        }
+        int intervalMin = adaptiveIntervalPolicy.computeIntervalMin(source);
+        if (Integer.valueOf(intervalMin).equals(source.getEffectiveIntervalMin())) {
+            return;
+        }
+
+        LocalDateTime nextSyncAt = syncSchedulePolicy.nextSyncAt(intervalMin, LocalDateTime.now());
+        sourceRepository.updateEffectiveInterval(source.getId(), intervalMin, nextSyncAt);
+        source.applyEffectiveInterval(intervalMin, nextSyncAt);
+        log.info(
+                "Source sync interval adapted. sourceName={}, effectiveIntervalMin={}, nextSyncAt={}",
+                source.getName(),
+                intervalMin,
+                nextSyncAt
+        );
+    }
+
+    private void acquireLease(Source source, LocalDateTime nextSyncAt) {
+        // 리스 획득과 함께 다음 수집 시각을 먼저 밀어 두어야 실패/타임아웃이 나도 즉시 재시도 루프에 빠지지 않는다.
+        if (!syncLeaseService.tryAcquire(source, nextSyncAt, false)) {
+            throw new SyncLeaseUnavailableException(source.getName());
+        }
+    }
+
+    private void recordFailure(SyncJob syncJob, Throwable e) {
+        runUninterrupted(() -> {
             syncJob.fail(e.getMessage());
             syncJobRepository.save(syncJob);
-            throw e;
+        });
+    }
+
+    private void runUninterrupted(Runnable bookkeeping) {
+        // 타임아웃으로 인터럽트된 스레드는 JDBC I/O까지 끊기므로 기록 작업 동안만 인터럽트 상태를 비운다.
+        boolean interrupted = Thread.interrupted();
+        try {
+            bookkeeping.run();
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
         }
     }
 
@@ -180,6 +394,11 @@ public class SourceSyncService {
         return source.getBaseUrl().replaceAll("/+$", "") + "/sitemap.xml";
     }
 
+    private Source findSource(Long sourceId) {
+        return sourceRepository.findById(sourceId)
+                .orElseThrow(() -> new NoSuchElementException("Source not found: " + sourceId));
+    }
+
     private TechBlogParser resolveParser(ParserType parserType) {
         return parsers.stream()
                 .filter(parser -> parser.supports(parserType))
@@ -0,0 +1,46 @@
+package com.techmoa.ingestion.application;
+
+import com.techmoa.ingestion.domain.SyncJob;
+import com.techmoa.ingestion.domain.SyncJobRepository;
+import com.techmoa.ingestion.parser.FetchContext;
+import java.util.NoSuchElementException;
+import org.springframework.stereotype.Service;
+
+@Service
+public class SyncJobService {
+
+    private final SyncJobRepository syncJobRepository;
+    private final SyncProgressTracker syncProgressTracker;
+
+    public SyncJobService(SyncJobRepository syncJobRepository, SyncProgressTracker syncProgressTracker) {
+        this.syncJobRepository = syncJobRepository;
+        this.syncProgressTracker = syncProgressTracker;
+    }
+
+    public SyncJob getJob(Long syncJobId) {
+        SyncJob syncJob = findJob(syncJobId);
+        // 이 인스턴스에서 돌고 있는 작업이면 DB 반영 주기를 기다리지 않고 현재 진행률을 보여 준다.
+        if (!syncJob.isFinished()) {
+            syncProgressTracker.progress(syncJobId).ifPresent(progress -> {
+                syncJob.recordProgress(progress.discoveredCount(), progress.fetchedCount());
+                syncJob.recordSaved(progress.savedCount());
+                syncJob.recordUnchanged(progress.unchangedCount());
+            });
+        }
+        return syncJob;
+    }
+
+    public SyncJob requestCancel(Long syncJobId) {
+        SyncJob syncJob = findJob(syncJobId);
+        if (syncJob.isFinished() || syncJobRepository.requestCancel(syncJobId) == 0) {
+            throw new IllegalStateException("Sync job already finished: " + syncJobId);
+        }
+        syncProgressTracker.find(syncJobId).ifPresent(FetchContext::requestCancel);
+        return getJob(syncJobId);
+    }
+
+    private SyncJob findJob(Long syncJobId) {
+        return syncJobRepository.findWithSourceById(syncJobId)
+                .orElseThrow(() -> new NoSuchElementException("Sync job not found: " + syncJobId));
+    }
+}
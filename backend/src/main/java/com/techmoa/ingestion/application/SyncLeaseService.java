@@ -0,0 +1,116 @@
+package com.techmoa.ingestion.application;
+
+import com.techmoa.ingestion.domain.SyncJobRepository;
+import com.techmoa.source.domain.Source;
+import com.techmoa.source.domain.SourceRepository;
+import java.net.InetAddress;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+@Service
+public class SyncLeaseService {
+
+    private static final Logger log = LoggerFactory.getLogger(SyncLeaseService.class);
+
+    private final SourceRepository sourceRepository;
+    private final SyncJobRepository syncJobRepository;
+    private final String workerId;
+    private final long leaseDurationMs;
+    private final Set<Long> heldLeases = ConcurrentHashMap.newKeySet();
+
+    public SyncLeaseService(
+            SourceRepository sourceRepository,
+            SyncJobRepository syncJobRepository,
+            @Value("${techmoa.sync.worker-id:}") String workerId,
+            @Value("${techmoa.sync.lease-duration-ms:900000}") long leaseDurationMs
+    ) {
+        this.sourceRepository = sourceRepository;
+        this.syncJobRepository = syncJobRepository;
+        this.workerId = workerId == null || workerId.isBlank() ? defaultWorkerId() : workerId.trim();
+        this.leaseDurationMs = leaseDurationMs;
+    }
+
+    public boolean tryAcquire(Source source, LocalDateTime nextSyncAt, boolean requireDue) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime leaseExpiresAt = now.plusNanos(leaseDurationMs * 1_000_000L);
+        int claimed = requireDue
+                ? sourceRepository.claimDueLease(source.getId(), workerId, now, leaseExpiresAt, nextSyncAt)
+                : sourceRepository.claimLease(source.getId(), workerId, now, leaseExpiresAt, nextSyncAt);
+        return onClaimed(source, claimed, now);
+    }
+
+    public boolean tryAcquireKeepingSchedule(Source source) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime leaseExpiresAt = now.plusNanos(leaseDurationMs * 1_000_000L);
+        int claimed = sourceRepository.claimLeaseKeepingSchedule(source.getId(), workerId, now, leaseExpiresAt);
+        return onClaimed(source, claimed, now);
+    }
+
+    private boolean onClaimed(Source source, int claimed, LocalDateTime now) {
+        if (claimed == 0) {
+            return false;
+        }
+
+        heldLeases.add(source.getId());
+        // 리스를 쥔 시점에 남아 있는 QUEUED/RUNNING 작업은 만료된 리스의 주인(죽은 워커)이 남긴 것이다.
+        int abandoned = syncJobRepository.failUnfinishedJobs(
+                source.getId(),
+                now,
+                "Abandoned by expired sync lease"
+        );
+        if (abandoned > 0) {
+            log.warn(
+                    "Took over expired sync lease. sourceName={}, abandonedJobs={}, workerId={}",
+                    source.getName(),
+                    abandoned,
+                    workerId
+            );
+        }
+        return true;
+    }
+
+    public void release(Source source) {
+        heldLeases.remove(source.getId());
+        sourceRepository.releaseLease(source.getId(), workerId);
+    }
+
+    @Scheduled(fixedDelayString = "${techmoa.sync.lease-renew-interval-ms:300000}")
+    public void renewHeldLeases() {
+        if (heldLeases.isEmpty()) {
+            return;
+        }
+        List<Long> sourceIds = List.copyOf(heldLeases);
+        LocalDateTime leaseExpiresAt = LocalDateTime.now().plusNanos(leaseDurationMs * 1_000_000L);
+        int renewed = sourceRepository.renewLeases(sourceIds, workerId, leaseExpiresAt);
+        if (renewed < sourceIds.size()) {
+            log.warn(
+                    "Some sync leases could not be renewed. heldCount={}, renewedCount={}, workerId={}",
+                    sourceIds.size(),
+                    renewed,
+                    workerId
+            );
+        }
+    }
+
+    public String getWorkerId() {
+        return workerId;
+    }
+
+    private static String defaultWorkerId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            host = "worker";
+        }
+        return host + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+}
@@ -0,0 +1,8 @@
+package com.techmoa.ingestion.application;
+
+public class SyncLeaseUnavailableException extends IllegalStateException {
+
+    public SyncLeaseUnavailableException(String sourceName) {
+        super("Source sync is already running. sourceName=" + sourceName);
+    }
+}
@@ -0,0 +1,9 @@
+package com.techmoa.ingestion.application;
+
+record SyncProgress(
+        int discoveredCount,
+        int fetchedCount,
+        int savedCount,
+        int unchangedCount
+) {
+}
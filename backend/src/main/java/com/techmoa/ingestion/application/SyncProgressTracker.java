@@ -0,0 +1,116 @@
+package com.techmoa.ingestion.application;
+
+import com.techmoa.ingestion.domain.SyncJobRepository;
+import com.techmoa.ingestion.parser.FetchContext;
+import com.techmoa.post.application.UpsertResult;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+public class SyncProgressTracker {
+
+    private static final Logger log = LoggerFactory.getLogger(SyncProgressTracker.class);
+
+    private final SyncJobRepository syncJobRepository;
+    private final Map<Long, TrackedJob> trackedJobs = new ConcurrentHashMap<>();
+
+    public SyncProgressTracker(SyncJobRepository syncJobRepository) {
+        this.syncJobRepository = syncJobRepository;
+    }
+
+    public FetchContext register(Long syncJobId) {
+        FetchContext context = new FetchContext();
+        trackedJobs.put(syncJobId, new TrackedJob(context));
+        return context;
+    }
+
+    public void unregister(Long syncJobId) {
+        trackedJobs.remove(syncJobId);
+    }
+
+    public Optional<FetchContext> find(Long syncJobId) {
+        return Optional.ofNullable(trackedJobs.get(syncJobId)).map(TrackedJob::context);
+    }
+
+    // 청크가 커밋될 때마다 불려 저장 건수도 수집이 끝나기 전에 보이게 한다.
+    public void recordSaved(Long syncJobId, UpsertResult committed) {
+        TrackedJob trackedJob = trackedJobs.get(syncJobId);
+        if (trackedJob != null) {
+            trackedJob.committed = committed;
+        }
+    }
+
+    Optional<SyncProgress> progress(Long syncJobId) {
+        return Optional.ofNullable(trackedJobs.get(syncJobId)).map(TrackedJob::progress);
+    }
+
+    @Scheduled(fixedDelayString = "${techmoa.sync.progress-flush-interval-ms:2000}")
+    public void flush() {
+        if (trackedJobs.isEmpty()) {
+            return;
+        }
+
+        // 진행률은 바뀐 작업만 기록하고, 다른 인스턴스로 들어온 취소 요청은 같은 주기에 한 번의 조회로 받아 온다.
+        trackedJobs.forEach((syncJobId, trackedJob) -> {
+            try {
+                trackedJob.flushIfChanged(syncJobId, syncJobRepository);
+            } catch (Exception e) {
+                log.warn("Failed to flush sync progress. syncJobId={}, message={}", syncJobId, e.getMessage());
+            }
+        });
+
+        List<Long> syncJobIds = List.copyOf(trackedJobs.keySet());
+        if (syncJobIds.isEmpty()) {
+            return;
+        }
+        for (Long cancelledId : syncJobRepository.findCancelRequestedIds(syncJobIds)) {
+            find(cancelledId).ifPresent(FetchContext::requestCancel);
+        }
+    }
+
+    private static final class TrackedJob {
+
+        private final FetchContext context;
+        private volatile UpsertResult committed = UpsertResult.empty();
+        private SyncProgress flushed = new SyncProgress(0, 0, 0, 0);
+
+        private TrackedJob(FetchContext context) {
+            this.context = context;
+        }
+
+        private FetchContext context() {
+            return context;
+        }
+
+        private SyncProgress progress() {
+            UpsertResult current = committed;
+            return new SyncProgress(
+                    context.getDiscoveredCount(),
+                    context.getFetchedCount(),
+                    current.savedCount(),
+                    current.unchangedCount()
+            );
+        }
+
+        private void flushIfChanged(Long syncJobId, SyncJobRepository syncJobRepository) {
+            SyncProgress progress = progress();
+            if (progress.equals(flushed)) {
+                return;
+            }
+            syncJobRepository.updateProgress(
+                    syncJobId,
+                    progress.discoveredCount(),
+                    progress.fetchedCount(),
+                    progress.savedCount(),
+                    progress.unchangedCount()
+            );
+            flushed = progress;
+        }
+    }
+}
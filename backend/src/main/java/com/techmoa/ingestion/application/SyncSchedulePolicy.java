@@ -0,0 +1,59 @@
+package com.techmoa.ingestion.application;
+
+import com.techmoa.source.domain.Source;
+import java.time.LocalDateTime;
+import java.util.concurrent.ThreadLocalRandom;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class SyncSchedulePolicy {
+
+    private static final int DEFAULT_INTERVAL_MIN = 30;
+
+    private final double jitterRatio;
+    private final long initialSpreadMs;
+
+    public SyncSchedulePolicy(
+            @Value("${techmoa.sync.jitter-ratio:0.1}") double jitterRatio,
+            @Value("${techmoa.sync.initial-spread-ms:60000}") long initialSpreadMs
+    ) {
+        if (jitterRatio < 0) {
+            throw new IllegalArgumentException("techmoa.sync.jitter-ratio must not be negative");
+        }
+        this.jitterRatio = jitterRatio;
+        this.initialSpreadMs = Math.max(0, initialSpreadMs);
+    }
+
+    public LocalDateTime nextSyncAt(Source source, LocalDateTime from) {
+        return nextSyncAt(resolveIntervalMin(source), from);
+    }
+
+    public LocalDateTime nextSyncAt(int intervalMin, LocalDateTime from) {
+        long intervalSeconds = Math.max(1, intervalMin) * 60L;
+        long jitterSeconds = (long) (intervalSeconds * jitterRatio);
+        return from.plusSeconds(intervalSeconds + randomUpTo(jitterSeconds));
+    }
+
+    public LocalDateTime initialSyncAt(LocalDateTime now) {
+        // 같은 시각에 시드된 소스들이 기동 직후 한꺼번에 몰리지 않도록 첫 수집 시각을 흩뿌린다.
+        return now.plusNanos(randomUpTo(initialSpreadMs) * 1_000_000L);
+    }
+
+    private int resolveIntervalMin(Source source) {
+        Integer intervalMin = source.getEffectiveIntervalMin() == null
+                ? source.getIntervalMin()
+                : source.getEffectiveIntervalMin();
+        if (intervalMin == null || intervalMin <= 0) {
+            return DEFAULT_INTERVAL_MIN;
+        }
+        return intervalMin;
+    }
+
+    private long randomUpTo(long bound) {
+        if (bound <= 0) {
+            return 0;
+        }
+        return ThreadLocalRandom.current().nextLong(bound + 1);
+    }
+}
@@ -0,0 +1,17 @@
+package com.techmoa.ingestion.crawler;
+
+import java.io.IOException;
+
+public class CrawlHttpStatusException extends IOException {
+
+    private final int statusCode;
+
+    public CrawlHttpStatusException(int statusCode, String url) {
+        super("Unexpected HTTP status " + statusCode + ". url=" + url);
+        this.statusCode = statusCode;
+    }
+
+    public int getStatusCode() {
+        return statusCode;
+    }
+}
@@ -0,0 +1,53 @@
+package com.techmoa.ingestion.crawler;
+
+import com.techmoa.ingestion.parser.HttpValidator;
+import java.io.IOException;
+import java.io.InputStream;
+
+public final class CrawlResponse implements AutoCloseable {
+
+    private static final int NOT_MODIFIED = 304;
+
+    private final String url;
+    private final int statusCode;
+    private final String contentType;
+    private final HttpValidator validator;
+    private final InputStream body;
+
+    CrawlResponse(String url, int statusCode, String contentType, HttpValidator validator, InputStream body) {
+        this.url = url;
+        this.statusCode = statusCode;
+        this.contentType = contentType;
+        this.validator = validator;
+        this.body = body;
+    }
+
+    public String url() {
+        return url;
+    }
+
+    public int statusCode() {
+        return statusCode;
+    }
+
+    public boolean isNotModified() {
+        return statusCode == NOT_MODIFIED;
+    }
+
+    public String contentType() {
+        return contentType;
+    }
+
+    public HttpValidator validator() {
+        return validator;
+    }
+
+    public InputStream body() {
+        return body;
+    }
+
+    @Override
+    public void close() throws IOException {
+        body.close();
+    }
+}
@@ -0,0 +1,271 @@
+package com.techmoa.ingestion.crawler;
+
+import com.techmoa.ingestion.parser.HttpValidator;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class CrawlerHttpClient implements DisposableBean {
+
+    private static final String ACCEPT_ENCODING = "gzip, deflate";
+    private static final String UNKNOWN_HOST = "unknown";
+
+    private final MeterRegistry meterRegistry;
+    private final ExecutorService executor;
+    private final ScheduledExecutorService deadlines;
+    private final HttpClient httpClient;
+    private final Duration requestTimeout;
+    private final long responseTimeoutMs;
+    private final String userAgent;
+    private final Map<String, Counter> byteCounters = new ConcurrentHashMap<>();
+
+    public CrawlerHttpClient(
+            MeterRegistry meterRegistry,
+            @Value("${techmoa.crawler.connect-timeout-ms:10000}") long connectTimeoutMs,
+            @Value("${techmoa.crawler.request-timeout-ms:15000}") long requestTimeoutMs,
+            @Value("${techmoa.crawler.response-timeout-ms:60000}") long responseTimeoutMs,
+            @Value("${techmoa.crawler.user-agent:TechmoaBot/1.0}") String userAgent
+    ) {
+        this.meterRegistry = meterRegistry;
+        this.executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("crawler-http-", 0).factory());
+        this.deadlines = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("crawler-http-deadline").daemon(true).factory()
+        );
+        // 하나의 클라이언트가 호스트별 커넥션 풀을 유지하므로 같은 블로그에 대한 요청은 keep-alive/HTTP/2 연결을 재사용한다.
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+                .executor(executor)
+                .build();
+        this.requestTimeout = Duration.ofMillis(requestTimeoutMs);
+        this.responseTimeoutMs = responseTimeoutMs;
+        this.userAgent = userAgent;
+    }
+
+    public CrawlResponse get(String url) throws IOException {
+        return get(url, null);
+    }
+
+    public CrawlResponse get(String url, HttpValidator validator) throws IOException {
+        URI uri = URI.create(url);
+        String scheme = uri.getScheme() == null ? "" : uri.getScheme().toLowerCase(Locale.ROOT);
+        if (!"http".equals(scheme) && !"https".equals(scheme)) {
+            // 사이트맵 <loc>와 피드 링크는 외부 입력이므로 file:, jar: 같은 로컬 리소스를 가리켜도 열지 않는다.
+            throw new IOException("Unsupported crawl URL scheme. url=" + url);
+        }
+
+        HttpRequest request = buildRequest(uri, validator);
+        String host = resolveHost(uri);
+        long startedAt = System.nanoTime();
+        HttpResponse<InputStream> response;
+        try {
+            response = httpClient.send(request, HttpResponse.BodyHandlers.ofInputStream());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            recordLatency(host, "error", startedAt);
+            throw new InterruptedIOException("Crawl request interrupted. url=" + url);
+        } catch (IOException e) {
+            recordLatency(host, "error", startedAt);
+            throw e;
+        }
+        recordLatency(host, String.valueOf(response.statusCode()), startedAt);
+
+        int statusCode = response.statusCode();
+        if (statusCode >= 400) {
+            response.body().close();
+            throw new CrawlHttpStatusException(statusCode, url);
+        }
+
+        HttpValidator responseValidator = new HttpValidator(
+                response.headers().firstValue("ETag").orElse(null),
+                response.headers().firstValue("Last-Modified").orElse(null)
+        );
+        InputStream body = decode(
+                new CountingInputStream(withDeadline(response.body(), url, startedAt), byteCounter(host)),
+                response.headers().firstValue("Content-Encoding").orElse(null)
+        );
+        return new CrawlResponse(
+                response.uri().toString(),
+                statusCode,
+                response.headers().firstValue("Content-Type").orElse(null),
+                responseValidator,
+                body
+        );
+    }
+
+    private HttpRequest buildRequest(URI uri, HttpValidator validator) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(uri)
+                .GET()
+                .timeout(requestTimeout)
+                .header("User-Agent", userAgent)
+                .header("Accept-Language", Locale.KOREAN.toLanguageTag())
+                .header("Accept-Encoding", ACCEPT_ENCODING);
+        if (validator != null) {
+            if (validator.etag() != null && !validator.etag().isBlank()) {
+                builder.header("If-None-Match", validator.etag());
+            }
+            if (validator.lastModified() != null && !validator.lastModified().isBlank()) {
+                builder.header("If-Modified-Since", validator.lastModified());
+            }
+        }
+        return builder.build();
+    }
+
+    // request-timeout은 응답 헤더까지만 잰다. 본문 도중 멈춘 서버에 스레드와 호스트 슬롯이 묶이지 않도록
+    // 요청 시작부터 response-timeout이 지나면 본문 스트림을 닫아 읽고 있던 쪽을 깨운다.
+    private InputStream withDeadline(InputStream body, String url, long startedAt) {
+        if (responseTimeoutMs <= 0) {
+            return body;
+        }
+        long remainingNanos = startedAt + responseTimeoutMs * 1_000_000L - System.nanoTime();
+        return new DeadlineInputStream(body, url, deadlines, Math.max(0, remainingNanos));
+    }
+
+    private InputStream decode(InputStream body, String contentEncoding) throws IOException {
+        if (contentEncoding == null) {
+            return body;
+        }
+        String encoding = contentEncoding.trim().toLowerCase(Locale.ROOT);
+        if (encoding.equals("gzip") || encoding.equals("x-gzip")) {
+            return new GZIPInputStream(body);
+        }
+        if (encoding.equals("deflate")) {
+            return new InflaterInputStream(body);
+        }
+        return body;
+    }
+
+    private void recordLatency(String host, String status, long startedAt) {
+        Timer.builder("techmoa.crawler.requests")
+                .tag("host", host)
+                .tag("status", status)
+                .register(meterRegistry)
+                .record(Duration.ofNanos(System.nanoTime() - startedAt));
+    }
+
+    private Counter byteCounter(String host) {
+        return byteCounters.computeIfAbsent(host, key -> Counter.builder("techmoa.crawler.received.bytes")
+                .tag("host", key)
+                .baseUnit("bytes")
+                .register(meterRegistry));
+    }
+
+    private String resolveHost(URI uri) {
+        return uri.getHost() == null ? UNKNOWN_HOST : uri.getHost().toLowerCase(Locale.ROOT);
+    }
+
+    @Override
+    public void destroy() {
+        httpClient.close();
+        deadlines.shutdownNow();
+        executor.shutdownNow();
+    }
+
+    private static final class DeadlineInputStream extends FilterInputStream {
+
+        private final String url;
+        private final ScheduledFuture<?> deadline;
+        private volatile boolean expired;
+
+        private DeadlineInputStream(InputStream inputStream, String url, ScheduledExecutorService deadlines, long delayNanos) {
+            super(inputStream);
+            this.url = url;
+            this.deadline = deadlines.schedule(this::expire, delayNanos, TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public int read() throws IOException {
+            try {
+                return super.read();
+            } catch (IOException e) {
+                throw translate(e);
+            }
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            try {
+                return super.read(buffer, offset, length);
+            } catch (IOException e) {
+                throw translate(e);
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            deadline.cancel(false);
+            super.close();
+        }
+
+        private void expire() {
+            expired = true;
+            try {
+                in.close();
+            } catch (IOException ignored) {
+                // 닫는 중 오류는 읽는 쪽이 시간 초과로 받는다.
+            }
+        }
+
+        private IOException translate(IOException e) {
+            if (!expired) {
+                return e;
+            }
+            HttpTimeoutException timeout = new HttpTimeoutException("Crawl response timed out. url=" + url);
+            timeout.initCause(e);
+            return timeout;
+        }
+    }
+
+    private static final class CountingInputStream extends FilterInputStream {
+
+        private final Counter counter;
+
+        private CountingInputStream(InputStream inputStream, Counter counter) {
+            super(inputStream);
+            this.counter = counter;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int value = super.read();
+            if (value >= 0) {
+                counter.increment();
+            }
+            return value;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int read = super.read(buffer, offset, length);
+            if (read > 0) {
+                counter.increment(read);
+            }
+            return read;
+        }
+    }
+}
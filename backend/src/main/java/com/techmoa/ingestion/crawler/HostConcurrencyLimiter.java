@@ -0,0 +1,148 @@
+package com.techmoa.ingestion.crawler;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class HostConcurrencyLimiter {
+
+    private static final double MIN_LIMIT = 1.0;
+    private static final double THROTTLE_DECREASE = 0.5;
+    private static final double LATENCY_DECREASE = 0.9;
+    private static final double LATENCY_TOLERANCE = 2.0;
+    private static final double SHORT_LATENCY_WEIGHT = 0.3;
+    private static final double LONG_LATENCY_WEIGHT = 0.05;
+
+    private final double initialLimit;
+    private final double maxLimit;
+    private final Map<String, HostLimit> hostLimits = new ConcurrentHashMap<>();
+
+    public HostConcurrencyLimiter(
+            @Value("${techmoa.crawler.host.initial-concurrency:4}") int initialLimit,
+            @Value("${techmoa.crawler.host.max-concurrency:16}") int maxLimit
+    ) {
+        if (initialLimit < 1 || maxLimit < initialLimit) {
+            throw new IllegalArgumentException("Host concurrency limits must satisfy 1 <= initial <= max");
+        }
+        this.initialLimit = initialLimit;
+        this.maxLimit = maxLimit;
+    }
+
+    public Permit acquire(String host) throws InterruptedException {
+        HostLimit hostLimit = hostLimits.computeIfAbsent(host, ignored -> new HostLimit(initialLimit));
+        hostLimit.acquire();
+        return new Permit(hostLimit);
+    }
+
+    public int currentLimit(String host) {
+        HostLimit hostLimit = hostLimits.get(host);
+        return hostLimit == null ? (int) initialLimit : hostLimit.currentLimit();
+    }
+
+    public final class Permit {
+
+        private final HostLimit hostLimit;
+        private boolean released;
+
+        private Permit(HostLimit hostLimit) {
+            this.hostLimit = hostLimit;
+        }
+
+        public void succeeded(long latencyNanos) {
+            release(Outcome.SUCCEEDED, latencyNanos);
+        }
+
+        public void throttled() {
+            release(Outcome.THROTTLED, 0);
+        }
+
+        public void failed() {
+            release(Outcome.FAILED, 0);
+        }
+
+        private void release(Outcome outcome, long latencyNanos) {
+            if (released) {
+                return;
+            }
+            released = true;
+            hostLimit.release(outcome, latencyNanos, maxLimit);
+        }
+    }
+
+    private enum Outcome {
+        SUCCEEDED,
+        THROTTLED,
+        FAILED
+    }
+
+    private static final class HostLimit {
+
+        // 가상 스레드가 대기하므로 synchronized 대신 ReentrantLock을 써서 캐리어 스레드 고정을 피한다.
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Condition available = lock.newCondition();
+        private double limit;
+        private int inFlight;
+        private double shortLatencyNanos;
+        private double longLatencyNanos;
+
+        private HostLimit(double limit) {
+            this.limit = limit;
+        }
+
+        private void acquire() throws InterruptedException {
+            lock.lock();
+            try {
+                while (inFlight >= (int) limit) {
+                    available.await();
+                }
+                inFlight++;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void release(Outcome outcome, long latencyNanos, double maxLimit) {
+            lock.lock();
+            try {
+                inFlight--;
+                if (outcome == Outcome.THROTTLED) {
+                    limit = Math.max(MIN_LIMIT, limit * THROTTLE_DECREASE);
+                } else if (outcome == Outcome.SUCCEEDED) {
+                    recordLatency(latencyNanos);
+                    // 최근 응답 시간이 평소의 두 배를 넘으면 서버가 밀리고 있다고 보고 조금씩 줄인다(AIMD).
+                    if (shortLatencyNanos > longLatencyNanos * LATENCY_TOLERANCE) {
+                        limit = Math.max(MIN_LIMIT, limit * LATENCY_DECREASE);
+                    } else {
+                        limit = Math.min(maxLimit, limit + 1.0 / limit);
+                    }
+                }
+                available.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void recordLatency(long latencyNanos) {
+            if (longLatencyNanos == 0) {
+                shortLatencyNanos = latencyNanos;
+                longLatencyNanos = latencyNanos;
+                return;
+            }
+            shortLatencyNanos += SHORT_LATENCY_WEIGHT * (latencyNanos - shortLatencyNanos);
+            longLatencyNanos += LONG_LATENCY_WEIGHT * (latencyNanos - longLatencyNanos);
+        }
+
+        private int currentLimit() {
+            lock.lock();
+            try {
+                return (int) limit;
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
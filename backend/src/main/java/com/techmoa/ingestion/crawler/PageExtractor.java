@@ -0,0 +1,9 @@
+package com.techmoa.ingestion.crawler;
+
+import org.jsoup.nodes.Document;
+
+@FunctionalInterface
+public interface PageExtractor<T> {
+
+    T extract(String url, Document document);
+}
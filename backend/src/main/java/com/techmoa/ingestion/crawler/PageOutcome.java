@@ -0,0 +1,19 @@
+package com.techmoa.ingestion.crawler;
+
+public record PageOutcome<T>(
+        String url,
+        T value,
+        Exception error
+) {
+    static <T> PageOutcome<T> succeeded(String url, T value) {
+        return new PageOutcome<>(url, value, null);
+    }
+
+    static <T> PageOutcome<T> failed(String url, Exception error) {
+        return new PageOutcome<>(url, null, error);
+    }
+
+    public boolean isFailed() {
+        return error != null;
+    }
+}
@@ -0,0 +1,174 @@
+package com.techmoa.ingestion.crawler;
+
+import com.techmoa.ingestion.parser.FetchContext;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.jsoup.parser.Parser;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class PipelinedPageFetcher implements DisposableBean {
+
+    private static final int MAX_PAGE_BYTES = 5 * 1024 * 1024;
+    private static final String UNKNOWN_HOST = "unknown";
+
+    private final CrawlerHttpClient crawlerHttpClient;
+    private final HostConcurrencyLimiter hostConcurrencyLimiter;
+    private final int window;
+    private final long pageTimeoutMs;
+    private final ExecutorService ioExecutor;
+    private final ExecutorService parseExecutor;
+
+    public PipelinedPageFetcher(
+            CrawlerHttpClient crawlerHttpClient,
+            HostConcurrencyLimiter hostConcurrencyLimiter,
+            @Value("${techmoa.crawler.pipeline.window:64}") int window,
+            @Value("${techmoa.crawler.pipeline.parse-threads:0}") int parseThreads,
+            @Value("${techmoa.crawler.pipeline.page-timeout-ms:120000}") long pageTimeoutMs
+    ) {
+        if (window < 1) {
+            throw new IllegalArgumentException("techmoa.crawler.pipeline.window must be positive");
+        }
+        this.crawlerHttpClient = crawlerHttpClient;
+        this.hostConcurrencyLimiter = hostConcurrencyLimiter;
+        this.window = window;
+        this.pageTimeoutMs = pageTimeoutMs;
+        this.ioExecutor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("crawler-io-", 0).factory());
+        this.parseExecutor = Executors.newFixedThreadPool(
+                parseThreads > 0 ? parseThreads : Runtime.getRuntime().availableProcessors(),
+                Thread.ofPlatform().name("crawler-parse-", 0).daemon(true).factory()
+        );
+    }
+
+    public <T> void fetchInOrder(
+            List<String> urls,
+            FetchContext context,
+            PageExtractor<T> extractor,
+            Consumer<PageOutcome<T>> consumer
+    ) throws InterruptedException {
+        // 앞에서부터 window 개만 미리 띄워 두고 입력 순서대로 꺼내므로, 병렬로 받아도 결과 순서는 항상 같다.
+        Deque<PendingPage<T>> pending = new ArrayDeque<>();
+        Iterator<String> remaining = urls.iterator();
+        try {
+            while (true) {
+                while (pending.size() < window && remaining.hasNext() && !context.isCancelRequested()) {
+                    String url = remaining.next();
+                    pending.addLast(new PendingPage<>(url, submit(url, extractor)));
+                }
+                if (pending.isEmpty()) {
+                    return;
+                }
+                consumer.accept(await(pending.removeFirst()));
+            }
+        } finally {
+            pending.forEach(page -> page.future().cancel(true));
+        }
+    }
+
+    private <T> CompletableFuture<PageOutcome<T>> submit(String url, PageExtractor<T> extractor) {
+        return CompletableFuture.supplyAsync(() -> download(url), ioExecutor)
+                .thenApplyAsync(body -> PageOutcome.succeeded(url, extractor.extract(url, parse(url, body))), parseExecutor)
+                .exceptionally(error -> PageOutcome.failed(url, unwrap(error)));
+    }
+
+    private byte[] download(String url) {
+        HostConcurrencyLimiter.Permit permit;
+        try {
+            permit = hostConcurrencyLimiter.acquire(resolveHost(url));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CompletionException(e);
+        }
+
+        long startedAt = System.nanoTime();
+        try (CrawlResponse response = crawlerHttpClient.get(url)) {
+            byte[] body = response.body().readNBytes(MAX_PAGE_BYTES);
+            permit.succeeded(System.nanoTime() - startedAt);
+            return body;
+        } catch (CrawlHttpStatusException e) {
+            if (isThrottled(e.getStatusCode())) {
+                permit.throttled();
+            } else {
+                permit.failed();
+            }
+            throw new CompletionException(e);
+        } catch (HttpTimeoutException e) {
+            permit.throttled();
+            throw new CompletionException(e);
+        } catch (IOException | RuntimeException e) {
+            permit.failed();
+            throw new CompletionException(e);
+        }
+    }
+
+    private Document parse(String url, byte[] body) {
+        try {
+            return Jsoup.parse(new ByteArrayInputStream(body), StandardCharsets.UTF_8.name(), url, Parser.htmlParser());
+        } catch (IOException e) {
+            throw new CompletionException(e);
+        }
+    }
+
+    // 본문 읽기에는 CrawlerHttpClient가 제한 시간을 두지만, 그 밖의 이유로 한 페이지가 끝나지 않아도 수집 전체가 멈추지 않게 한다.
+    private <T> PageOutcome<T> await(PendingPage<T> page) throws InterruptedException {
+        try {
+            return pageTimeoutMs > 0
+                    ? page.future().get(pageTimeoutMs, TimeUnit.MILLISECONDS)
+                    : page.future().get();
+        } catch (TimeoutException e) {
+            page.future().cancel(true);
+            return PageOutcome.failed(page.url(), new TimeoutException(
+                    "Page fetch timed out after " + pageTimeoutMs + "ms. url=" + page.url()
+            ));
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Page fetch pipeline failed unexpectedly", e.getCause());
+        }
+    }
+
+    private boolean isThrottled(int statusCode) {
+        return statusCode == 429 || statusCode >= 500;
+    }
+
+    private Exception unwrap(Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        return cause instanceof Exception exception ? exception : new IllegalStateException(cause);
+    }
+
+    private String resolveHost(String url) {
+        try {
+            String host = URI.create(url).getHost();
+            return host == null ? UNKNOWN_HOST : host.toLowerCase(Locale.ROOT);
+        } catch (Exception e) {
+            return UNKNOWN_HOST;
+        }
+    }
+
+    @Override
+    public void destroy() {
+        ioExecutor.shutdownNow();
+        parseExecutor.shutdownNow();
+    }
+
+    private record PendingPage<T>(String url, CompletableFuture<PageOutcome<T>> future) {
+    }
+}
@@ -0,0 +1,117 @@
+package com.techmoa.ingestion.domain;
+
+import com.techmoa.source.domain.Source;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "crawl_failures")
+public class CrawlFailure {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "crawl_failures_id_seq")
+    @SequenceGenerator(name = "crawl_failures_id_seq", sequenceName = "crawl_failures_id_seq", allocationSize = 50)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "source_id", nullable = false)
+    private Source source;
+
+    @Column(nullable = false)
+    private String url;
+
+    @Column(nullable = false, length = 200)
+    private String errorClass;
+
+    @Column
+    private String errorMessage;
+
+    @Column(nullable = false)
+    private Integer attemptCount;
+
+    @Column
+    private LocalDateTime nextRetryAt;
+
+    @Column(nullable = false)
+    private LocalDateTime firstFailedAt;
+
+    @Column(nullable = false)
+    private LocalDateTime lastFailedAt;
+
+    protected CrawlFailure() {
+    }
+
+    public CrawlFailure(Source source, String url) {
+        this.source = source;
+        this.url = url;
+        this.attemptCount = 0;
+        this.firstFailedAt = LocalDateTime.now();
+        this.lastFailedAt = this.firstFailedAt;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Source getSource() {
+        return source;
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    public String getErrorClass() {
+        return errorClass;
+    }
+
+    public String getErrorMessage() {
+        return errorMessage;
+    }
+
+    public Integer getAttemptCount() {
+        return attemptCount;
+    }
+
+    public LocalDateTime getNextRetryAt() {
+        return nextRetryAt;
+    }
+
+    public LocalDateTime getFirstFailedAt() {
+        return firstFailedAt;
+    }
+
+    public LocalDateTime getLastFailedAt() {
+        return lastFailedAt;
+    }
+
+    public void recordAttempt(String errorClass, String errorMessage, LocalDateTime failedAt) {
+        this.attemptCount++;
+        this.errorClass = truncate(errorClass, 200);
+        this.errorMessage = truncate(errorMessage, 1000);
+        this.lastFailedAt = failedAt;
+    }
+
+    public void scheduleRetry(LocalDateTime nextRetryAt) {
+        this.nextRetryAt = nextRetryAt;
+    }
+
+    private String truncate(String value, int maxLength) {
+        if (value == null) {
+            return null;
+        }
+        if (value.length() <= maxLength) {
+            return value;
+        }
+        return value.substring(0, maxLength);
+    }
+}
@@ -0,0 +1,48 @@
+package com.techmoa.ingestion.domain;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface CrawlFailureRepository extends JpaRepository<CrawlFailure, Long> {
+
+    List<CrawlFailure> findBySource_IdAndUrlIn(Long sourceId, Collection<String> urls);
+
+    @Query("""
+            select failure
+            from CrawlFailure failure
+            join fetch failure.source
+            where failure.nextRetryAt <= :now
+            order by failure.nextRetryAt
+            """)
+    List<CrawlFailure> findDue(@Param("now") LocalDateTime now, Pageable pageable);
+
+    @Transactional
+    @Modifying
+    @Query("""
+            update CrawlFailure failure
+            set failure.nextRetryAt = :claimUntil
+            where failure.id = :id
+              and failure.nextRetryAt <= :now
+            """)
+    int claim(
+            @Param("id") Long id,
+            @Param("now") LocalDateTime now,
+            @Param("claimUntil") LocalDateTime claimUntil
+    );
+
+    @Transactional
+    @Modifying
+    @Query("""
+            delete from CrawlFailure failure
+            where failure.source.id = :sourceId
+              and failure.url in :urls
+            """)
+    int deleteBySourceIdAndUrls(@Param("sourceId") Long sourceId, @Param("urls") Collection<String> urls);
+}
@@ -0,0 +1,79 @@
+package com.techmoa.ingestion.domain;
+
+import com.techmoa.source.domain.Source;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "fetch_validators")
+public class FetchValidator {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "fetch_validators_id_seq")
+    @SequenceGenerator(name = "fetch_validators_id_seq", sequenceName = "fetch_validators_id_seq", allocationSize = 50)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "source_id", nullable = false)
+    private Source source;
+
+    @Column(nullable = false)
+    private String url;
+
+    @Column(length = 500)
+    private String etag;
+
+    @Column(length = 100)
+    private String lastModified;
+
+    @Column
+    private LocalDateTime sitemapLastmod;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    protected FetchValidator() {
+    }
+
+    public FetchValidator(Source source, String url) {
+        this.source = source;
+        this.url = url;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    public String getEtag() {
+        return etag;
+    }
+
+    public String getLastModified() {
+        return lastModified;
+    }
+
+    public LocalDateTime getSitemapLastmod() {
+        return sitemapLastmod;
+    }
+
+    public void update(String etag, String lastModified) {
+        this.etag = etag;
+        this.lastModified = lastModified;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public void updateSitemapLastmod(LocalDateTime sitemapLastmod) {
+        this.sitemapLastmod = sitemapLastmod;
+        this.updatedAt = LocalDateTime.now();
+    }
+}
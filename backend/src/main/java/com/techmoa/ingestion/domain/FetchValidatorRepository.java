@@ -0,0 +1,9 @@
+package com.techmoa.ingestion.domain;
+
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface FetchValidatorRepository extends JpaRepository<FetchValidator, Long> {
+
+    List<FetchValidator> findBySource_Id(Long sourceId);
+}
@@ -11,6 +11,7 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import java.time.LocalDateTime;
 
@@ -19,7 +20,8 @@ import java.time.LocalDateTime;
 public class SyncJob {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "sync_jobs_id_seq")
+    @SequenceGenerator(name = "sync_jobs_id_seq", sequenceName = "sync_jobs_id_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY, optional = false)
@@ -42,36 +44,164 @@ public class SyncJob {
     @Column(nullable = false)
     private Integer failureCount;
 
+    @Column(nullable = false)
+    private Integer newPostCount;
+
+    @Column(nullable = false)
+    private Integer unchangedCount;
+
+    @Column(nullable = false)
+    private Integer discoveredCount;
+
+    @Column(nullable = false)
+    private Integer fetchedCount;
+
+    // 취소 요청은 관리자 API의 단건 UPDATE로만 기록한다. 수집 스레드가 엔티티를 저장하면서 덮어쓰지 않도록 막아 둔다.
+    @Column(nullable = false, updatable = false)
+    private Boolean cancelRequested;
+
     @Column
     private String errorMessage;
 
     protected SyncJob() {
     }
 
-    private SyncJob(Source source) {
+    private SyncJob(Source source, SyncJobStatus status) {
         this.source = source;
-        this.status = SyncJobStatus.RUNNING;
+        this.status = status;
         this.startedAt = LocalDateTime.now();
         this.successCount = 0;
         this.failureCount = 0;
+        this.newPostCount = 0;
+        this.unchangedCount = 0;
+        this.discoveredCount = 0;
+        this.fetchedCount = 0;
+        this.cancelRequested = false;
     }
 
     public static SyncJob start(Source source) {
-        return new SyncJob(source);
+        return new SyncJob(source, SyncJobStatus.RUNNING);
+    }
+
+    public static SyncJob queue(Source source) {
+        return new SyncJob(source, SyncJobStatus.QUEUED);
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Source getSource() {
+        return source;
     }
 
-    public void complete(int successCount) {
+    public SyncJobStatus getStatus() {
+        return status;
+    }
+
+    public LocalDateTime getStartedAt() {
+        return startedAt;
+    }
+
+    public LocalDateTime getEndedAt() {
+        return endedAt;
+    }
+
+    public Integer getSuccessCount() {
+        return successCount;
+    }
+
+    public Integer getFailureCount() {
+        return failureCount;
+    }
+
+    public Integer getNewPostCount() {
+        return newPostCount;
+    }
+
+    public Integer getUnchangedCount() {
+        return unchangedCount;
+    }
+
+    public Integer getDiscoveredCount() {
+        return discoveredCount;
+    }
+
+    public Integer getFetchedCount() {
+        return fetchedCount;
+    }
+
+    public Boolean getCancelRequested() {
+        return cancelRequested;
+    }
+
+    public boolean isFinished() {
+        return status == SyncJobStatus.COMPLETED
+                || status == SyncJobStatus.NOT_MODIFIED
+                || status == SyncJobStatus.FAILED
+                || status == SyncJobStatus.CANCELLED;
+    }
+
+    public void markRunning() {
+        this.status = SyncJobStatus.RUNNING;
+        this.startedAt = LocalDateTime.now();
+    }
+
+    public void recordProgress(int discoveredCount, int fetchedCount) {
+        this.discoveredCount = discoveredCount;
+        this.fetchedCount = fetchedCount;
+    }
+
+    public void recordSaved(int successCount) {
+        this.successCount = successCount;
+    }
+
+    public void recordUnchanged(int unchangedCount) {
+        this.unchangedCount = unchangedCount;
+    }
+
+    public void recordFailures(int failureCount) {
+        this.failureCount = failureCount;
+    }
+
+    public void recordPartialSave(int successCount, int newPostCount) {
+        this.successCount = successCount;
+        this.newPostCount = newPostCount;
+    }
+
+    public String getErrorMessage() {
+        return errorMessage;
+    }
+
+    public void complete(int successCount, int newPostCount) {
         this.status = SyncJobStatus.COMPLETED;
         this.endedAt = LocalDateTime.now();
         this.successCount = successCount;
+        this.newPostCount = newPostCount;
+        this.errorMessage = null;
+    }
+
+    public void markNotModified() {
+        this.status = SyncJobStatus.NOT_MODIFIED;
+        this.endedAt = LocalDateTime.now();
+        this.successCount = 0;
+        this.newPostCount = 0;
         this.failureCount = 0;
         this.errorMessage = null;
     }
 
+    public void cancel(int successCount, int newPostCount) {
+        this.status = SyncJobStatus.CANCELLED;
+        this.endedAt = LocalDateTime.now();
+        this.successCount = successCount;
+        this.newPostCount = newPostCount;
+    }
+
     public void fail(String errorMessage) {
         this.status = SyncJobStatus.FAILED;
         this.endedAt = LocalDateTime.now();
-        this.failureCount = 1;
+        // 글 단위 실패 수에 작업 자체의 실패 1건을 더한다.
+        this.failureCount = this.failureCount + 1;
         this.errorMessage = truncate(errorMessage, 1000);
     }
 
@@ -1,13 +1,81 @@
 package com.techmoa.ingestion.domain;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface SyncJobRepository extends JpaRepository<SyncJob, Long> {
 
-    @Query("select max(job.startedAt) from SyncJob job where job.source.id = :sourceId")
-    Optional<LocalDateTime> findLatestStartedAtBySourceId(@Param("sourceId") Long sourceId);
+    List<SyncJob> findTop10BySource_IdOrderByStartedAtDesc(Long sourceId);
+
+    @Query("""
+            select job
+            from SyncJob job
+            join fetch job.source
+            where job.id = :id
+            """)
+    Optional<SyncJob> findWithSourceById(@Param("id") Long id);
+
+    @Query("""
+            select job.id
+            from SyncJob job
+            where job.id in :ids
+              and job.cancelRequested = true
+            """)
+    List<Long> findCancelRequestedIds(@Param("ids") Collection<Long> ids);
+
+    @Transactional
+    @Modifying
+    @Query("""
+            update SyncJob job
+            set job.discoveredCount = :discoveredCount,
+                job.fetchedCount = :fetchedCount,
+                job.successCount = :successCount,
+                job.unchangedCount = :unchangedCount
+            where job.id = :id
+              and job.endedAt is null
+            """)
+    int updateProgress(
+            @Param("id") Long id,
+            @Param("discoveredCount") int discoveredCount,
+            @Param("fetchedCount") int fetchedCount,
+            @Param("successCount") int successCount,
+            @Param("unchangedCount") int unchangedCount
+    );
+
+    @Transactional
+    @Modifying
+    @Query("""
+            update SyncJob job
+            set job.cancelRequested = true
+            where job.id = :id
+              and job.endedAt is null
+            """)
+    int requestCancel(@Param("id") Long id);
+
+    @Transactional
+    @Modifying
+    @Query("""
+            update SyncJob job
+            set job.status = com.techmoa.ingestion.domain.SyncJobStatus.FAILED,
+                job.endedAt = :endedAt,
+                job.failureCount = 1,
+                job.errorMessage = :errorMessage
+            where job.source.id = :sourceId
+              and job.status in (
+                  com.techmoa.ingestion.domain.SyncJobStatus.QUEUED,
+                  com.techmoa.ingestion.domain.SyncJobStatus.RUNNING
+              )
+            """)
+    int failUnfinishedJobs(
+            @Param("sourceId") Long sourceId,
+            @Param("endedAt") LocalDateTime endedAt,
+            @Param("errorMessage") String errorMessage
+    );
 }
@@ -1,7 +1,10 @@
 package com.techmoa.ingestion.domain;
 
 public enum SyncJobStatus {
+    QUEUED,
     RUNNING,
     COMPLETED,
-    FAILED
+    NOT_MODIFIED,
+    FAILED,
+    CANCELLED
 }
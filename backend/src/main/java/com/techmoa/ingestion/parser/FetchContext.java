@@ -0,0 +1,125 @@
+package com.techmoa.ingestion.parser;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+public class FetchContext {
+
+    private final AtomicInteger discoveredCount = new AtomicInteger();
+    private final AtomicInteger fetchedCount = new AtomicInteger();
+    private final Map<String, HttpValidator> knownValidators = new ConcurrentHashMap<>();
+    private final Map<String, HttpValidator> observedValidators = new ConcurrentHashMap<>();
+    private final Map<String, LocalDateTime> knownSitemapLastmods = new ConcurrentHashMap<>();
+    private final Map<String, LocalDateTime> observedSitemapLastmods = new ConcurrentHashMap<>();
+    private final Map<String, FetchFailure> failures = new ConcurrentHashMap<>();
+    private volatile Function<Collection<String>, Map<String, LocalDateTime>> knownPostLookup = urls -> Map.of();
+    private volatile boolean cancelRequested;
+    private volatile boolean notModified;
+
+    public void addDiscovered(int count) {
+        discoveredCount.addAndGet(count);
+    }
+
+    public void addFetched(int count) {
+        fetchedCount.addAndGet(count);
+    }
+
+    public int getDiscoveredCount() {
+        return discoveredCount.get();
+    }
+
+    public int getFetchedCount() {
+        return fetchedCount.get();
+    }
+
+    public void requestCancel() {
+        cancelRequested = true;
+    }
+
+    public boolean isCancelRequested() {
+        return cancelRequested;
+    }
+
+    public void useKnownValidators(Map<String, HttpValidator> validators) {
+        knownValidators.putAll(validators);
+    }
+
+    public Optional<HttpValidator> knownValidator(String url) {
+        return Optional.ofNullable(knownValidators.get(url));
+    }
+
+    public void recordValidator(String url, HttpValidator validator) {
+        if (validator.isEmpty()) {
+            observedValidators.remove(url);
+            return;
+        }
+        observedValidators.put(url, validator);
+    }
+
+    public void discardValidator(String url) {
+        observedValidators.remove(url);
+        observedSitemapLastmods.remove(url);
+    }
+
+    public void discardObservedValidators() {
+        observedValidators.clear();
+        observedSitemapLastmods.clear();
+    }
+
+    public Map<String, HttpValidator> getObservedValidators() {
+        return Map.copyOf(observedValidators);
+    }
+
+    public void useKnownSitemapLastmods(Map<String, LocalDateTime> sitemapLastmods) {
+        knownSitemapLastmods.putAll(sitemapLastmods);
+    }
+
+    public Optional<LocalDateTime> knownSitemapLastmod(String url) {
+        return Optional.ofNullable(knownSitemapLastmods.get(url));
+    }
+
+    public void recordSitemapLastmod(String url, LocalDateTime lastmod) {
+        observedSitemapLastmods.put(url, lastmod);
+    }
+
+    public Map<String, LocalDateTime> getObservedSitemapLastmods() {
+        return Map.copyOf(observedSitemapLastmods);
+    }
+
+    public void useKnownPostLookup(Function<Collection<String>, Map<String, LocalDateTime>> lookup) {
+        this.knownPostLookup = lookup;
+    }
+
+    public Map<String, LocalDateTime> findKnownPostFetchedAt(Collection<String> urls) {
+        if (urls.isEmpty()) {
+            return Map.of();
+        }
+        return knownPostLookup.apply(urls);
+    }
+
+    public void recordFailure(String url, Throwable error) {
+        failures.put(url, FetchFailure.of(url, error));
+    }
+
+    public List<FetchFailure> getFailures() {
+        return List.copyOf(failures.values());
+    }
+
+    public int getFailureCount() {
+        return failures.size();
+    }
+
+    public void markNotModified() {
+        notModified = true;
+    }
+
+    public boolean isNotModified() {
+        return notModified;
+    }
+}
@@ -0,0 +1,12 @@
+package com.techmoa.ingestion.parser;
+
+public record FetchFailure(
+        String url,
+        String errorClass,
+        String message
+) {
+
+    public static FetchFailure of(String url, Throwable error) {
+        return new FetchFailure(url, error.getClass().getName(), error.getMessage());
+    }
+}
@@ -0,0 +1,10 @@
+package com.techmoa.ingestion.parser;
+
+public record HttpValidator(
+        String etag,
+        String lastModified
+) {
+    public boolean isEmpty() {
+        return (etag == null || etag.isBlank()) && (lastModified == null || lastModified.isBlank());
+    }
+}
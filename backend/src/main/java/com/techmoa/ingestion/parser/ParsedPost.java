@@ -9,6 +9,7 @@ public record ParsedPost(
         String summary,
         String author,
         String thumbnailUrl,
+        // 원문에 발행일이 없으면 null이다. 저장할 때 수집 시각으로 채운다.
         LocalDateTime publishedAt,
         List<String> tags
 ) {
@@ -1,10 +1,24 @@
 package com.techmoa.ingestion.parser;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface TechBlogParser {
 
     boolean supports(ParserType parserType);
 
     List<ParsedPost> fetch(SourceProfile sourceProfile);
+
+    default List<ParsedPost> fetch(SourceProfile sourceProfile, FetchContext context) {
+        // 한 번의 요청으로 끝나는 파서는 중간 진행률이 없으므로 결과만 집계한다.
+        List<ParsedPost> parsedPosts = fetch(sourceProfile);
+        context.addDiscovered(parsedPosts.size());
+        context.addFetched(parsedPosts.size());
+        return parsedPosts;
+    }
+
+    default void fetch(SourceProfile sourceProfile, FetchContext context, Consumer<ParsedPost> sink) {
+        // 글을 하나씩 만들어 내는 파서는 이 메서드를 재정의해 파싱하는 즉시 sink로 흘려보낸다.
+        fetch(sourceProfile, context).forEach(sink);
+    }
 }
@@ -8,11 +8,14 @@ import com.rometools.rome.feed.synd.SyndFeed;
 import com.rometools.rome.io.SyndFeedInput;
 import com.rometools.rome.io.XmlReader;
 import com.techmoa.common.url.UrlResolver;
+import com.techmoa.ingestion.crawler.CrawlResponse;
+import com.techmoa.ingestion.crawler.CrawlerHttpClient;
+import com.techmoa.ingestion.parser.FetchContext;
 import com.techmoa.ingestion.parser.ParsedPost;
 import com.techmoa.ingestion.parser.ParserType;
 import com.techmoa.ingestion.parser.SourceProfile;
 import com.techmoa.ingestion.parser.TechBlogParser;
-import java.net.URL;
+import java.io.IOException;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.Collections;
@@ -31,6 +34,12 @@ public class RssTechBlogParser implements TechBlogParser {
 
     private static final Logger log = LoggerFactory.getLogger(RssTechBlogParser.class);
 
+    private final CrawlerHttpClient crawlerHttpClient;
+
+    public RssTechBlogParser(CrawlerHttpClient crawlerHttpClient) {
+        this.crawlerHttpClient = crawlerHttpClient;
+    }
+
     @Override
     public boolean supports(ParserType parserType) {
         return ParserType.RSS == parserType;
@@ -38,17 +47,35 @@ public class RssTechBlogParser implements TechBlogParser {
 
     @Override
     public List<ParsedPost> fetch(SourceProfile sourceProfile) {
+        return fetch(sourceProfile, new FetchContext());
+    }
+
+    @Override
+    public List<ParsedPost> fetch(SourceProfile sourceProfile, FetchContext context) {
         if (sourceProfile.feedUrl() == null || sourceProfile.feedUrl().isBlank()) {
             log.warn("RSS source has no feedUrl. sourceName={}", sourceProfile.sourceName());
             return Collections.emptyList();
         }
 
-        try (XmlReader reader = new XmlReader(new URL(sourceProfile.feedUrl()))) {
-            SyndFeed feed = new SyndFeedInput().build(reader);
-            return feed.getEntries().stream()
+        String feedUrl = sourceProfile.feedUrl();
+        try (CrawlResponse response = crawlerHttpClient.get(feedUrl, context.knownValidator(feedUrl).orElse(null))) {
+            if (response.isNotModified()) {
+                log.debug("RSS feed not modified. sourceName={}", sourceProfile.sourceName());
+                context.markNotModified();
+                return Collections.emptyList();
+            }
+
+            SyndFeed feed = new SyndFeedInput().build(openReader(response));
+            List<ParsedPost> parsedPosts = feed.getEntries().stream()
                     .map(entry -> toParsedPost(entry, sourceProfile))
                     .filter(post -> post.canonicalUrl() != null && !post.canonicalUrl().isBlank())
                     .toList();
+            if (response.validator() != null) {
+                context.recordValidator(feedUrl, response.validator());
+            }
+            context.addDiscovered(parsedPosts.size());
+            context.addFetched(parsedPosts.size());
+            return parsedPosts;
         } catch (Exception e) {
             throw new IllegalStateException(
                     "Failed to parse RSS feed. sourceName=" + sourceProfile.sourceName(),
@@ -57,6 +84,13 @@ public class RssTechBlogParser implements TechBlogParser {
         }
     }
 
+    private XmlReader openReader(CrawlResponse response) throws IOException {
+        if (response.contentType() == null) {
+            return new XmlReader(response.body(), true);
+        }
+        return new XmlReader(response.body(), response.contentType(), true);
+    }
+
     private ParsedPost toParsedPost(SyndEntry entry, SourceProfile sourceProfile) {
         String canonicalUrl = entry.getLink();
 
@@ -74,7 +108,7 @@ public class RssTechBlogParser implements TechBlogParser {
     private LocalDateTime resolvePublishedAt(Date publishedDate, Date updatedDate) {
         Date resolvedDate = publishedDate == null ? updatedDate : publishedDate;
         if (resolvedDate == null) {
-            return LocalDateTime.now();
+            return null;
         }
         return LocalDateTime.ofInstant(resolvedDate.toInstant(), ZoneId.systemDefault());
     }
@@ -0,0 +1,9 @@
+package com.techmoa.ingestion.parser.sitemap;
+
+import java.time.LocalDateTime;
+
+record SitemapEntry(
+        String loc,
+        LocalDateTime lastmod
+) {
+}
@@ -0,0 +1,104 @@
+package com.techmoa.ingestion.parser.sitemap;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.GZIPInputStream;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+final class SitemapStreamReader {
+
+    private static final int GZIP_MAGIC_FIRST = 0x1f;
+    private static final int GZIP_MAGIC_SECOND = 0x8b;
+
+    interface EntryHandler {
+
+        boolean onChildSitemap(String loc, String lastmod);
+
+        boolean onUrl(String loc, String lastmod);
+    }
+
+    // 문서 전체를 트리로 올리지 않고 <sitemap>/<url> 항목을 읽는 즉시 넘기므로 파일 크기와 무관하게 메모리가 일정하다.
+    // 핸들러가 false를 돌려주면 나머지는 읽지 않는다.
+    void read(InputStream input, EntryHandler handler) throws IOException {
+        XMLStreamReader reader = null;
+        try {
+            reader = newInputFactory().createXMLStreamReader(decompressIfGzipped(input));
+            String container = null;
+            int depth = 0;
+            int containerDepth = -1;
+            String loc = null;
+            String lastmod = null;
+
+            while (reader.hasNext()) {
+                int event = reader.next();
+                if (event == XMLStreamConstants.START_ELEMENT) {
+                    depth++;
+                    String name = reader.getLocalName();
+                    if (container == null && (isNamed(name, "sitemap") || isNamed(name, "url"))) {
+                        container = name;
+                        containerDepth = depth;
+                        loc = null;
+                        lastmod = null;
+                    } else if (container != null && depth == containerDepth + 1 && isNamed(name, "loc")) {
+                        loc = reader.getElementText();
+                        depth--;
+                    } else if (container != null && depth == containerDepth + 1 && isNamed(name, "lastmod")) {
+                        lastmod = reader.getElementText();
+                        depth--;
+                    }
+                } else if (event == XMLStreamConstants.END_ELEMENT) {
+                    if (container != null && depth == containerDepth) {
+                        boolean proceed = isNamed(container, "sitemap")
+                                ? handler.onChildSitemap(loc, lastmod)
+                                : handler.onUrl(loc, lastmod);
+                        container = null;
+                        if (!proceed) {
+                            return;
+                        }
+                    }
+                    depth--;
+                }
+            }
+        } catch (XMLStreamException e) {
+            throw new IOException("Malformed sitemap XML: " + e.getMessage(), e);
+        } finally {
+            if (reader != null) {
+                try {
+                    reader.close();
+                } catch (XMLStreamException ignored) {
+                }
+            }
+        }
+    }
+
+    private XMLInputFactory newInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newFactory();
+        // 외부 엔티티·DTD를 막아 XXE와 엔티티 폭탄을 차단한다.
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        factory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, true);
+        factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+        return factory;
+    }
+
+    private InputStream decompressIfGzipped(InputStream input) throws IOException {
+        // .xml.gz 사이트맵은 Content-Encoding 없이 gzip 본문 그대로 내려오므로 매직 바이트로 판별한다.
+        BufferedInputStream buffered = new BufferedInputStream(input);
+        buffered.mark(2);
+        int first = buffered.read();
+        int second = buffered.read();
+        buffered.reset();
+        if (first == GZIP_MAGIC_FIRST && second == GZIP_MAGIC_SECOND) {
+            return new GZIPInputStream(buffered);
+        }
+        return buffered;
+    }
+
+    private boolean isNamed(String name, String expected) {
+        return name.equalsIgnoreCase(expected);
+    }
+}
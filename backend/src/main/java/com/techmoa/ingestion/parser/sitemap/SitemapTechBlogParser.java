@@ -1,17 +1,18 @@
 package com.techmoa.ingestion.parser.sitemap;
 
 import com.techmoa.common.url.UrlResolver;
+import com.techmoa.ingestion.crawler.CrawlResponse;
+import com.techmoa.ingestion.crawler.CrawlerHttpClient;
+import com.techmoa.ingestion.crawler.PipelinedPageFetcher;
+import com.techmoa.ingestion.parser.FetchContext;
 import com.techmoa.ingestion.parser.ParsedPost;
 import com.techmoa.ingestion.parser.ParserType;
 import com.techmoa.ingestion.parser.SourceProfile;
 import com.techmoa.ingestion.parser.TechBlogParser;
 import java.io.BufferedReader;
 import java.io.IOException;
-import java.io.InputStream;
 import java.io.InputStreamReader;
-import java.net.HttpURLConnection;
 import java.net.URI;
-import java.net.URLConnection;
 import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.time.LocalDate;
@@ -23,15 +24,17 @@ import java.time.format.DateTimeFormatter;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import org.jsoup.Jsoup;
+import java.util.function.Consumer;
 import org.jsoup.nodes.Document;
-import org.jsoup.nodes.Element;
-import org.jsoup.parser.Parser;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
@@ -41,16 +44,24 @@ public class SitemapTechBlogParser implements TechBlogParser {
 
     private static final Logger log = LoggerFactory.getLogger(SitemapTechBlogParser.class);
 
-    private static final int CONNECTION_TIMEOUT_MS = 10_000;
-    private static final int READ_TIMEOUT_MS = 10_000;
     private static final int MAX_SITEMAP_FILES = 300;
     private static final int MAX_POST_URLS = 20_000;
+    private static final int KNOWN_POST_LOOKUP_BATCH_SIZE = 500;
     private static final ZoneId DEFAULT_ZONE = ZoneId.systemDefault();
     private static final DateTimeFormatter ISO_LOCAL_DATE_TIME_SECONDS =
             DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
     private static final DateTimeFormatter ISO_LOCAL_DATE_TIME_MINUTES =
             DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
 
+    private final CrawlerHttpClient crawlerHttpClient;
+    private final PipelinedPageFetcher pipelinedPageFetcher;
+    private final SitemapStreamReader sitemapStreamReader = new SitemapStreamReader();
+
+    public SitemapTechBlogParser(CrawlerHttpClient crawlerHttpClient, PipelinedPageFetcher pipelinedPageFetcher) {
+        this.crawlerHttpClient = crawlerHttpClient;
+        this.pipelinedPageFetcher = pipelinedPageFetcher;
+    }
+
     @Override
     public boolean supports(ParserType parserType) {
         return ParserType.SITEMAP == parserType;
@@ -58,16 +69,85 @@ public class SitemapTechBlogParser implements TechBlogParser {
 
     @Override
     public List<ParsedPost> fetch(SourceProfile sourceProfile) {
-        String sitemapUrl = resolveSitemapUrl(sourceProfile);
-        Set<String> postUrls = collectPostUrls(sitemapUrl);
+        return fetch(sourceProfile, new FetchContext());
+    }
 
+    @Override
+    public List<ParsedPost> fetch(SourceProfile sourceProfile, FetchContext context) {
         List<ParsedPost> parsedPosts = new ArrayList<>();
-        for (String postUrl : postUrls) {
-            fetchPost(postUrl, sourceProfile.baseUrl()).ifPresent(parsedPosts::add);
-        }
+        fetch(sourceProfile, context, parsedPosts::add);
         return parsedPosts;
     }
 
+    @Override
+    public void fetch(SourceProfile sourceProfile, FetchContext context, Consumer<ParsedPost> sink) {
+        String sitemapUrl = resolveSitemapUrl(sourceProfile);
+        Map<String, String> parentSitemaps = new HashMap<>();
+        Map<String, String> postUrls = collectPostUrls(sitemapUrl, context, parentSitemaps);
+
+        // 글 페이지는 병렬로 받되 사이트맵 순서대로 sink에 넘긴다. 취소 요청이 오면 이미 띄운 요청까지만 반영한다.
+        try {
+            fetchPostPages(
+                    List.copyOf(postUrls.keySet()),
+                    sourceProfile.baseUrl(),
+                    context,
+                    sink,
+                    // 실패한 글이 다음 수집에서 304로 가려지지 않도록 이 글을 담은 사이트맵들의 검증자를 버린다.
+                    failedUrl -> discardValidators(postUrls.get(failedUrl), parentSitemaps, context)
+            );
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Sitemap crawl interrupted. sitemapUrl=" + sitemapUrl, e);
+        }
+        if (context.isCancelRequested()) {
+            log.info("Sitemap crawl cancelled. sitemapUrl={}, fetchedCount={}", sitemapUrl, context.getFetchedCount());
+        }
+    }
+
+    public void refetchPosts(
+            SourceProfile sourceProfile,
+            List<String> postUrls,
+            FetchContext context,
+            Consumer<ParsedPost> sink
+    ) {
+        // 사이트맵을 다시 읽지 않고 지난 수집에서 실패한 글 페이지만 다시 받는다.
+        context.addDiscovered(postUrls.size());
+        try {
+            fetchPostPages(postUrls, sourceProfile.baseUrl(), context, sink, failedUrl -> { });
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Post refetch interrupted. sourceName=" + sourceProfile.sourceName(), e);
+        }
+    }
+
+    private void fetchPostPages(
+            List<String> postUrls,
+            String sourceBaseUrl,
+            FetchContext context,
+            Consumer<ParsedPost> sink,
+            Consumer<String> onFailure
+    ) throws InterruptedException {
+        pipelinedPageFetcher.fetchInOrder(
+                postUrls,
+                context,
+                (postUrl, document) -> extractPost(document, postUrl, sourceBaseUrl).orElse(null),
+                outcome -> {
+                    context.addFetched(1);
+                    if (outcome.isFailed()) {
+                        log.warn(
+                                "Failed to parse post page. postUrl={}, message={}",
+                                outcome.url(),
+                                outcome.error().getMessage()
+                        );
+                        context.recordFailure(outcome.url(), outcome.error());
+                        onFailure.accept(outcome.url());
+                    } else if (outcome.value() != null) {
+                        sink.accept(outcome.value());
+                    }
+                }
+        );
+    }
+
     private String resolveSitemapUrl(SourceProfile sourceProfile) {
         if (sourceProfile.feedUrl() != null && !sourceProfile.feedUrl().isBlank()) {
             return sourceProfile.feedUrl().trim();
@@ -80,115 +160,254 @@ public class SitemapTechBlogParser implements TechBlogParser {
         return sourceProfile.baseUrl().replaceAll("/+$", "") + "/sitemap.xml";
     }
 
-    private Set<String> collectPostUrls(String rootSitemapUrl) {
-        Deque<String> pending = new ArrayDeque<>();
-        Set<String> visitedSitemaps = new LinkedHashSet<>();
-        Set<String> postUrls = new LinkedHashSet<>();
-        pending.add(rootSitemapUrl);
+    private Map<String, String> collectPostUrls(
+            String rootSitemapUrl,
+            FetchContext context,
+            Map<String, String> parentSitemaps
+    ) {
+        return new SitemapCrawl(rootSitemapUrl, context, parentSitemaps).collect();
+    }
+
+    private boolean isUnchangedSitemap(SitemapEntry child, FetchContext context) {
+        // lastmod가 지난 수집 때와 같거나 이전이면 하위 사이트맵을 내려받지 않는다.
+        if (child.lastmod() == null) {
+            return false;
+        }
+        return context.knownSitemapLastmod(child.loc())
+                .map(known -> !child.lastmod().isAfter(known))
+                .orElse(false);
+    }
 
-        while (!pending.isEmpty()) {
-            String sitemapUrl = pending.removeFirst();
-            if (!visitedSitemaps.add(sitemapUrl)) {
-                continue;
+    private boolean isUnchangedPost(SitemapEntry url, Map<String, LocalDateTime> knownPosts) {
+        // 이미 저장된 글이고 마지막 수집이 lastmod 이후라면 본문을 다시 받을 필요가 없다.
+        LocalDateTime fetchedAt = knownPosts.get(url.loc());
+        return url.lastmod() != null && fetchedAt != null && fetchedAt.isAfter(url.lastmod());
+    }
+
+    private boolean readSitemap(
+            String sitemapUrl,
+            FetchContext context,
+            SitemapStreamReader.EntryHandler handler
+    ) throws IOException {
+        try (CrawlResponse response = crawlerHttpClient.get(sitemapUrl, context.knownValidator(sitemapUrl).orElse(null))) {
+            if (response.isNotModified()) {
+                return false;
+            }
+            sitemapStreamReader.read(response.body(), handler);
+            if (response.validator() != null) {
+                context.recordValidator(sitemapUrl, response.validator());
             }
+            return true;
+        }
+    }
+
+    private SitemapEntry toEntry(String sitemapUrl, String rawLoc, String rawLastmod) {
+        String loc = normalizeText(rawLoc);
+        if (loc == null) {
+            return null;
+        }
+        String lastmod = normalizeText(rawLastmod);
+        return new SitemapEntry(resolveUrl(sitemapUrl, loc), lastmod == null ? null : parseDateTime(lastmod));
+    }
 
-            if (visitedSitemaps.size() > MAX_SITEMAP_FILES) {
-                log.warn("Too many sitemap files. rootSitemapUrl={}", rootSitemapUrl);
-                break;
+    private final class SitemapCrawl {
+
+        private final String rootSitemapUrl;
+        private final FetchContext context;
+        private final Map<String, String> parentSitemaps;
+        private final Deque<String> pending = new ArrayDeque<>();
+        private final Set<String> visitedSitemaps = new HashSet<>();
+        private final Map<String, LocalDateTime> childLastmods = new HashMap<>();
+        private final Map<String, String> postUrls = new LinkedHashMap<>();
+        private final List<SitemapEntry> urlBatch = new ArrayList<>();
+        private int downloadedCount;
+        private int notModifiedCount;
+        private int skippedSitemapCount;
+        private int skippedPostCount;
+        private boolean truncated;
+
+        private SitemapCrawl(String rootSitemapUrl, FetchContext context, Map<String, String> parentSitemaps) {
+            this.rootSitemapUrl = rootSitemapUrl;
+            this.context = context;
+            this.parentSitemaps = parentSitemaps;
+        }
+
+        private Map<String, String> collect() {
+            pending.add(rootSitemapUrl);
+            while (!pending.isEmpty() && !truncated && !context.isCancelRequested()) {
+                String sitemapUrl = pending.removeFirst();
+                if (!visitedSitemaps.add(sitemapUrl)) {
+                    continue;
+                }
+
+                if (visitedSitemaps.size() > MAX_SITEMAP_FILES) {
+                    log.warn("Too many sitemap files. rootSitemapUrl={}", rootSitemapUrl);
+                    context.discardObservedValidators();
+                    break;
+                }
+                crawlSitemap(sitemapUrl);
             }
 
-            Document sitemapDocument;
+            if (skippedSitemapCount > 0 || skippedPostCount > 0) {
+                log.debug(
+                        "Skipped unchanged sitemap entries. rootSitemapUrl={}, skippedSitemaps={}, skippedPosts={}",
+                        rootSitemapUrl,
+                        skippedSitemapCount,
+                        skippedPostCount
+                );
+            }
+            if (downloadedCount == 0 && notModifiedCount > 0) {
+                context.markNotModified();
+            }
+            return postUrls;
+        }
+
+        private void crawlSitemap(String sitemapUrl) {
+            boolean downloaded;
             try {
-                sitemapDocument = fetchDocument(sitemapUrl, Parser.xmlParser());
+                downloaded = readSitemap(sitemapUrl, context, new SitemapStreamReader.EntryHandler() {
+                    @Override
+                    public boolean onChildSitemap(String loc, String lastmod) {
+                        SitemapEntry child = toEntry(sitemapUrl, loc, lastmod);
+                        if (child != null) {
+                            enqueueChild(sitemapUrl, child);
+                        }
+                        return true;
+                    }
+
+                    @Override
+                    public boolean onUrl(String loc, String lastmod) {
+                        SitemapEntry url = toEntry(sitemapUrl, loc, lastmod);
+                        if (url != null) {
+                            urlBatch.add(url);
+                        }
+                        return urlBatch.size() < KNOWN_POST_LOOKUP_BATCH_SIZE || flushUrls(sitemapUrl);
+                    }
+                });
             } catch (Exception e) {
                 log.warn("Failed to read sitemap. sitemapUrl={}, message={}", sitemapUrl, e.getMessage());
-                continue;
+                flushUrls(sitemapUrl);
+                discardValidators(sitemapUrl, parentSitemaps, context);
+                return;
             }
+            flushUrls(sitemapUrl);
 
-            List<String> childSitemaps = extractLocValues(sitemapDocument, "sitemap").stream()
-                    .map(value -> resolveUrl(sitemapUrl, value))
-                    .toList();
-            if (!childSitemaps.isEmpty()) {
-                pending.addAll(childSitemaps);
-                continue;
+            LocalDateTime lastmod = childLastmods.get(sitemapUrl);
+            if (lastmod != null) {
+                context.recordSitemapLastmod(sitemapUrl, lastmod);
+            }
+            if (downloaded) {
+                downloadedCount++;
+            } else {
+                // 바뀌지 않은 사이트맵의 글은 이전 수집에서 이미 반영되었다.
+                notModifiedCount++;
             }
+        }
 
-            List<String> urls = extractLocValues(sitemapDocument, "url").stream()
-                    .map(value -> resolveUrl(sitemapUrl, value))
-                    .toList();
+        private void enqueueChild(String sitemapUrl, SitemapEntry child) {
+            parentSitemaps.putIfAbsent(child.loc(), sitemapUrl);
+            if (isUnchangedSitemap(child, context)) {
+                skippedSitemapCount++;
+                return;
+            }
+            if (child.lastmod() != null) {
+                childLastmods.putIfAbsent(child.loc(), child.lastmod());
+            }
+            pending.add(child.loc());
+        }
 
-            for (String url : urls) {
+        private boolean flushUrls(String sitemapUrl) {
+            if (urlBatch.isEmpty() || truncated) {
+                urlBatch.clear();
+                return !truncated;
+            }
+            Map<String, LocalDateTime> knownPosts = context.findKnownPostFetchedAt(urlBatch.stream()
+                    .filter(url -> url.lastmod() != null)
+                    .map(SitemapEntry::loc)
+                    .toList());
+
+            for (SitemapEntry url : urlBatch) {
+                if (isUnchangedPost(url, knownPosts)) {
+                    skippedPostCount++;
+                    continue;
+                }
                 if (postUrls.size() >= MAX_POST_URLS) {
                     log.warn("Too many post URLs. rootSitemapUrl={}", rootSitemapUrl);
-                    return postUrls;
+                    context.discardObservedValidators();
+                    truncated = true;
+                    break;
+                }
+                if (postUrls.putIfAbsent(url.loc(), sitemapUrl) == null) {
+                    context.addDiscovered(1);
                 }
-                postUrls.add(url);
             }
+            urlBatch.clear();
+            return !truncated;
         }
-
-        return postUrls;
     }
 
-    private Optional<ParsedPost> fetchPost(String postUrl, String sourceBaseUrl) {
-        try {
-            Document document = fetchDocument(postUrl, Parser.htmlParser());
-            String title = firstNonBlank(
-                    metaContent(document, "meta[property=og:title]"),
-                    metaContent(document, "meta[name=twitter:title]"),
-                    document.title(),
-                    text(document, "article h1"),
-                    text(document, "main h1"),
-                    text(document, "h1")
-            );
-            if (title == null) {
-                log.debug("Skipping post with empty title. postUrl={}", postUrl);
-                return Optional.empty();
-            }
-
-            String canonicalUrl = firstNonBlank(
-                    attr(document, "link[rel=canonical]", "href"),
-                    metaContent(document, "meta[property=og:url]"),
-                    postUrl
-            );
-            canonicalUrl = firstNonBlank(
-                    UrlResolver.resolveAbsoluteUrl(canonicalUrl, postUrl, sourceBaseUrl),
-                    postUrl
-            );
+    private void discardValidators(String sitemapUrl, Map<String, String> parentSitemaps, FetchContext context) {
+        String current = sitemapUrl;
+        while (current != null) {
+            context.discardValidator(current);
+            current = parentSitemaps.get(current);
+        }
+    }
 
-            String summary = firstNonBlank(
-                    metaContent(document, "meta[name=description]"),
-                    metaContent(document, "meta[property=og:description]"),
-                    text(document, "article p"),
-                    text(document, "main p")
-            );
-            String author = firstNonBlank(
-                    metaContent(document, "meta[name=author]"),
-                    metaContent(document, "meta[property=article:author]"),
-                    metaContent(document, "meta[name=twitter:creator]")
-            );
-            String thumbnailUrl = firstNonBlank(
-                    metaContent(document, "meta[property=og:image]"),
-                    metaContent(document, "meta[name=twitter:image]"),
-                    attr(document, "article img[src]", "src"),
-                    attr(document, "main img[src]", "src")
-            );
-            thumbnailUrl = UrlResolver.resolveAbsoluteUrl(thumbnailUrl, canonicalUrl, postUrl, sourceBaseUrl);
-            LocalDateTime publishedAt = resolvePublishedAt(document).orElse(LocalDateTime.now());
-            List<String> tags = resolveTags(document);
-
-            return Optional.of(new ParsedPost(
-                    title,
-                    canonicalUrl,
-                    summary,
-                    author,
-                    thumbnailUrl,
-                    publishedAt,
-                    tags
-            ));
-        } catch (Exception e) {
-            log.warn("Failed to parse post page. postUrl={}, message={}", postUrl, e.getMessage());
+    private Optional<ParsedPost> extractPost(Document document, String postUrl, String sourceBaseUrl) {
+        String title = firstNonBlank(
+                metaContent(document, "meta[property=og:title]"),
+                metaContent(document, "meta[name=twitter:title]"),
+                document.title(),
+                text(document, "article h1"),
+                text(document, "main h1"),
+                text(document, "h1")
+        );
+        if (title == null) {
+            log.debug("Skipping post with empty title. postUrl={}", postUrl);
             return Optional.empty();
         }
+
+        String canonicalUrl = firstNonBlank(
+                attr(document, "link[rel=canonical]", "href"),
+                metaContent(document, "meta[property=og:url]"),
+                postUrl
+        );
+        canonicalUrl = firstNonBlank(
+                UrlResolver.resolveAbsoluteUrl(canonicalUrl, postUrl, sourceBaseUrl),
+                postUrl
+        );
+
+        String summary = firstNonBlank(
+                metaContent(document, "meta[name=description]"),
+                metaContent(document, "meta[property=og:description]"),
+                text(document, "article p"),
+                text(document, "main p")
+        );
+        String author = firstNonBlank(
+                metaContent(document, "meta[name=author]"),
+                metaContent(document, "meta[property=article:author]"),
+                metaContent(document, "meta[name=twitter:creator]")
+        );
+        String thumbnailUrl = firstNonBlank(
+                metaContent(document, "meta[property=og:image]"),
+                metaContent(document, "meta[name=twitter:image]"),
+                attr(document, "article img[src]", "src"),
+                attr(document, "main img[src]", "src")
+        );
+        thumbnailUrl = UrlResolver.resolveAbsoluteUrl(thumbnailUrl, canonicalUrl, postUrl, sourceBaseUrl);
+        LocalDateTime publishedAt = resolvePublishedAt(document).orElse(null);
+        List<String> tags = resolveTags(document);
+
+        return Optional.of(new ParsedPost(
+                title,
+                canonicalUrl,
+                summary,
+                author,
+                thumbnailUrl,
+                publishedAt,
+                tags
+        ));
     }
 
     private Optional<LocalDateTime> resolvePublishedAt(Document document) {
@@ -307,28 +526,6 @@ public class SitemapTechBlogParser implements TechBlogParser {
         return null;
     }
 
-    private Document fetchDocument(String url, Parser parser) throws IOException {
-        URLConnection connection = openConnection(url);
-        try (InputStream inputStream = connection.getInputStream()) {
-            return Jsoup.parse(inputStream, StandardCharsets.UTF_8.name(), url, parser);
-        }
-    }
-
-    private URLConnection openConnection(String url) throws IOException {
-        URLConnection connection = URI.create(url).toURL().openConnection();
-        try {
-            connection.setConnectTimeout(CONNECTION_TIMEOUT_MS);
-            connection.setReadTimeout(READ_TIMEOUT_MS);
-        } catch (UnsupportedOperationException ignored) {
-        }
-        if (connection instanceof HttpURLConnection http) {
-            http.setRequestProperty("User-Agent", "TechmoaBot/1.0");
-            http.setRequestProperty("Accept-Language", Locale.KOREAN.toLanguageTag());
-            http.setInstanceFollowRedirects(true);
-        }
-        return connection;
-    }
-
     private String resolveUrl(String baseUrl, String rawUrl) {
         try {
             return URI.create(baseUrl).resolve(rawUrl).toString();
@@ -337,39 +534,13 @@ public class SitemapTechBlogParser implements TechBlogParser {
         }
     }
 
-    private List<String> extractLocValues(Document document, String containerTagName) {
-        LinkedHashSet<String> values = new LinkedHashSet<>();
-        for (Element element : document.getAllElements()) {
-            if (!hasTagName(element, containerTagName)) {
-                continue;
-            }
-
-            for (Element child : element.children()) {
-                if (!hasTagName(child, "loc")) {
-                    continue;
-                }
-                String value = normalizeText(child.text());
-                if (value != null) {
-                    values.add(value);
-                }
-            }
-        }
-        return List.copyOf(values);
-    }
-
-    private boolean hasTagName(Element element, String expectedName) {
-        String tagName = element.tagName().toLowerCase(Locale.ROOT);
-        String lowerExpected = expectedName.toLowerCase(Locale.ROOT);
-        return tagName.equals(lowerExpected) || tagName.endsWith(":" + lowerExpected);
-    }
-
     public Optional<String> discoverSitemapUrlFromRobots(String baseUrl) {
         String robotsUrl = baseUrl.replaceAll("/+$", "") + "/robots.txt";
         try {
-            URLConnection connection = openConnection(robotsUrl);
-            try (BufferedReader reader = new BufferedReader(
-                    new InputStreamReader(connection.getInputStream(), StandardCharsets.UTF_8)
-            )) {
+            try (CrawlResponse response = crawlerHttpClient.get(robotsUrl);
+                 BufferedReader reader = new BufferedReader(
+                         new InputStreamReader(response.body(), StandardCharsets.UTF_8)
+                 )) {
                 String line;
                 while ((line = reader.readLine()) != null) {
                     String trimmed = line.trim();
@@ -1,20 +1,176 @@
 package com.techmoa.ingestion.scheduler;
 
 import com.techmoa.ingestion.application.SourceSyncService;
+import com.techmoa.ingestion.application.SyncSchedulePolicy;
+import com.techmoa.source.application.SourceChangedEvent;
+import com.techmoa.source.domain.Source;
+import com.techmoa.source.domain.SourceRepository;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 @Component
 public class SourceSyncScheduler {
 
+    private static final Logger log = LoggerFactory.getLogger(SourceSyncScheduler.class);
+
+    private final SourceRepository sourceRepository;
     private final SourceSyncService sourceSyncService;
+    private final SyncSchedulePolicy syncSchedulePolicy;
+    private final boolean enabled;
+
+    private final DelayQueue<DueSource> dueQueue = new DelayQueue<>();
+    private final Set<Long> inFlight = ConcurrentHashMap.newKeySet();
+    private final Map<Long, Source> refreshedWhileRunning = new HashMap<>();
+    private final Set<Long> deactivatedWhileRunning = new HashSet<>();
+    private volatile Thread dispatcher;
 
-    public SourceSyncScheduler(SourceSyncService sourceSyncService) {
+    public SourceSyncScheduler(
+            SourceRepository sourceRepository,
+            SourceSyncService sourceSyncService,
+            SyncSchedulePolicy syncSchedulePolicy,
+            @Value("${techmoa.sync.enabled:true}") boolean enabled
+    ) {
+        this.sourceRepository = sourceRepository;
         this.sourceSyncService = sourceSyncService;
+        this.syncSchedulePolicy = syncSchedulePolicy;
+        this.enabled = enabled;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            log.info("Source sync scheduler disabled.");
+            return;
+        }
+        reload();
+        dispatcher = Thread.ofPlatform()
+                .name("source-sync-dispatcher")
+                .daemon(true)
+                .start(this::dispatchLoop);
+    }
+
+    @PreDestroy
+    public void stop() {
+        Thread current = dispatcher;
+        if (current != null) {
+            current.interrupt();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSourceChanged(SourceChangedEvent event) {
+        if (dispatcher != null) {
+            reload();
+        }
+    }
+
+    @Scheduled(
+            initialDelayString = "${techmoa.sync.reload-interval-ms:600000}",
+            fixedDelayString = "${techmoa.sync.reload-interval-ms:600000}"
+    )
+    public void reloadPeriodically() {
+        // 다른 경로(직접 SQL 수정 등)로 바뀐 소스 설정을 주기적으로 한 번의 쿼리로 맞춘다.
+        if (dispatcher != null) {
+            reload();
+        }
+    }
+
+    synchronized void reload() {
+        List<Source> activeSources = sourceRepository.findByActiveTrue();
+        LocalDateTime now = LocalDateTime.now();
+
+        dueQueue.clear();
+        deactivatedWhileRunning.clear();
+        deactivatedWhileRunning.addAll(inFlight);
+        for (Source source : activeSources) {
+            if (inFlight.contains(source.getId())) {
+                deactivatedWhileRunning.remove(source.getId());
+                refreshedWhileRunning.put(source.getId(), source);
+                continue;
+            }
+            LocalDateTime dueAt = source.getNextSyncAt() == null
+                    ? syncSchedulePolicy.initialSyncAt(now)
+                    : source.getNextSyncAt();
+            dueQueue.offer(new DueSource(source, dueAt));
+        }
+
+        log.info("Source sync schedule loaded. queuedCount={}, runningCount={}", dueQueue.size(), inFlight.size());
+    }
+
+    private void dispatchLoop() {
+        while (!Thread.currentThread().isInterrupted()) {
+            DueSource due;
+            try {
+                due = dueQueue.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+
+            Source source = due.source();
+            if (!inFlight.add(source.getId())) {
+                continue;
+            }
+            try {
+                sourceSyncService.submitSync(source)
+                        .whenComplete((ignored, error) -> reschedule(source));
+            } catch (RuntimeException e) {
+                log.error("Failed to dispatch source sync. sourceName={}", source.getName(), e);
+                reschedule(source);
+            }
+        }
     }
 
-    @Scheduled(fixedDelayString = "${techmoa.sync.fixed-delay-ms:600000}")
-    public void syncActiveSources() {
-        sourceSyncService.syncActiveSources();
+    private synchronized void reschedule(Source finished) {
+        Long sourceId = finished.getId();
+        inFlight.remove(sourceId);
+        if (deactivatedWhileRunning.remove(sourceId)) {
+            return;
+        }
+
+        Source latest = refreshedWhileRunning.remove(sourceId);
+        Source next = latest == null ? finished : latest;
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime dueAt = finished.getNextSyncAt();
+        if (dueAt == null || !dueAt.isAfter(now)) {
+            dueAt = syncSchedulePolicy.nextSyncAt(next, now);
+        }
+        next.scheduleNextSync(dueAt);
+        dueQueue.offer(new DueSource(next, dueAt));
+    }
+
+    private record DueSource(Source source, LocalDateTime dueAt) implements Delayed {
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            long delayNanos = Duration.between(LocalDateTime.now(), dueAt).toNanos();
+            return unit.convert(delayNanos, TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            if (other instanceof DueSource otherDue) {
+                return dueAt.compareTo(otherDue.dueAt);
+            }
+            return Long.compare(getDelay(TimeUnit.NANOSECONDS), other.getDelay(TimeUnit.NANOSECONDS));
+        }
     }
 }
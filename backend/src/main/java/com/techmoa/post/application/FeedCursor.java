@@ -0,0 +1,9 @@
+package com.techmoa.post.application;
+
+import java.time.LocalDateTime;
+
+public record FeedCursor(
+        LocalDateTime publishedAt,
+        Long id
+) {
+}
@@ -0,0 +1,86 @@
+package com.techmoa.post.application;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class FeedCursorCodec {
+
+    private static final String MAC_ALGORITHM = "HmacSHA256";
+    private static final byte VERSION = 1;
+    private static final int PAYLOAD_LENGTH = 1 + Long.BYTES + Integer.BYTES + Long.BYTES + Integer.BYTES;
+    private static final int MAC_LENGTH = 16;
+
+    private final SecretKeySpec key;
+
+    public FeedCursorCodec(@Value("${techmoa.feed.cursor-secret:}") String secret) {
+        if (secret == null || secret.isBlank()) {
+            throw new IllegalArgumentException("techmoa.feed.cursor-secret must not be blank. Set TECHMOA_FEED_CURSOR_SECRET");
+        }
+        this.key = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), MAC_ALGORITHM);
+    }
+
+    // 커서는 만들 때의 필터에서만 이어진다. 출처 순서는 결과에 영향이 없으므로 정렬해 해시한다.
+    public static int filterHash(List<Long> sourceIds, String tagName, String keyword) {
+        List<Long> sortedSourceIds = sourceIds == null ? null : sourceIds.stream().sorted().toList();
+        return Arrays.asList(sortedSourceIds, tagName, keyword).hashCode();
+    }
+
+    public String encode(FeedCursor cursor, int filterHash) {
+        ByteBuffer buffer = ByteBuffer.allocate(PAYLOAD_LENGTH + MAC_LENGTH);
+        buffer.put(VERSION);
+        buffer.putLong(cursor.publishedAt().toEpochSecond(ZoneOffset.UTC));
+        buffer.putInt(cursor.publishedAt().getNano());
+        buffer.putLong(cursor.id());
+        buffer.putInt(filterHash);
+        buffer.put(sign(buffer.array(), PAYLOAD_LENGTH));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+    }
+
+    public FeedCursor decode(String token, int filterHash) {
+        byte[] bytes;
+        try {
+            bytes = Base64.getUrlDecoder().decode(token);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        if (bytes.length != PAYLOAD_LENGTH + MAC_LENGTH || bytes[0] != VERSION) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        byte[] mac = Arrays.copyOfRange(bytes, PAYLOAD_LENGTH, bytes.length);
+        if (!MessageDigest.isEqual(mac, sign(bytes, PAYLOAD_LENGTH))) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(bytes, 1, PAYLOAD_LENGTH - 1);
+        long epochSecond = buffer.getLong();
+        int nano = buffer.getInt();
+        long id = buffer.getLong();
+        if (buffer.getInt() != filterHash) {
+            throw new IllegalArgumentException("Cursor does not match the current filters");
+        }
+        return new FeedCursor(LocalDateTime.ofEpochSecond(epochSecond, nano, ZoneOffset.UTC), id);
+    }
+
+    private byte[] sign(byte[] bytes, int length) {
+        try {
+            Mac mac = Mac.getInstance(MAC_ALGORITHM);
+            mac.init(key);
+            mac.update(bytes, 0, length);
+            return Arrays.copyOf(mac.doFinal(), MAC_LENGTH);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Failed to sign feed cursor", e);
+        }
+    }
+}
@@ -0,0 +1,265 @@
+package com.techmoa.post.application;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.techmoa.post.presentation.dto.PostFeedResponse;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// 자주 보는 피드(전체, 소스 하나, 태그 하나)의 앞쪽 몇 페이지를 Redis에 둔다.
+// 글이 들어오면 버전만 올리고, 이전 버전 페이지는 새로 읽는 동안 잠깐 더 내준다.
+@Component
+public class PostFeedCache {
+
+    private static final Logger log = LoggerFactory.getLogger(PostFeedCache.class);
+    private static final String VERSION_KEY = "techmoa:feed:version";
+    private static final String PAGE_KEY_PREFIX = "techmoa:feed:page:";
+    private static final String DEPTH_KEY_PREFIX = "techmoa:feed:depth:";
+    private static final String FIRST_PAGE = "first";
+
+    private final PostQueryService postQueryService;
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final int maxPages;
+    private final long freshTtlMs;
+    private final Duration staleTtl;
+    private final long revalidateWaitMs;
+    private final int redisFailureThreshold;
+    private final long redisOpenMs;
+    // 연달아 실패하면 잠깐 Redis를 건너뛰어 장애 중에도 요청마다 타임아웃을 기다리지 않게 한다.
+    private final AtomicInteger redisFailures = new AtomicInteger();
+    private volatile long redisSkipUntilMs;
+    private final ExecutorService revalidateExecutor =
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("feed-cache-revalidate-", 0).factory());
+    private final Map<String, CompletableFuture<PostFeedResponse>> revalidations = new ConcurrentHashMap<>();
+
+    public PostFeedCache(
+            PostQueryService postQueryService,
+            StringRedisTemplate redisTemplate,
+            ObjectMapper objectMapper,
+            @Value("${techmoa.feed.cache.enabled:true}") boolean enabled,
+            @Value("${techmoa.feed.cache.max-pages:3}") int maxPages,
+            @Value("${techmoa.feed.cache.fresh-ttl-ms:30000}") long freshTtlMs,
+            @Value("${techmoa.feed.cache.stale-ttl-ms:600000}") long staleTtlMs,
+            @Value("${techmoa.feed.cache.revalidate-wait-ms:300}") long revalidateWaitMs,
+            @Value("${techmoa.feed.cache.redis-failure-threshold:3}") int redisFailureThreshold,
+            @Value("${techmoa.feed.cache.redis-open-ms:10000}") long redisOpenMs
+    ) {
+        this.postQueryService = postQueryService;
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.maxPages = Math.max(1, maxPages);
+        this.freshTtlMs = Math.max(0, freshTtlMs);
+        this.staleTtl = Duration.ofMillis(Math.max(this.freshTtlMs, staleTtlMs));
+        this.revalidateWaitMs = Math.max(0, revalidateWaitMs);
+        this.redisFailureThreshold = Math.max(1, redisFailureThreshold);
+        this.redisOpenMs = Math.max(0, redisOpenMs);
+    }
+
+    public PostFeedResponse getFeed(
+            String cursor,
+            Integer size,
+            List<Long> sourceIds,
+            String tagName,
+            String q
+    ) {
+        String variant = enabled && isRedisUsable() ? variantOf(sourceIds, tagName, q) : null;
+        if (variant == null) {
+            return postQueryService.getFeed(cursor, size, sourceIds, tagName, q);
+        }
+
+        String token = PostQueryService.normalizeText(cursor);
+        String field = variant + ":" + PostQueryService.normalizeSize(size) + ":" + (token == null ? FIRST_PAGE : token);
+        Lookup lookup;
+        try {
+            lookup = lookup(field, token == null);
+            redisSucceeded();
+        } catch (Exception e) {
+            // Redis가 없거나 느려도 피드는 DB에서 바로 내준다.
+            log.warn("Failed to read feed cache. message={}", e.getMessage());
+            redisFailed();
+            return postQueryService.getFeed(cursor, size, sourceIds, tagName, q);
+        }
+
+        // 캐시된 페이지에서 이어진 커서가 아니면 몇 번째 페이지인지 알 수 없으므로 담지 않는다.
+        if (lookup.page() == null) {
+            return postQueryService.getFeed(cursor, size, sourceIds, tagName, q);
+        }
+        CachedFeedPage cached = lookup.cached();
+        if (cached != null && cached.version() == lookup.version()
+                && System.currentTimeMillis() - cached.cachedAtMs() < freshTtlMs) {
+            return cached.response();
+        }
+
+        CompletableFuture<PostFeedResponse> revalidation = revalidations.computeIfAbsent(field, ignored ->
+                CompletableFuture.supplyAsync(() -> {
+                    PostFeedResponse response = postQueryService.getFeed(cursor, size, sourceIds, tagName, q);
+                    store(field, variant, size, lookup.version(), lookup.page(), response);
+                    return response;
+                }, revalidateExecutor)
+        );
+        // computeIfAbsent 안에서 지우면 이미 끝난 작업이 맵을 재귀 갱신하거나 남아 버리므로, 넣은 뒤에 자기 자신만 지운다.
+        revalidation.whenComplete((response, error) -> revalidations.remove(field, revalidation));
+        if (cached == null) {
+            return join(revalidation);
+        }
+        // 지난 페이지가 있으면 DB가 잠깐 안에 답하지 못하거나 실패할 때 그것을 내주고, 새로 읽은 결과는 뒤에서 채운다.
+        try {
+            return revalidation.get(revalidateWaitMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException | ExecutionException e) {
+            return cached.response();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return cached.response();
+        }
+    }
+
+    // 새로 들어오거나 바뀐 글이 커밋된 뒤에 버전을 올린다. 이전 버전 페이지는 다시 읽힐 때까지 지난 값으로만 쓰인다.
+    public void invalidateAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            bumpVersion();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                bumpVersion();
+            }
+        });
+    }
+
+    @PreDestroy
+    public void close() {
+        revalidateExecutor.shutdownNow();
+    }
+
+    // 검색어가 있거나 필터를 섞은 피드는 조합이 너무 많아 담지 않는다.
+    private String variantOf(List<Long> sourceIds, String tagName, String q) {
+        if (PostQueryService.normalizeText(q) != null) {
+            return null;
+        }
+        List<Long> normalizedSourceIds = PostQueryService.normalizeSourceIds(sourceIds);
+        String normalizedTagName = PostQueryService.normalizeText(tagName);
+        if (normalizedSourceIds != null && normalizedTagName != null) {
+            return null;
+        }
+        if (normalizedSourceIds != null) {
+            return normalizedSourceIds.size() == 1 ? "source:" + normalizedSourceIds.getFirst() : null;
+        }
+        return normalizedTagName == null ? "all" : "tag:" + normalizedTagName;
+    }
+
+    private Lookup lookup(String field, boolean firstPage) {
+        List<String> values = redisTemplate.opsForValue().multiGet(Arrays.asList(
+                VERSION_KEY,
+                PAGE_KEY_PREFIX + field,
+                DEPTH_KEY_PREFIX + field
+        ));
+        long version = values == null || values.get(0) == null ? 0L : Long.parseLong(values.get(0));
+        CachedFeedPage cached = values == null ? null : readPage(values.get(1));
+        Integer page = null;
+        if (firstPage) {
+            page = 1;
+        } else if (values != null && values.get(2) != null) {
+            page = Integer.parseInt(values.get(2));
+        }
+        return new Lookup(version, page, cached);
+    }
+
+    private void store(String field, String variant, Integer size, long version, int page, PostFeedResponse response) {
+        try {
+            CachedFeedPage cachedPage = new CachedFeedPage(version, System.currentTimeMillis(), response);
+            redisTemplate.opsForValue().set(PAGE_KEY_PREFIX + field, objectMapper.writeValueAsString(cachedPage), staleTtl);
+            if (response.nextCursor() != null && page < maxPages) {
+                String nextField = variant + ":" + PostQueryService.normalizeSize(size) + ":" + response.nextCursor();
+                redisTemplate.opsForValue().set(DEPTH_KEY_PREFIX + nextField, Integer.toString(page + 1), staleTtl);
+            }
+            redisSucceeded();
+        } catch (Exception e) {
+            log.warn("Failed to write feed cache. message={}", e.getMessage());
+            redisFailed();
+        }
+    }
+
+    private CachedFeedPage readPage(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(value, CachedFeedPage.class);
+        } catch (JsonProcessingException e) {
+            // 응답 모양이 바뀐 배포 직후의 값은 없는 것으로 본다.
+            return null;
+        }
+    }
+
+    private void bumpVersion() {
+        // 버전을 못 올리면 fresh-ttl이 지날 때까지 이전 페이지가 나간다.
+        if (!isRedisUsable()) {
+            return;
+        }
+        try {
+            redisTemplate.opsForValue().increment(VERSION_KEY);
+            redisSucceeded();
+        } catch (Exception e) {
+            log.warn("Failed to invalidate feed cache. message={}", e.getMessage());
+            redisFailed();
+        }
+    }
+
+    private boolean isRedisUsable() {
+        return System.currentTimeMillis() >= redisSkipUntilMs;
+    }
+
+    private void redisSucceeded() {
+        redisFailures.set(0);
+    }
+
+    private void redisFailed() {
+        // 건너뛰는 시간이 끝난 뒤 첫 시도도 실패하면 곧바로 다시 건너뛴다.
+        if (redisFailures.incrementAndGet() >= redisFailureThreshold) {
+            redisSkipUntilMs = System.currentTimeMillis() + redisOpenMs;
+            log.warn("Skipping feed cache for {}ms after {} consecutive Redis failures.", redisOpenMs, redisFailures.get());
+        }
+    }
+
+    private PostFeedResponse join(CompletableFuture<PostFeedResponse> revalidation) {
+        try {
+            return revalidation.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while loading feed", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Failed to load feed", e.getCause());
+        }
+    }
+
+    record CachedFeedPage(long version, long cachedAtMs, PostFeedResponse response) {
+    }
+
+    private record Lookup(long version, Integer page, CachedFeedPage cached) {
+    }
+}
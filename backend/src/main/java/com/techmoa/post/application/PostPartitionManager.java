@@ -0,0 +1,66 @@
+package com.techmoa.post.application;
+
+import com.techmoa.post.domain.PostRepository;
+import java.time.LocalDateTime;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+@Component
+public class PostPartitionManager {
+
+    private static final Logger log = LoggerFactory.getLogger(PostPartitionManager.class);
+
+    private final PostRepository postRepository;
+    private final int monthsAhead;
+    // 이 시각 이후의 월 파티션은 이미 있다고 본다. 오래된 글이 들어올 때만 DB에 다시 묻는다.
+    private volatile LocalDateTime coveredFrom;
+
+    public PostPartitionManager(
+            PostRepository postRepository,
+            @Value("${techmoa.post.partition.months-ahead:3}") int monthsAhead
+    ) {
+        this.postRepository = postRepository;
+        this.monthsAhead = Math.max(1, monthsAhead);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${techmoa.post.partition.maintain-cron:0 0 3 * * *}")
+    public void createUpcomingPartitions() {
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            int created = postRepository.ensurePartitions(now, now.plusMonths(monthsAhead));
+            if (created > 0) {
+                log.info("Created upcoming post partitions. createdCount={}, monthsAhead={}", created, monthsAhead);
+            }
+            if (coveredFrom == null || now.isBefore(coveredFrom)) {
+                coveredFrom = now;
+            }
+        } catch (Exception e) {
+            // 파티션이 모자라도 글은 DEFAULT 파티션에 들어가므로 수집을 막지 않는다.
+            log.warn("Failed to create upcoming post partitions. message={}", e.getMessage());
+        }
+    }
+
+    // 파티션 DDL이 수집 트랜잭션 내내 부모 테이블 잠금을 쥐지 않도록 따로 커밋한다.
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void ensureCovering(LocalDateTime oldestPublishedAt) {
+        LocalDateTime covered = coveredFrom;
+        if (oldestPublishedAt == null || (covered != null && !oldestPublishedAt.isBefore(covered))) {
+            return;
+        }
+
+        LocalDateTime to = covered == null ? LocalDateTime.now() : covered;
+        int created = postRepository.ensurePartitions(oldestPublishedAt, to);
+        if (created > 0) {
+            log.info("Created post partitions for backfilled posts. createdCount={}, from={}", created, oldestPublishedAt);
+        }
+        coveredFrom = oldestPublishedAt;
+    }
+}
@@ -1,16 +1,26 @@
 package com.techmoa.post.application;
 
-import com.techmoa.post.domain.Post;
+import com.techmoa.post.domain.PostDetailRow;
+import com.techmoa.post.domain.PostFeedQuery;
+import com.techmoa.post.domain.PostFeedRow;
 import com.techmoa.post.domain.PostRepository;
+import com.techmoa.post.domain.PostTagName;
 import com.techmoa.post.presentation.dto.PostDetailResponse;
 import com.techmoa.post.presentation.dto.PostFeedResponse;
 import com.techmoa.post.presentation.dto.PostItemResponse;
+import com.techmoa.post.presentation.dto.PostSearchResponse;
+import com.techmoa.tag.application.TagDictionary;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.NoSuchElementException;
-import org.springframework.data.domain.PageRequest;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.regex.Pattern;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -19,16 +29,39 @@ public class PostQueryService {
 
     private static final int DEFAULT_SIZE = 20;
     private static final int MAX_SIZE = 100;
+    private static final long RECENT_WINDOW_DAYS = 90;
+    private static final long OLDEST_POST_REFRESH_MS = 300_000;
+    private static final int MAX_SEARCH_WINDOW = 1000;
+    private static final Pattern LEGACY_CURSOR = Pattern.compile("\\d{1,18}");
+    private static final LocalDateTime OLDEST_PUBLISHED_AT = LocalDateTime.of(1900, 1, 1, 0, 0);
+    // 첫 페이지는 모든 글보다 뒤에 있는 가상의 커서에서 시작한다.
+    private static final FeedCursor FIRST_PAGE_ANCHOR = new FeedCursor(
+            LocalDateTime.of(9999, 12, 31, 0, 0),
+            Long.MAX_VALUE
+    );
 
     private final PostRepository postRepository;
-
-    public PostQueryService(PostRepository postRepository) {
+    private final PostSearchIndex postSearchIndex;
+    private final FeedCursorCodec feedCursorCodec;
+    private final TagDictionary tagDictionary;
+    // 가장 오래된 글의 발행일. 백필로만 앞당겨지므로 잠깐 묵은 값을 써도 된다.
+    private volatile OldestPost oldestPost;
+
+    public PostQueryService(
+            PostRepository postRepository,
+            PostSearchIndex postSearchIndex,
+            FeedCursorCodec feedCursorCodec,
+            TagDictionary tagDictionary
+    ) {
         this.postRepository = postRepository;
+        this.postSearchIndex = postSearchIndex;
+        this.feedCursorCodec = feedCursorCodec;
+        this.tagDictionary = tagDictionary;
     }
 
     @Transactional(readOnly = true)
     public PostFeedResponse getFeed(
-            Long cursor,
+            String cursor,
             Integer size,
             List<Long> sourceIds,
             String tagName,
@@ -37,32 +70,53 @@ public class PostQueryService {
         int normalizedSize = normalizeSize(size);
         List<Long> normalizedSourceIds = normalizeSourceIds(sourceIds);
         String normalizedTagName = normalizeText(tagName);
-        String normalizedKeyword = normalizeText(q);
-        CursorAnchor cursorAnchor = resolveCursorAnchor(cursor);
-
-        List<Post> loaded;
-        if (normalizedSourceIds == null) {
-            loaded = postRepository.findFeed(
-                    cursorAnchor == null ? null : cursorAnchor.id(),
-                    cursorAnchor == null ? null : cursorAnchor.publishedAt(),
-                    normalizedTagName,
-                    normalizedKeyword,
-                    PageRequest.of(0, normalizedSize + 1)
-            );
-        } else {
-            loaded = postRepository.findFeedBySourceIds(
-                    cursorAnchor == null ? null : cursorAnchor.id(),
-                    cursorAnchor == null ? null : cursorAnchor.publishedAt(),
+        String normalizedKeyword = normalizeKeyword(q);
+        int filterHash = FeedCursorCodec.filterHash(normalizedSourceIds, normalizedTagName, normalizedKeyword);
+        FeedCursor cursorAnchor = resolveCursorAnchor(cursor, filterHash);
+        Long tagId = null;
+        if (normalizedTagName != null) {
+            // 태그 이름은 여기서 한 번만 id로 바꾼다. 없는 태그라면 찾을 글도 없다.
+            Optional<Long> foundTagId = tagDictionary.findId(normalizedTagName);
+            if (foundTagId.isEmpty()) {
+                return new PostFeedResponse(List.of(), null, false);
+            }
+            tagId = foundTagId.get();
+        }
+
+        FeedCursor anchor = cursorAnchor == null ? FIRST_PAGE_ANCHOR : cursorAnchor;
+        // 커서에서 몇 달 안쪽 파티션만 읽는다. 그 안에 글이 있으면 페이지가 덜 차도 그대로 내주고
+        // 다음 커서로 이어 가게 해서, 한 페이지는 쿼리 한 번으로 끝난다.
+        LocalDateTime windowEnd = cursorAnchor == null ? LocalDateTime.now() : cursorAnchor.publishedAt();
+        LocalDateTime windowStart = windowEnd.minusDays(RECENT_WINDOW_DAYS);
+        List<PostFeedRow> loaded = loadFeed(
+                anchor,
+                windowStart,
+                normalizedSourceIds,
+                tagId,
+                normalizedKeyword,
+                normalizedSize + 1
+        );
+        boolean olderPostsMayExist = loaded.size() <= normalizedSize && hasPostsBefore(windowStart);
+        if (loaded.isEmpty() && olderPostsMayExist) {
+            // 구간 안에 글이 하나도 없을 때(오래 쉰 소스, 드문 태그)만 전체 기간으로 넓힌다.
+            loaded = loadFeed(
+                    anchor,
+                    OLDEST_PUBLISHED_AT,
                     normalizedSourceIds,
-                    normalizedTagName,
+                    tagId,
                     normalizedKeyword,
-                    PageRequest.of(0, normalizedSize + 1)
+                    normalizedSize + 1
             );
+            olderPostsMayExist = false;
         }
 
-        boolean hasNext = loaded.size() > normalizedSize;
-        List<Post> page = hasNext ? loaded.subList(0, normalizedSize) : loaded;
-        Long nextCursor = hasNext && !page.isEmpty() ? page.get(page.size() - 1).getId() : null;
+        boolean hasNext = loaded.size() > normalizedSize || (!loaded.isEmpty() && olderPostsMayExist);
+        List<PostFeedRow> page = hasNext ? loaded.subList(0, normalizedSize) : loaded;
+        String nextCursor = null;
+        if (hasNext && !page.isEmpty()) {
+            PostFeedRow last = page.get(page.size() - 1);
+            nextCursor = feedCursorCodec.encode(new FeedCursor(last.publishedAt(), last.id()), filterHash);
+        }
 
         return new PostFeedResponse(
                 page.stream().map(PostItemResponse::from).toList(),
@@ -71,24 +125,86 @@ public class PostQueryService {
         );
     }
 
+    private boolean hasPostsBefore(LocalDateTime bound) {
+        OldestPost cached = oldestPost;
+        if (cached == null || System.currentTimeMillis() - cached.checkedAtMs() >= OLDEST_POST_REFRESH_MS) {
+            cached = new OldestPost(postRepository.findOldestPublishedAt().orElse(null), System.currentTimeMillis());
+            oldestPost = cached;
+        }
+        return cached.publishedAt() != null && cached.publishedAt().isBefore(bound);
+    }
+
+    private List<PostFeedRow> loadFeed(
+            FeedCursor anchor,
+            LocalDateTime lowerBound,
+            List<Long> sourceIds,
+            Long tagId,
+            String keyword,
+            int limit
+    ) {
+        return postRepository.findFeed(new PostFeedQuery(
+                anchor.publishedAt(),
+                anchor.id(),
+                lowerBound,
+                sourceIds,
+                tagId,
+                keyword,
+                limit
+        ));
+    }
+
+    @Transactional(readOnly = true)
+    public PostSearchResponse search(String q, Integer page, Integer size) {
+        String keyword = normalizeText(q);
+        if (keyword == null) {
+            throw new IllegalArgumentException("q must not be blank");
+        }
+        int normalizedSize = normalizeSize(size);
+        int normalizedPage = page == null || page < 0 ? 0 : page;
+        int offset = normalizedPage * normalizedSize;
+        if (offset + normalizedSize > MAX_SEARCH_WINDOW) {
+            throw new IllegalArgumentException("Search page is too deep. Narrow the query instead");
+        }
+
+        // 순위는 색인이 정하고, DB에는 id로만 묻는다.
+        PostSearchHits hits = postSearchIndex.search(keyword, offset, normalizedSize);
+        Map<Long, PostFeedRow> rowsById = new HashMap<>();
+        postRepository.findFeedRowsByIdIn(hits.postIds()).forEach(row -> rowsById.put(row.id(), row));
+        List<PostItemResponse> items = hits.postIds().stream()
+                .map(rowsById::get)
+                .filter(Objects::nonNull)
+                .map(PostItemResponse::from)
+                .toList();
+
+        return new PostSearchResponse(items, hits.totalHits(), hits.totalHits() > offset + normalizedSize);
+    }
+
     @Transactional(readOnly = true)
     public PostDetailResponse getPostDetail(Long postId) {
-        Post post = postRepository.findDetailById(postId)
+        PostDetailRow row = postRepository.findDetailById(postId)
                 .orElseThrow(() -> new NoSuchElementException("Post not found: " + postId));
-        return PostDetailResponse.from(post);
+        List<String> tagNames = postRepository.findTagNames(List.of(postId)).stream()
+                .map(PostTagName::tagName)
+                .toList();
+        return PostDetailResponse.from(row, tagNames);
     }
 
-    private CursorAnchor resolveCursorAnchor(Long cursorId) {
-        if (cursorId == null) {
+    private FeedCursor resolveCursorAnchor(String cursor, int filterHash) {
+        if (cursor == null || cursor.isBlank()) {
             return null;
         }
+        String token = cursor.trim();
+        if (!LEGACY_CURSOR.matcher(token).matches()) {
+            return feedCursorCodec.decode(token, filterHash);
+        }
 
-        return postRepository.findById(cursorId)
-                .map(post -> new CursorAnchor(post.getId(), post.getPublishedAt()))
+        // 배포 전환 중 예전 클라이언트가 보낸 숫자 커서(글 id). 기준 글을 한 번 더 읽어야 한다.
+        return postRepository.findById(Long.parseLong(token))
+                .map(post -> new FeedCursor(post.getPublishedAt(), post.getId()))
                 .orElse(null);
     }
 
-    private int normalizeSize(Integer size) {
+    static int normalizeSize(Integer size) {
         if (size == null) {
             return DEFAULT_SIZE;
         }
@@ -98,14 +214,20 @@ public class PostQueryService {
         return Math.min(size, MAX_SIZE);
     }
 
-    private String normalizeText(String value) {
+    static String normalizeText(String value) {
         if (value == null || value.isBlank()) {
             return null;
         }
         return value.trim();
     }
 
-    private List<Long> normalizeSourceIds(List<Long> sourceIds) {
+    private String normalizeKeyword(String q) {
+        // searchText가 소문자로 저장되므로 검색어도 같은 규칙으로 맞춘다.
+        String keyword = normalizeText(q);
+        return keyword == null ? null : keyword.toLowerCase(Locale.ROOT);
+    }
+
+    static List<Long> normalizeSourceIds(List<Long> sourceIds) {
         if (sourceIds == null || sourceIds.isEmpty()) {
             return null;
         }
@@ -125,6 +247,6 @@ public class PostQueryService {
         return new ArrayList<>(normalized);
     }
 
-    private record CursorAnchor(Long id, LocalDateTime publishedAt) {
+    private record OldestPost(LocalDateTime publishedAt, long checkedAtMs) {
     }
 }
@@ -0,0 +1,11 @@
+package com.techmoa.post.application;
+
+import java.util.List;
+
+public record PostSearchDocument(
+        Long postId,
+        String title,
+        String summary,
+        List<String> tagNames
+) {
+}
@@ -0,0 +1,13 @@
+package com.techmoa.post.application;
+
+import java.util.List;
+
+public record PostSearchHits(
+        List<Long> postIds,
+        long totalHits
+) {
+
+    public static PostSearchHits empty() {
+        return new PostSearchHits(List.of(), 0);
+    }
+}
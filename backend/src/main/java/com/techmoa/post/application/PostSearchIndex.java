@@ -0,0 +1,181 @@
+package com.techmoa.post.application;
+
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.cjk.CJKAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.util.QueryBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class PostSearchIndex {
+
+    private static final String ID_FIELD = "id";
+    private static final String TITLE_FIELD = "title";
+    private static final String SUMMARY_FIELD = "summary";
+    private static final String TAGS_FIELD = "tags";
+    private static final String WATERMARK_KEY = "updatedAtWatermark";
+    private static final Map<String, Float> FIELD_BOOSTS = Map.of(
+            TITLE_FIELD, 3.0f,
+            TAGS_FIELD, 2.0f,
+            SUMMARY_FIELD, 1.0f
+    );
+
+    // 한글/한자/가나는 두 글자씩 겹쳐 자르고(bigram), 영문은 단어 단위로 소문자화한다.
+    private final Analyzer analyzer = new CJKAnalyzer();
+    private final FSDirectory directory;
+    private final IndexWriter indexWriter;
+    private final SearcherManager searcherManager;
+    private volatile LocalDateTime watermark;
+
+    public PostSearchIndex(@Value("${techmoa.search.index-dir:./data/search-index}") String indexDir) {
+        try {
+            directory = FSDirectory.open(Path.of(indexDir));
+            IndexWriterConfig config = new IndexWriterConfig(analyzer)
+                    .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND);
+            indexWriter = new IndexWriter(directory, config);
+            searcherManager = new SearcherManager(indexWriter, null);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open post search index: " + indexDir, e);
+        }
+        watermark = readWatermark();
+    }
+
+    public void index(Collection<PostSearchDocument> documents) {
+        if (documents.isEmpty()) {
+            return;
+        }
+        try {
+            for (PostSearchDocument document : documents) {
+                indexWriter.updateDocument(new Term(ID_FIELD, document.postId().toString()), toLuceneDocument(document));
+            }
+            searcherManager.maybeRefresh();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to update post search index", e);
+        }
+    }
+
+    public PostSearchHits search(String keyword, int offset, int limit) {
+        Query query = buildQuery(keyword);
+        if (query == null) {
+            return PostSearchHits.empty();
+        }
+
+        IndexSearcher searcher;
+        try {
+            searcher = searcherManager.acquire();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to acquire post search index", e);
+        }
+        try {
+            TopDocs topDocs = searcher.search(query, offset + limit);
+            StoredFields storedFields = searcher.storedFields();
+            List<Long> postIds = new ArrayList<>();
+            ScoreDoc[] scoreDocs = topDocs.scoreDocs;
+            for (int i = offset; i < scoreDocs.length; i++) {
+                postIds.add(Long.parseLong(storedFields.document(scoreDocs[i].doc).get(ID_FIELD)));
+            }
+            return new PostSearchHits(postIds, topDocs.totalHits.value);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to search post index", e);
+        } finally {
+            release(searcher);
+        }
+    }
+
+    // 디스크에 반영하면서 이 시각 이전에 바뀐 글은 모두 색인됐다고 기록한다. 재시작하면 이 시각부터 따라잡는다.
+    public void commit(LocalDateTime indexedThrough) {
+        try {
+            indexWriter.setLiveCommitData(Map.of(WATERMARK_KEY, indexedThrough.toString()).entrySet());
+            indexWriter.commit();
+            watermark = indexedThrough;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to commit post search index", e);
+        }
+    }
+
+    public LocalDateTime getWatermark() {
+        return watermark;
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        searcherManager.close();
+        indexWriter.close();
+        directory.close();
+    }
+
+    private Query buildQuery(String keyword) {
+        // 검색어의 모든 토큰이 들어 있는 필드가 하나라도 있으면 걸리고, 제목 > 태그 > 요약 순으로 점수를 더 준다.
+        QueryBuilder queryBuilder = new QueryBuilder(analyzer);
+        BooleanQuery.Builder builder = new BooleanQuery.Builder();
+        int clauses = 0;
+        for (Map.Entry<String, Float> fieldBoost : FIELD_BOOSTS.entrySet()) {
+            Query fieldQuery = queryBuilder.createBooleanQuery(fieldBoost.getKey(), keyword, BooleanClause.Occur.MUST);
+            if (fieldQuery != null) {
+                builder.add(new BoostQuery(fieldQuery, fieldBoost.getValue()), BooleanClause.Occur.SHOULD);
+                clauses++;
+            }
+        }
+        return clauses == 0 ? null : builder.build();
+    }
+
+    private Document toLuceneDocument(PostSearchDocument document) {
+        Document luceneDocument = new Document();
+        luceneDocument.add(new StringField(ID_FIELD, document.postId().toString(), Field.Store.YES));
+        luceneDocument.add(new TextField(TITLE_FIELD, document.title(), Field.Store.NO));
+        if (document.summary() != null) {
+            luceneDocument.add(new TextField(SUMMARY_FIELD, document.summary(), Field.Store.NO));
+        }
+        if (!document.tagNames().isEmpty()) {
+            luceneDocument.add(new TextField(TAGS_FIELD, String.join(" ", document.tagNames()), Field.Store.NO));
+        }
+        return luceneDocument;
+    }
+
+    private LocalDateTime readWatermark() {
+        Iterable<Map.Entry<String, String>> commitData = indexWriter.getLiveCommitData();
+        if (commitData == null) {
+            return null;
+        }
+        for (Map.Entry<String, String> entry : commitData) {
+            if (WATERMARK_KEY.equals(entry.getKey())) {
+                return LocalDateTime.parse(entry.getValue());
+            }
+        }
+        return null;
+    }
+
+    private void release(IndexSearcher searcher) {
+        try {
+            searcherManager.release(searcher);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to release post search index", e);
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package com.techmoa.post.application;
+
+import com.techmoa.post.domain.PostRepository;
+import com.techmoa.post.domain.PostSearchRow;
+import com.techmoa.post.domain.PostTagName;
+import jakarta.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Component
+public class PostSearchIndexer {
+
+    private static final Logger log = LoggerFactory.getLogger(PostSearchIndexer.class);
+    private static final int CATCH_UP_BATCH_SIZE = 500;
+    private static final LocalDateTime EPOCH = LocalDateTime.of(1900, 1, 1, 0, 0);
+
+    private final PostRepository postRepository;
+    private final PostSearchIndex postSearchIndex;
+    private final long catchUpMarginMs;
+    private final AtomicBoolean catchingUp = new AtomicBoolean();
+    private final ExecutorService catchUpExecutor = Executors.newSingleThreadExecutor(
+            Thread.ofPlatform().name("search-index-catch-up").daemon(true).factory()
+    );
+
+    public PostSearchIndexer(
+            PostRepository postRepository,
+            PostSearchIndex postSearchIndex,
+            @Value("${techmoa.search.catch-up-margin-ms:300000}") long catchUpMarginMs
+    ) {
+        this.postRepository = postRepository;
+        this.postSearchIndex = postSearchIndex;
+        this.catchUpMarginMs = Math.max(0, catchUpMarginMs);
+    }
+
+    public void indexAfterCommit(List<PostSearchDocument> documents) {
+        if (documents.isEmpty()) {
+            return;
+        }
+        // 롤백된 글이 검색되지 않도록 커밋된 뒤에 색인한다.
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            indexQuietly(documents);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                indexQuietly(documents);
+            }
+        });
+    }
+
+    // 첫 기동에는 글 전체를 색인하므로 준비 이벤트와 스케줄러 스레드를 붙잡지 않도록 전용 스레드에서 돈다.
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(
+            initialDelayString = "${techmoa.search.catch-up-interval-ms:60000}",
+            fixedDelayString = "${techmoa.search.catch-up-interval-ms:60000}"
+    )
+    public void scheduleCatchUp() {
+        if (catchingUp.get()) {
+            return;
+        }
+        try {
+            catchUpExecutor.execute(this::catchUp);
+        } catch (RejectedExecutionException e) {
+            log.debug("Post search index catch-up skipped during shutdown.");
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        // 인터럽트는 Lucene 파일 채널을 닫아 색인을 망가뜨리므로, 배치 사이에서 스스로 멈추게 한다.
+        catchUpExecutor.shutdown();
+    }
+
+    // 다른 워커가 저장한 글, 색인 중 실패한 글, 디스크에 반영되기 전에 프로세스가 죽어 잃은 글을 DB에서 다시 읽어 메운다.
+    void catchUp() {
+        if (!catchingUp.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            LocalDateTime startedAt = LocalDateTime.now();
+            LocalDateTime since = postSearchIndex.getWatermark();
+            int indexedCount = indexUpdatedSince(since == null ? EPOCH : since);
+
+            // 시작 시각 직전에 열린 트랜잭션은 더 이른 updated_at으로 나중에 커밋될 수 있어 여유를 두고 기록한다.
+            LocalDateTime watermark = startedAt.minusNanos(catchUpMarginMs * 1_000_000L);
+            if (since != null && watermark.isBefore(since)) {
+                watermark = since;
+            }
+            postSearchIndex.commit(watermark);
+            if (since == null || indexedCount > 0) {
+                log.info("Post search index caught up. indexedCount={}, watermark={}", indexedCount, watermark);
+            }
+        } catch (Exception e) {
+            log.warn("Failed to catch up post search index. message={}", e.getMessage());
+        } finally {
+            catchingUp.set(false);
+        }
+    }
+
+    private int indexUpdatedSince(LocalDateTime since) {
+        LocalDateTime cursorUpdatedAt = since;
+        Long cursorId = 0L;
+        int indexedCount = 0;
+        while (!catchUpExecutor.isShutdown()) {
+            List<PostSearchRow> rows = postRepository.findSearchRowsUpdatedAfter(
+                    cursorUpdatedAt,
+                    cursorId,
+                    PageRequest.of(0, CATCH_UP_BATCH_SIZE)
+            );
+            if (rows.isEmpty()) {
+                return indexedCount;
+            }
+            postSearchIndex.index(toDocuments(rows));
+            indexedCount += rows.size();
+
+            PostSearchRow last = rows.getLast();
+            cursorUpdatedAt = last.updatedAt();
+            cursorId = last.id();
+            if (rows.size() < CATCH_UP_BATCH_SIZE) {
+                return indexedCount;
+            }
+        }
+        // 끝까지 읽지 못했으므로 워터마크를 남기지 않는다. 다음 기동 때 이전 워터마크부터 다시 읽는다.
+        throw new CancellationException("Post search index catch-up stopped by shutdown");
+    }
+
+    private List<PostSearchDocument> toDocuments(List<PostSearchRow> rows) {
+        Map<Long, List<String>> tagNamesByPostId = new HashMap<>();
+        for (PostTagName tagName : postRepository.findTagNames(rows.stream().map(PostSearchRow::id).toList())) {
+            tagNamesByPostId.computeIfAbsent(tagName.postId(), ignored -> new ArrayList<>()).add(tagName.tagName());
+        }
+        return rows.stream()
+                .map(row -> new PostSearchDocument(
+                        row.id(),
+                        row.title(),
+                        row.summary(),
+                        tagNamesByPostId.getOrDefault(row.id(), List.of())
+                ))
+                .toList();
+    }
+
+    private void indexQuietly(List<PostSearchDocument> documents) {
+        try {
+            postSearchIndex.index(documents);
+        } catch (Exception e) {
+            // 다음 따라잡기에서 DB 기준으로 다시 색인된다.
+            log.warn("Failed to index upserted posts. count={}, message={}", documents.size(), e.getMessage());
+        }
+    }
+}
@@ -2,34 +2,175 @@ package com.techmoa.post.application;
 
 import com.techmoa.ingestion.parser.ParsedPost;
 import com.techmoa.post.domain.Post;
+import com.techmoa.post.domain.PostContentHash;
+import com.techmoa.post.domain.PostFetchStamp;
 import com.techmoa.post.domain.PostRepository;
+import com.techmoa.post.domain.PostTagLinks;
+import com.techmoa.post.domain.PostUpsertOutcome;
+import com.techmoa.post.domain.PostUpsertRow;
 import com.techmoa.source.domain.Source;
+import com.techmoa.tag.application.TagDictionary;
 import com.techmoa.tag.domain.Tag;
 import com.techmoa.tag.domain.TagRepository;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.TreeSet;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
 public class PostUpsertService {
 
+    private static final int BULK_UPSERT_BATCH_SIZE = 500;
+    private static final int FETCH_STAMP_BATCH_SIZE = 500;
+
     private final PostRepository postRepository;
     private final TagRepository tagRepository;
+    private final TagDictionary tagDictionary;
+    private final PostPartitionManager postPartitionManager;
+    private final PostSearchIndexer postSearchIndexer;
+    private final PostFeedCache postFeedCache;
 
-    public PostUpsertService(PostRepository postRepository, TagRepository tagRepository) {
+    public PostUpsertService(
+            PostRepository postRepository,
+            TagRepository tagRepository,
+            TagDictionary tagDictionary,
+            PostPartitionManager postPartitionManager,
+            PostSearchIndexer postSearchIndexer,
+            PostFeedCache postFeedCache
+    ) {
         this.postRepository = postRepository;
         this.tagRepository = tagRepository;
+        this.tagDictionary = tagDictionary;
+        this.postPartitionManager = postPartitionManager;
+        this.postSearchIndexer = postSearchIndexer;
+        this.postFeedCache = postFeedCache;
     }
 
     @Transactional
-    public int upsert(Source source, List<ParsedPost> parsedPosts) {
+    public UpsertResult upsert(Source source, List<ParsedPost> parsedPosts) {
+        List<PreparedPost> preparedPosts = prepare(parsedPosts);
+        // 지난 글을 한꺼번에 채워 넣을 때 DEFAULT 파티션에 쌓이지 않도록 해당 월 파티션을 먼저 만든다.
+        preparedPosts.stream()
+                .map(preparedPost -> preparedPost.row().publishedAt())
+                .min(Comparator.naturalOrder())
+                .ifPresent(postPartitionManager::ensureCovering);
+        // 이번 수집에 나온 태그를 한 번에 확인한다. 사전에 없는 태그만 DB에 만든다.
+        Set<String> tagNames = new TreeSet<>();
+        preparedPosts.forEach(preparedPost -> tagNames.addAll(preparedPost.tagNames()));
+        Map<String, Long> tagIds = tagDictionary.resolveIds(tagNames);
+        List<PostSearchDocument> searchDocuments = new ArrayList<>();
+        UpsertResult result = postRepository.supportsBulkUpsert()
+                ? bulkUpsert(source, preparedPosts, tagIds, searchDocuments)
+                : upsertEach(source, preparedPosts, tagIds, searchDocuments);
+        // 새로 들어오거나 바뀐 글만 검색 색인에 반영한다.
+        postSearchIndexer.indexAfterCommit(searchDocuments);
+        if (!searchDocuments.isEmpty()) {
+            postFeedCache.invalidateAfterCommit();
+        }
+        return result;
+    }
+
+    private UpsertResult bulkUpsert(
+            Source source,
+            List<PreparedPost> preparedPosts,
+            Map<String, Long> tagIds,
+            List<PostSearchDocument> searchDocuments
+    ) {
+        int insertedCount = 0;
+        int updatedCount = 0;
+        int unchangedCount = 0;
+        for (int from = 0; from < preparedPosts.size(); from += BULK_UPSERT_BATCH_SIZE) {
+            List<PreparedPost> batch = preparedPosts.subList(from, Math.min(preparedPosts.size(), from + BULK_UPSERT_BATCH_SIZE));
+            Map<String, PreparedPost> byCanonicalUrl = new HashMap<>();
+            batch.forEach(preparedPost -> byCanonicalUrl.put(preparedPost.row().canonicalUrl(), preparedPost));
+
+            // 동시에 도는 수집끼리 행 잠금 순서가 엇갈려 교착되지 않도록 URL 순으로 정렬해 보낸다.
+            List<PostUpsertRow> rows = batch.stream()
+                    .map(PreparedPost::row)
+                    .sorted(Comparator.comparing(PostUpsertRow::canonicalUrl))
+                    .toList();
+            List<PostTagLinks> tagLinks = new ArrayList<>();
+            List<PostUpsertOutcome> outcomes = postRepository.upsertAll(source.getId(), rows);
+            unchangedCount += rows.size() - outcomes.size();
+            Set<String> unchangedUrls = new HashSet<>(byCanonicalUrl.keySet());
+            for (PostUpsertOutcome outcome : outcomes) {
+                unchangedUrls.remove(outcome.canonicalUrl());
+                PreparedPost preparedPost = byCanonicalUrl.get(outcome.canonicalUrl());
+                Set<Long> postTagIds = new LinkedHashSet<>();
+                preparedPost.tagNames().forEach(name -> postTagIds.add(tagIds.get(name)));
+                tagLinks.add(new PostTagLinks(outcome.postId(), preparedPost.row().publishedAt(), postTagIds));
+                searchDocuments.add(toSearchDocument(outcome.postId(), preparedPost));
+                if (outcome.inserted()) {
+                    insertedCount++;
+                } else {
+                    updatedCount++;
+                }
+            }
+            postRepository.replaceTagLinks(tagLinks);
+            touchFetchedAt(unchangedUrls);
+        }
+        return new UpsertResult(insertedCount + updatedCount, insertedCount, updatedCount, unchangedCount);
+    }
+
+    private UpsertResult upsertEach(
+            Source source,
+            List<PreparedPost> preparedPosts,
+            Map<String, Long> tagIds,
+            List<PostSearchDocument> searchDocuments
+    ) {
         int savedCount = 0;
+        int insertedCount = 0;
+        List<String> unchangedUrls = new ArrayList<>();
+        for (PreparedPost preparedPost : preparedPosts) {
+            PostUpsertRow row = preparedPost.row();
+            Optional<Post> existing = postRepository.findByCanonicalUrl(row.canonicalUrl());
+            if (existing.isPresent() && row.contentHash().equals(existing.get().getContentHash())) {
+                unchangedUrls.add(row.canonicalUrl());
+                continue;
+            }
+
+            Post target = existing
+                    .map(post -> updateExisting(post, row))
+                    .orElseGet(() -> createNew(source, row));
+            target.updateContentHash(row.contentHash());
+            target.replaceTags(toTagReferences(preparedPost.tagNames(), tagIds));
+
+            postRepository.save(target);
+            searchDocuments.add(toSearchDocument(target.getId(), preparedPost));
+            savedCount++;
+            if (existing.isEmpty()) {
+                insertedCount++;
+            }
+        }
+        touchFetchedAt(unchangedUrls);
+        return new UpsertResult(savedCount, insertedCount, savedCount - insertedCount, unchangedUrls.size());
+    }
+
+    private void touchFetchedAt(Collection<String> unchangedUrls) {
+        if (unchangedUrls.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        List<String> urls = List.copyOf(unchangedUrls);
+        for (int from = 0; from < urls.size(); from += FETCH_STAMP_BATCH_SIZE) {
+            postRepository.touchFetchedAt(urls.subList(from, Math.min(urls.size(), from + FETCH_STAMP_BATCH_SIZE)), now);
+        }
+    }
+
+    private List<PreparedPost> prepare(List<ParsedPost> parsedPosts) {
+        // 같은 URL이 한 번에 두 번 오면 나중 것이 이긴다. 한 문장 안에서 같은 행을 두 번 갱신할 수는 없다.
+        Map<String, PreparedPost> preparedPosts = new LinkedHashMap<>();
         for (ParsedPost parsedPost : parsedPosts) {
             if (parsedPost.canonicalUrl() == null || parsedPost.canonicalUrl().isBlank()) {
                 continue;
@@ -42,80 +183,99 @@ public class PostUpsertService {
             LocalDateTime publishedAt = parsedPost.publishedAt() == null
                     ? LocalDateTime.now()
                     : parsedPost.publishedAt();
-            Set<Tag> tags = resolveTags(parsedPost.tags());
-
-            Post target = postRepository.findByCanonicalUrl(canonicalUrl)
-                    .map(existing -> updateExisting(existing, parsedPost, publishedAt))
-                    .orElseGet(() -> createNew(source, canonicalUrl, parsedPost, publishedAt));
-            target.replaceTags(tags);
+            String thumbnailUrl = parsedPost.thumbnailUrl() == null || parsedPost.thumbnailUrl().isBlank()
+                    ? null
+                    : parsedPost.thumbnailUrl().trim();
+            List<String> tagNames = normalizeTagNames(parsedPost.tags());
+            // 발행일이 없는 글은 채워 넣은 수집 시각이 매번 달라지므로 원래 값(null)으로 해시를 만든다.
+            String contentHash = PostContentHash.of(
+                    parsedPost.title(),
+                    parsedPost.summary(),
+                    parsedPost.author(),
+                    thumbnailUrl,
+                    parsedPost.publishedAt(),
+                    tagNames
+            );
+            PostUpsertRow row = new PostUpsertRow(
+                    canonicalUrl,
+                    parsedPost.title(),
+                    parsedPost.summary(),
+                    parsedPost.author(),
+                    thumbnailUrl,
+                    publishedAt,
+                    contentHash
+            );
+            preparedPosts.remove(canonicalUrl);
+            preparedPosts.put(canonicalUrl, new PreparedPost(row, tagNames));
+        }
+        return List.copyOf(preparedPosts.values());
+    }
 
-            postRepository.save(target);
-            savedCount++;
+    @Transactional(readOnly = true)
+    public Map<String, LocalDateTime> findFetchedAt(Source source, Collection<String> canonicalUrls) {
+        List<String> urls = List.copyOf(canonicalUrls);
+        Map<String, LocalDateTime> fetchedAts = new HashMap<>();
+        // IN 절이 지나치게 길어지지 않도록 나눠서 조회한다.
+        for (int from = 0; from < urls.size(); from += FETCH_STAMP_BATCH_SIZE) {
+            List<String> batch = urls.subList(from, Math.min(urls.size(), from + FETCH_STAMP_BATCH_SIZE));
+            for (PostFetchStamp stamp : postRepository.findFetchStamps(source.getId(), batch)) {
+                fetchedAts.put(stamp.canonicalUrl(), stamp.fetchedAt());
+            }
         }
-        return savedCount;
+        return fetchedAts;
     }
 
-    private Post createNew(
-            Source source,
-            String canonicalUrl,
-            ParsedPost parsedPost,
-            LocalDateTime publishedAt
-    ) {
+    private Post createNew(Source source, PostUpsertRow row) {
         return new Post(
                 source,
-                canonicalUrl,
-                parsedPost.title(),
-                parsedPost.summary(),
-                parsedPost.author(),
-                parsedPost.thumbnailUrl(),
-                publishedAt
+                row.canonicalUrl(),
+                row.title(),
+                row.summary(),
+                row.author(),
+                row.thumbnailUrl(),
+                row.publishedAt()
         );
     }
 
-    private Post updateExisting(Post post, ParsedPost parsedPost, LocalDateTime publishedAt) {
-        String thumbnailUrl = parsedPost.thumbnailUrl() == null || parsedPost.thumbnailUrl().isBlank()
-                ? post.getThumbnailUrl()
-                : parsedPost.thumbnailUrl().trim();
+    private Post updateExisting(Post post, PostUpsertRow row) {
+        String thumbnailUrl = row.thumbnailUrl() == null ? post.getThumbnailUrl() : row.thumbnailUrl();
         post.updateFrom(
-                parsedPost.title(),
-                parsedPost.summary(),
-                parsedPost.author(),
+                row.title(),
+                row.summary(),
+                row.author(),
                 thumbnailUrl,
-                publishedAt
+                row.publishedAt()
         );
         return post;
     }
 
-    private Set<Tag> resolveTags(List<String> rawTags) {
+    private PostSearchDocument toSearchDocument(Long postId, PreparedPost preparedPost) {
+        PostUpsertRow row = preparedPost.row();
+        return new PostSearchDocument(postId, row.title(), row.summary(), preparedPost.tagNames());
+    }
+
+    private List<String> normalizeTagNames(List<String> rawTags) {
         if (rawTags == null || rawTags.isEmpty()) {
-            return Set.of();
+            return List.of();
         }
-
-        LinkedHashSet<String> normalizedNames = rawTags.stream()
+        return rawTags.stream()
                 .filter(name -> name != null && !name.isBlank())
                 .map(String::trim)
-                .collect(LinkedHashSet::new, LinkedHashSet::add, LinkedHashSet::addAll);
-
-        if (normalizedNames.isEmpty()) {
-            return Set.of();
-        }
-
-        List<Tag> existingTags = tagRepository.findByNameIn(normalizedNames);
-        Map<String, Tag> byName = new LinkedHashMap<>();
-        for (Tag tag : existingTags) {
-            byName.put(tag.getName(), tag);
-        }
+                .distinct()
+                .toList();
+    }
 
-        List<Tag> result = new ArrayList<>();
-        for (String name : normalizedNames) {
-            Tag tag = byName.get(name);
-            if (tag == null) {
-                tag = tagRepository.save(new Tag(name));
-                byName.put(name, tag);
-            }
-            result.add(tag);
+    private Set<Tag> toTagReferences(List<String> tagNames, Map<String, Long> tagIds) {
+        Set<Tag> tags = new LinkedHashSet<>();
+        for (String name : tagNames) {
+            tags.add(tagRepository.getReferenceById(tagIds.get(name)));
         }
+        return tags;
+    }
 
-        return new LinkedHashSet<>(result);
+    private record PreparedPost(
+            PostUpsertRow row,
+            List<String> tagNames
+    ) {
     }
 }
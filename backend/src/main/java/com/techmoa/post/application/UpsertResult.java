@@ -0,0 +1,22 @@
+package com.techmoa.post.application;
+
+public record UpsertResult(
+        int savedCount,
+        int insertedCount,
+        int updatedCount,
+        int unchangedCount
+) {
+
+    public static UpsertResult empty() {
+        return new UpsertResult(0, 0, 0, 0);
+    }
+
+    public UpsertResult plus(UpsertResult other) {
+        return new UpsertResult(
+                savedCount + other.savedCount,
+                insertedCount + other.insertedCount,
+                updatedCount + other.updatedCount,
+                unchangedCount + other.unchangedCount
+        );
+    }
+}
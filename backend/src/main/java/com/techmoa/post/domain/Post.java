@@ -12,17 +12,21 @@ import jakarta.persistence.JoinColumn;
 import jakarta.persistence.JoinTable;
 import jakarta.persistence.ManyToMany;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import java.time.LocalDateTime;
 import java.util.HashSet;
 import java.util.Set;
+import org.hibernate.Length;
+import org.hibernate.annotations.GeneratedColumn;
 
 @Entity
 @Table(name = "posts")
 public class Post {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "posts_id_seq")
+    @SequenceGenerator(name = "posts_id_seq", sequenceName = "posts_id_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY, optional = false)
@@ -50,6 +54,14 @@ public class Post {
     @Column(nullable = false)
     private LocalDateTime fetchedAt;
 
+    @Column(length = 64)
+    private String contentHash;
+
+    // 검색용 소문자 제목+요약. DB가 계산하며 pg_trgm GIN 인덱스가 걸려 있다.
+    @GeneratedColumn("lower(title || ' ' || coalesce(summary, ''))")
+    @Column(length = Length.LONG32, insertable = false, updatable = false)
+    private String searchText;
+
     @Column(nullable = false)
     private LocalDateTime createdAt;
 
@@ -125,6 +137,14 @@ public class Post {
         return tags;
     }
 
+    public String getContentHash() {
+        return contentHash;
+    }
+
+    public void updateContentHash(String contentHash) {
+        this.contentHash = contentHash;
+    }
+
     public void updateFrom(
             String title,
             String summary,
@@ -0,0 +1,18 @@
+package com.techmoa.post.domain;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface PostBulkRepository {
+
+    boolean supportsBulkUpsert();
+
+    // 내용이 바뀌지 않은 행은 결과에 포함되지 않는다.
+    List<PostUpsertOutcome> upsertAll(Long sourceId, List<PostUpsertRow> rows);
+
+    // from~to를 덮는 월 파티션을 만들고 새로 만든 개수를 돌려준다. 파티션이 없는 DB(H2)에서는 아무것도 하지 않는다.
+    int ensurePartitions(LocalDateTime from, LocalDateTime to);
+
+    // 태그 피드 인덱스가 post_tags.published_at을 쓰므로 글의 발행일도 함께 넘긴다.
+    void replaceTagLinks(List<PostTagLinks> links);
+}
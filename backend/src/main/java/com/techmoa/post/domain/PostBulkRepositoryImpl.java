@@ -0,0 +1,245 @@
+package com.techmoa.post.domain;
+
+import com.techmoa.common.jdbc.DatabaseProduct;
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+public class PostBulkRepositoryImpl implements PostBulkRepository {
+
+    // posts는 published_at 파티션 테이블이라 canonical_url에 전역 유니크 제약을 걸 수 없어 post_urls가 글 id를 정한다.
+    // 처음 보는 URL만 post_urls에 id를 새로 받는다. 같은 새 URL을 다른 수집이 먼저 넣는 중이면 그 커밋을 기다린 뒤 건너뛴다.
+    // posts_id_seq는 한 번에 50씩 올라가므로(V11) nextval 한 번으로 50개 id 구간을 받아 새 URL에 차례로 나눠 준다.
+    private static final String REGISTER_URLS_SQL = """
+            WITH fresh AS (
+                SELECT u.canonical_url, row_number() OVER () - 1 AS n
+                FROM unnest(?::text[]) AS u(canonical_url)
+                WHERE NOT EXISTS (SELECT 1 FROM post_urls pu WHERE pu.canonical_url = u.canonical_url)
+            ),
+            blocks AS MATERIALIZED (
+                SELECT b, nextval('posts_id_seq') AS lo
+                FROM generate_series(0, ((SELECT count(*) FROM fresh) + 49) / 50 - 1) AS b
+            )
+            INSERT INTO post_urls (canonical_url, post_id)
+            SELECT f.canonical_url, bl.lo + f.n % 50
+            FROM fresh f
+            JOIN blocks bl ON bl.b = f.n / 50
+            ON CONFLICT (canonical_url) DO NOTHING
+            RETURNING canonical_url, post_id
+            """;
+
+    // 방금 id를 받은 URL은 새 행으로 넣고, 나머지는 post_urls의 id로 행을 갱신한다(발행일이 바뀌면 행이 파티션을 옮겨 간다).
+    // 등록과 다른 문장이라 위에서 기다린 다른 수집의 커밋된 행도 보이므로, 먼저 들어온 같은 URL의 글을 이 내용으로 갱신한다.
+    // source_id는 갱신하지 않는다. 같은 글이 다른 소스에 다시 잡혀도 처음 수집한 소스에 남긴다.
+    // 내용 해시가 같은 행은 WHERE에서 걸러져 갱신되지도, 결과에 나오지도 않는다.
+    private static final String UPSERT_POSTS_SQL = """
+            WITH input AS (
+                SELECT *
+                FROM unnest(?::text[], ?::text[], ?::text[], ?::text[], ?::text[], ?::timestamp[], ?::text[], ?::bigint[])
+                    AS u(canonical_url, title, summary, author, thumbnail_url, published_at, content_hash, registered_id)
+            ),
+            inserted AS (
+                INSERT INTO posts (
+                    id, source_id, canonical_url, title, summary, author, thumbnail_url,
+                    published_at, content_hash, fetched_at, created_at, updated_at
+                )
+                SELECT i.registered_id, ?, i.canonical_url, i.title, i.summary, i.author, i.thumbnail_url,
+                       i.published_at, i.content_hash, now(), now(), now()
+                FROM input i
+                WHERE i.registered_id IS NOT NULL
+                RETURNING id, canonical_url
+            ),
+            updated AS (
+                UPDATE posts p SET
+                    title = i.title,
+                    summary = i.summary,
+                    author = i.author,
+                    thumbnail_url = COALESCE(i.thumbnail_url, p.thumbnail_url),
+                    published_at = i.published_at,
+                    content_hash = i.content_hash,
+                    fetched_at = now(),
+                    updated_at = now()
+                FROM input i
+                JOIN post_urls pu ON pu.canonical_url = i.canonical_url
+                WHERE i.registered_id IS NULL
+                  AND p.id = pu.post_id
+                  AND p.content_hash IS DISTINCT FROM i.content_hash
+                RETURNING p.id, p.canonical_url
+            )
+            SELECT id, canonical_url, TRUE AS inserted FROM inserted
+            UNION ALL
+            SELECT id, canonical_url, FALSE AS inserted FROM updated
+            """;
+
+    private static final String ENSURE_PARTITIONS_SQL = "SELECT ensure_posts_partitions(?, ?)";
+
+    private static final String DELETE_STALE_TAG_LINKS_SQL = """
+            DELETE FROM post_tags pt
+            WHERE pt.post_id = ANY(?::bigint[])
+              AND NOT EXISTS (
+                  SELECT 1
+                  FROM unnest(?::bigint[], ?::bigint[]) AS n(post_id, tag_id)
+                  WHERE n.post_id = pt.post_id
+                    AND n.tag_id = pt.tag_id
+              )
+            """;
+
+    private static final String INSERT_TAG_LINKS_SQL = """
+            INSERT INTO post_tags (post_id, tag_id, published_at)
+            SELECT n.post_id, n.tag_id, n.published_at
+            FROM unnest(?::bigint[], ?::bigint[], ?::timestamp[]) AS n(post_id, tag_id, published_at)
+            ON CONFLICT (post_id, tag_id) DO UPDATE
+                SET published_at = EXCLUDED.published_at
+                WHERE post_tags.published_at IS DISTINCT FROM EXCLUDED.published_at
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private volatile Boolean bulkUpsertSupported;
+
+    public PostBulkRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public boolean supportsBulkUpsert() {
+        Boolean supported = bulkUpsertSupported;
+        if (supported == null) {
+            supported = DatabaseProduct.isPostgres(jdbcTemplate);
+            bulkUpsertSupported = supported;
+        }
+        return supported;
+    }
+
+    @Override
+    public List<PostUpsertOutcome> upsertAll(Long sourceId, List<PostUpsertRow> rows) {
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+        int size = rows.size();
+        String[] canonicalUrls = new String[size];
+        String[] titles = new String[size];
+        String[] summaries = new String[size];
+        String[] authors = new String[size];
+        String[] thumbnailUrls = new String[size];
+        Timestamp[] publishedAts = new Timestamp[size];
+        String[] contentHashes = new String[size];
+        for (int i = 0; i < size; i++) {
+            PostUpsertRow row = rows.get(i);
+            canonicalUrls[i] = row.canonicalUrl();
+            titles[i] = row.title();
+            summaries[i] = row.summary();
+            authors[i] = row.author();
+            thumbnailUrls[i] = row.thumbnailUrl();
+            publishedAts[i] = Timestamp.valueOf(row.publishedAt());
+            contentHashes[i] = row.contentHash();
+        }
+        Map<String, Long> registeredIds = registerUrls(canonicalUrls);
+        Long[] postIds = new Long[size];
+        for (int i = 0; i < size; i++) {
+            postIds[i] = registeredIds.get(canonicalUrls[i]);
+        }
+
+        return jdbcTemplate.query(
+                connection -> {
+                    PreparedStatement statement = connection.prepareStatement(UPSERT_POSTS_SQL);
+                    statement.setArray(1, textArray(connection, canonicalUrls));
+                    statement.setArray(2, textArray(connection, titles));
+                    statement.setArray(3, textArray(connection, summaries));
+                    statement.setArray(4, textArray(connection, authors));
+                    statement.setArray(5, textArray(connection, thumbnailUrls));
+                    statement.setArray(6, connection.createArrayOf("timestamp", publishedAts));
+                    statement.setArray(7, textArray(connection, contentHashes));
+                    statement.setArray(8, connection.createArrayOf("bigint", postIds));
+                    statement.setLong(9, sourceId);
+                    return statement;
+                },
+                (resultSet, rowNum) -> new PostUpsertOutcome(
+                        resultSet.getLong("id"),
+                        resultSet.getString("canonical_url"),
+                        resultSet.getBoolean("inserted")
+                )
+        );
+    }
+
+    @Override
+    public int ensurePartitions(LocalDateTime from, LocalDateTime to) {
+        if (!supportsBulkUpsert()) {
+            return 0;
+        }
+        Integer created = jdbcTemplate.queryForObject(
+                ENSURE_PARTITIONS_SQL,
+                Integer.class,
+                Timestamp.valueOf(from),
+                Timestamp.valueOf(to)
+        );
+        return created == null ? 0 : created;
+    }
+
+    @Override
+    public void replaceTagLinks(List<PostTagLinks> links) {
+        if (links.isEmpty()) {
+            return;
+        }
+        Long[] postIds = links.stream().map(PostTagLinks::postId).toArray(Long[]::new);
+        List<Long> linkPostIds = new ArrayList<>();
+        List<Long> linkTagIds = new ArrayList<>();
+        List<Timestamp> linkPublishedAts = new ArrayList<>();
+        for (PostTagLinks postLinks : links) {
+            Timestamp publishedAt = Timestamp.valueOf(postLinks.publishedAt());
+            for (Long tagId : postLinks.tagIds()) {
+                linkPostIds.add(postLinks.postId());
+                linkTagIds.add(tagId);
+                linkPublishedAts.add(publishedAt);
+            }
+        }
+        Long[] newPostIds = linkPostIds.toArray(Long[]::new);
+        Long[] newTagIds = linkTagIds.toArray(Long[]::new);
+        Timestamp[] newPublishedAts = linkPublishedAts.toArray(Timestamp[]::new);
+
+        // 바뀐 연결만 지우고 새 연결만 넣는다. 남은 연결은 글의 발행일이 바뀐 경우에만 태그 피드용 published_at을 고친다.
+        jdbcTemplate.update(connection -> {
+            PreparedStatement statement = connection.prepareStatement(DELETE_STALE_TAG_LINKS_SQL);
+            statement.setArray(1, connection.createArrayOf("bigint", postIds));
+            statement.setArray(2, connection.createArrayOf("bigint", newPostIds));
+            statement.setArray(3, connection.createArrayOf("bigint", newTagIds));
+            return statement;
+        });
+        if (newPostIds.length == 0) {
+            return;
+        }
+        jdbcTemplate.update(connection -> {
+            PreparedStatement statement = connection.prepareStatement(INSERT_TAG_LINKS_SQL);
+            statement.setArray(1, connection.createArrayOf("bigint", newPostIds));
+            statement.setArray(2, connection.createArrayOf("bigint", newTagIds));
+            statement.setArray(3, connection.createArrayOf("timestamp", newPublishedAts));
+            return statement;
+        });
+    }
+
+    private Map<String, Long> registerUrls(String[] canonicalUrls) {
+        Map<String, Long> registeredIds = new HashMap<>();
+        jdbcTemplate.query(
+                connection -> {
+                    PreparedStatement statement = connection.prepareStatement(REGISTER_URLS_SQL);
+                    statement.setArray(1, textArray(connection, canonicalUrls));
+                    return statement;
+                },
+                resultSet -> {
+                    registeredIds.put(resultSet.getString("canonical_url"), resultSet.getLong("post_id"));
+                }
+        );
+        return registeredIds;
+    }
+
+    private Array textArray(Connection connection, String[] values) throws SQLException {
+        return connection.createArrayOf("text", values);
+    }
+}
@@ -0,0 +1,53 @@
+package com.techmoa.post.domain;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.List;
+
+public final class PostContentHash {
+
+    private static final char FIELD_SEPARATOR = '\u0000';
+    private static final char NULL_MARKER = '\u0001';
+
+    private PostContentHash() {
+    }
+
+    // 글 목록에 보이는 필드가 하나라도 바뀌면 값이 달라진다. 같은 값이면 행과 태그 연결을 다시 쓰지 않는다.
+    public static String of(
+            String title,
+            String summary,
+            String author,
+            String thumbnailUrl,
+            LocalDateTime publishedAt,
+            List<String> tagNames
+    ) {
+        StringBuilder builder = new StringBuilder();
+        append(builder, title);
+        append(builder, summary);
+        append(builder, author);
+        append(builder, thumbnailUrl);
+        append(builder, publishedAt == null ? null : publishedAt.toString());
+        tagNames.stream().sorted().forEach(tagName -> append(builder, tagName));
+        return HexFormat.of().formatHex(sha256().digest(builder.toString().getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static void append(StringBuilder builder, String value) {
+        if (value == null) {
+            builder.append(NULL_MARKER);
+        } else {
+            builder.append(value);
+        }
+        builder.append(FIELD_SEPARATOR);
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
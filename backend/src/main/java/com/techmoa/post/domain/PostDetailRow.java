@@ -0,0 +1,16 @@
+package com.techmoa.post.domain;
+
+import java.time.LocalDateTime;
+
+public record PostDetailRow(
+        Long id,
+        String title,
+        String summary,
+        String thumbnailUrl,
+        String canonicalUrl,
+        String author,
+        LocalDateTime publishedAt,
+        String sourceName,
+        String sourceBaseUrl
+) {
+}
@@ -0,0 +1,17 @@
+package com.techmoa.post.domain;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 발행일 범위와 커서는 항상 값으로 넘겨야 플래너가 범위 밖 월 파티션을 건너뛴다.
+// 커서가 없으면 먼 미래 시각과 Long.MAX_VALUE를 넘긴다. 나머지 필터는 null이면 조건에서 아예 빠진다.
+public record PostFeedQuery(
+        LocalDateTime cursorPublishedAt,
+        Long cursorId,
+        LocalDateTime lowerBound,
+        List<Long> sourceIds,
+        Long tagId,
+        String keyword,
+        int limit
+) {
+}
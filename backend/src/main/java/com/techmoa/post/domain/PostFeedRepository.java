@@ -0,0 +1,12 @@
+package com.techmoa.post.domain;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface PostFeedRepository {
+
+    List<PostFeedRow> findFeed(PostFeedQuery query);
+
+    // 순서는 보장하지 않는다. 검색 결과처럼 순서가 정해진 id 목록은 호출하는 쪽에서 다시 맞춘다.
+    List<PostFeedRow> findFeedRowsByIdIn(Collection<Long> ids);
+}
@@ -0,0 +1,56 @@
+package com.techmoa.post.domain;
+
+import com.techmoa.common.jdbc.DatabaseProduct;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+// 목록은 엔티티로 올리지 않고 필요한 컬럼만 레코드로 읽는다. 영속성 컨텍스트 스냅샷도, search_text 같은 큰 컬럼도 만들지 않는다.
+public class PostFeedRepositoryImpl implements PostFeedRepository {
+
+    private static final RowMapper<PostFeedRow> FEED_ROW_MAPPER = (rs, rowNum) -> new PostFeedRow(
+            rs.getLong("id"),
+            rs.getString("title"),
+            rs.getString("summary"),
+            rs.getString("thumbnail_url"),
+            rs.getString("canonical_url"),
+            rs.getTimestamp("published_at").toLocalDateTime(),
+            rs.getString("source_name"),
+            rs.getString("source_base_url")
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+    private volatile Boolean tagFeedIndexed;
+
+    public PostFeedRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public List<PostFeedRow> findFeed(PostFeedQuery query) {
+        return query(PostFeedSql.of(query, isTagFeedIndexed()));
+    }
+
+    @Override
+    public List<PostFeedRow> findFeedRowsByIdIn(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return query(PostFeedSql.byIds(ids));
+    }
+
+    private List<PostFeedRow> query(PostFeedSql feedSql) {
+        return jdbcTemplate.query(feedSql.sql(), FEED_ROW_MAPPER, feedSql.parameters().toArray());
+    }
+
+    // post_tags.published_at은 마이그레이션(PostgreSQL)으로만 생긴다. 테스트의 H2에서는 EXISTS로 거른다.
+    private boolean isTagFeedIndexed() {
+        Boolean indexed = tagFeedIndexed;
+        if (indexed == null) {
+            indexed = DatabaseProduct.isPostgres(jdbcTemplate);
+            tagFeedIndexed = indexed;
+        }
+        return indexed;
+    }
+}
@@ -0,0 +1,16 @@
+package com.techmoa.post.domain;
+
+import java.time.LocalDateTime;
+
+// 목록 응답에 필요한 컬럼만 담는다. 엔티티가 아니라 영속성 컨텍스트가 추적하지 않는다.
+public record PostFeedRow(
+        Long id,
+        String title,
+        String summary,
+        String thumbnailUrl,
+        String canonicalUrl,
+        LocalDateTime publishedAt,
+        String sourceName,
+        String sourceBaseUrl
+) {
+}
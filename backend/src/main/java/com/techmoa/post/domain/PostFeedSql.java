@@ -0,0 +1,111 @@
+package com.techmoa.post.domain;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+// 필터 조합마다 필요한 조건만 넣은 SQL을 만든다. ":x IS NULL OR ..." 같은 분기가 없어야
+// 플래너가 조합별로 맞는 인덱스(발행일, 소스+발행일, 트라이그램)를 고른다.
+record PostFeedSql(String sql, List<Object> parameters) {
+
+    // PostFeedRow에 담을 컬럼만 읽는다. 순서는 PostFeedRepositoryImpl의 RowMapper와 맞춘다.
+    static final String FEED_COLUMNS = """
+            SELECT p.id, p.title, p.summary, p.thumbnail_url, p.canonical_url, p.published_at,
+                   s.name AS source_name, s.base_url AS source_base_url
+            """;
+
+    static PostFeedSql byIds(Collection<Long> ids) {
+        String sql = FEED_COLUMNS + """
+                FROM posts p
+                JOIN sources s ON s.id = p.source_id
+                WHERE p.id IN (%s)
+                """.formatted(String.join(", ", Collections.nCopies(ids.size(), "?")));
+        return new PostFeedSql(sql, List.copyOf(ids));
+    }
+
+    static PostFeedSql of(PostFeedQuery query, boolean tagFeedIndexed) {
+        if (query.tagId() != null && tagFeedIndexed) {
+            return tagFeed(query);
+        }
+
+        StringBuilder sql = new StringBuilder(FEED_COLUMNS).append("""
+                FROM posts p
+                JOIN sources s ON s.id = p.source_id
+                WHERE p.published_at >= ?
+                  AND p.published_at <= ?
+                  AND (p.published_at < ? OR p.id < ?)
+                """);
+        List<Object> parameters = new ArrayList<>();
+        Timestamp cursorPublishedAt = Timestamp.valueOf(query.cursorPublishedAt());
+        parameters.add(Timestamp.valueOf(query.lowerBound()));
+        parameters.add(cursorPublishedAt);
+        parameters.add(cursorPublishedAt);
+        parameters.add(query.cursorId());
+
+        if (query.tagId() != null) {
+            sql.append("""
+                      AND EXISTS (
+                        SELECT 1
+                        FROM post_tags pt
+                        WHERE pt.post_id = p.id
+                          AND pt.tag_id = ?
+                      )
+                    """);
+            parameters.add(query.tagId());
+        }
+        appendPostFilters(query, sql, parameters);
+
+        sql.append("ORDER BY p.published_at DESC, p.id DESC\n");
+        sql.append("LIMIT ?");
+        parameters.add(query.limit());
+        return new PostFeedSql(sql.toString(), List.copyOf(parameters));
+    }
+
+    // 태그 피드는 post_tags의 (tag_id, published_at DESC, post_id DESC) 인덱스를 커서 위치부터 한 페이지만큼만 읽고,
+    // 글은 (id, published_at) 기본 키로 해당 파티션에서 바로 찾는다. 태그가 드물어도 읽는 양이 페이지 크기에 비례한다.
+    private static PostFeedSql tagFeed(PostFeedQuery query) {
+        StringBuilder sql = new StringBuilder(FEED_COLUMNS).append("""
+                FROM post_tags pt
+                JOIN posts p ON p.id = pt.post_id AND p.published_at = pt.published_at
+                JOIN sources s ON s.id = p.source_id
+                WHERE pt.tag_id = ?
+                  AND pt.published_at >= ?
+                  AND pt.published_at <= ?
+                  AND (pt.published_at < ? OR pt.post_id < ?)
+                  AND p.published_at >= ?
+                  AND p.published_at <= ?
+                """);
+        List<Object> parameters = new ArrayList<>();
+        Timestamp lowerBound = Timestamp.valueOf(query.lowerBound());
+        Timestamp cursorPublishedAt = Timestamp.valueOf(query.cursorPublishedAt());
+        parameters.add(query.tagId());
+        parameters.add(lowerBound);
+        parameters.add(cursorPublishedAt);
+        parameters.add(cursorPublishedAt);
+        parameters.add(query.cursorId());
+        parameters.add(lowerBound);
+        parameters.add(cursorPublishedAt);
+        appendPostFilters(query, sql, parameters);
+
+        sql.append("ORDER BY pt.published_at DESC, pt.post_id DESC\n");
+        sql.append("LIMIT ?");
+        parameters.add(query.limit());
+        return new PostFeedSql(sql.toString(), List.copyOf(parameters));
+    }
+
+    private static void appendPostFilters(PostFeedQuery query, StringBuilder sql, List<Object> parameters) {
+        if (query.sourceIds() != null && !query.sourceIds().isEmpty()) {
+            sql.append("  AND p.source_id IN (")
+                    .append(String.join(", ", Collections.nCopies(query.sourceIds().size(), "?")))
+                    .append(")\n");
+            parameters.addAll(query.sourceIds());
+        }
+        if (query.keyword() != null) {
+            // search_text는 소문자로 저장되며 pg_trgm GIN 인덱스가 걸려 있다.
+            sql.append("  AND p.search_text LIKE ?\n");
+            parameters.add("%" + query.keyword() + "%");
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.techmoa.post.domain;
+
+import java.time.LocalDateTime;
+
+public record PostFetchStamp(
+        String canonicalUrl,
+        LocalDateTime fetchedAt
+) {
+}
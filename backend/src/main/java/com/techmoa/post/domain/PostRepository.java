@@ -1,89 +1,85 @@
 package com.techmoa.post.domain;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.repository.query.Param;
 
-public interface PostRepository extends JpaRepository<Post, Long> {
+public interface PostRepository extends JpaRepository<Post, Long>, PostBulkRepository, PostFeedRepository {
+
+    Optional<Post> findByCanonicalUrl(String canonicalUrl);
 
     @Query("""
-            SELECT p
+            SELECT new com.techmoa.post.domain.PostFetchStamp(p.canonicalUrl, p.fetchedAt)
             FROM Post p
-            JOIN FETCH p.source s
-            WHERE (
-                :cursorId IS NULL
-                OR p.publishedAt < :cursorPublishedAt
-                OR (p.publishedAt = :cursorPublishedAt AND p.id < :cursorId)
-              )
-              AND (
-                :tagName IS NULL
-                OR EXISTS (
-                    SELECT t.id
-                    FROM p.tags t
-                    WHERE t.name = :tagName
-                )
-              )
-              AND (
-                :q IS NULL
-                OR LOWER(p.title) LIKE LOWER(CONCAT('%', CAST(:q AS string), '%'))
-                OR LOWER(COALESCE(p.summary, '')) LIKE LOWER(CONCAT('%', CAST(:q AS string), '%'))
-              )
-            ORDER BY p.publishedAt DESC, p.id DESC
+            WHERE p.source.id = :sourceId
+              AND p.canonicalUrl IN :canonicalUrls
             """)
-    List<Post> findFeed(
-            @Param("cursorId") Long cursorId,
-            @Param("cursorPublishedAt") LocalDateTime cursorPublishedAt,
-            @Param("tagName") String tagName,
-            @Param("q") String q,
-            Pageable pageable
+    List<PostFetchStamp> findFetchStamps(
+            @Param("sourceId") Long sourceId,
+            @Param("canonicalUrls") Collection<String> canonicalUrls
     );
 
+    // 내용이 그대로인 글도 다시 받아 온 시각은 남긴다. 사이트맵 lastmod 비교와 실패 재시도가 이 값을 본다.
+    // updated_at은 건드리지 않으므로 검색 색인 따라잡기 대상이 되지 않는다.
+    @Modifying
     @Query("""
-            SELECT p
-            FROM Post p
-            JOIN FETCH p.source s
-            WHERE (
-                :cursorId IS NULL
-                OR p.publishedAt < :cursorPublishedAt
-                OR (p.publishedAt = :cursorPublishedAt AND p.id < :cursorId)
-              )
-              AND s.id IN :sourceIds
-              AND (
-                :tagName IS NULL
-                OR EXISTS (
-                    SELECT t.id
-                    FROM p.tags t
-                    WHERE t.name = :tagName
-                )
-              )
-              AND (
-                :q IS NULL
-                OR LOWER(p.title) LIKE LOWER(CONCAT('%', CAST(:q AS string), '%'))
-                OR LOWER(COALESCE(p.summary, '')) LIKE LOWER(CONCAT('%', CAST(:q AS string), '%'))
-              )
-            ORDER BY p.publishedAt DESC, p.id DESC
+            UPDATE Post p
+            SET p.fetchedAt = :fetchedAt
+            WHERE p.canonicalUrl IN :canonicalUrls
             """)
-    List<Post> findFeedBySourceIds(
-            @Param("cursorId") Long cursorId,
-            @Param("cursorPublishedAt") LocalDateTime cursorPublishedAt,
-            @Param("sourceIds") List<Long> sourceIds,
-            @Param("tagName") String tagName,
-            @Param("q") String q,
-            Pageable pageable
+    int touchFetchedAt(
+            @Param("canonicalUrls") Collection<String> canonicalUrls,
+            @Param("fetchedAt") LocalDateTime fetchedAt
     );
 
-    Optional<Post> findByCanonicalUrl(String canonicalUrl);
+    @Query("SELECT MIN(p.publishedAt) FROM Post p")
+    Optional<LocalDateTime> findOldestPublishedAt();
+
+    @Query("""
+            SELECT p.publishedAt
+            FROM Post p
+            WHERE p.source.id = :sourceId
+            ORDER BY p.publishedAt DESC
+            """)
+    List<LocalDateTime> findRecentPublishedAtBySourceId(@Param("sourceId") Long sourceId, Pageable pageable);
 
+    // 상세 화면에 필요한 컬럼만 읽는다. 태그 이름은 findTagNames로 따로 가져온다.
     @Query("""
-            SELECT DISTINCT p
+            SELECT new com.techmoa.post.domain.PostDetailRow(
+                p.id, p.title, p.summary, p.thumbnailUrl, p.canonicalUrl, p.author, p.publishedAt,
+                s.name, s.baseUrl
+            )
             FROM Post p
-            JOIN FETCH p.source s
-            LEFT JOIN FETCH p.tags t
+            JOIN p.source s
             WHERE p.id = :id
             """)
-    Optional<Post> findDetailById(@Param("id") Long id);
+    Optional<PostDetailRow> findDetailById(@Param("id") Long id);
+
+    // 검색 색인 따라잡기용. (updatedAt, id) 순서로 끊어 읽는다.
+    @Query("""
+            SELECT new com.techmoa.post.domain.PostSearchRow(p.id, p.title, p.summary, p.updatedAt)
+            FROM Post p
+            WHERE p.updatedAt > :updatedAt
+               OR (p.updatedAt = :updatedAt AND p.id > :id)
+            ORDER BY p.updatedAt ASC, p.id ASC
+            """)
+    List<PostSearchRow> findSearchRowsUpdatedAfter(
+            @Param("updatedAt") LocalDateTime updatedAt,
+            @Param("id") Long id,
+            Pageable pageable
+    );
+
+    @Query("""
+            SELECT new com.techmoa.post.domain.PostTagName(p.id, t.name)
+            FROM Post p
+            JOIN p.tags t
+            WHERE p.id IN :postIds
+            """)
+    List<PostTagName> findTagNames(@Param("postIds") Collection<Long> postIds);
 }
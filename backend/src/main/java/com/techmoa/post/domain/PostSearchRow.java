@@ -0,0 +1,11 @@
+package com.techmoa.post.domain;
+
+import java.time.LocalDateTime;
+
+public record PostSearchRow(
+        Long id,
+        String title,
+        String summary,
+        LocalDateTime updatedAt
+) {
+}
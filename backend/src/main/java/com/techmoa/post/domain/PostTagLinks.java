@@ -0,0 +1,11 @@
+package com.techmoa.post.domain;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+public record PostTagLinks(
+        Long postId,
+        LocalDateTime publishedAt,
+        Set<Long> tagIds
+) {
+}
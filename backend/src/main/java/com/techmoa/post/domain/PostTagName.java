@@ -0,0 +1,7 @@
+package com.techmoa.post.domain;
+
+public record PostTagName(
+        Long postId,
+        String tagName
+) {
+}
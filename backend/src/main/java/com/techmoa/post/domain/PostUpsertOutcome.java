@@ -0,0 +1,8 @@
+package com.techmoa.post.domain;
+
+public record PostUpsertOutcome(
+        Long postId,
+        String canonicalUrl,
+        boolean inserted
+) {
+}
@@ -0,0 +1,14 @@
+package com.techmoa.post.domain;
+
+import java.time.LocalDateTime;
+
+public record PostUpsertRow(
+        String canonicalUrl,
+        String title,
+        String summary,
+        String author,
+        String thumbnailUrl,
+        LocalDateTime publishedAt,
+        String contentHash
+) {
+}
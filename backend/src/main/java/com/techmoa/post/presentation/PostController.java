@@ -1,8 +1,10 @@
 package com.techmoa.post.presentation;
 
+import com.techmoa.post.application.PostFeedCache;
 import com.techmoa.post.application.PostQueryService;
 import com.techmoa.post.presentation.dto.PostDetailResponse;
 import com.techmoa.post.presentation.dto.PostFeedResponse;
+import com.techmoa.post.presentation.dto.PostSearchResponse;
 import java.util.List;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -15,20 +17,31 @@ import org.springframework.web.bind.annotation.RestController;
 public class PostController {
 
     private final PostQueryService postQueryService;
+    private final PostFeedCache postFeedCache;
 
-    public PostController(PostQueryService postQueryService) {
+    public PostController(PostQueryService postQueryService, PostFeedCache postFeedCache) {
         this.postQueryService = postQueryService;
+        this.postFeedCache = postFeedCache;
     }
 
     @GetMapping
     public PostFeedResponse getPosts(
-            @RequestParam(required = false) Long cursor,
+            @RequestParam(required = false) String cursor,
             @RequestParam(required = false) Integer size,
             @RequestParam(required = false, name = "sourceId") List<Long> sourceIds,
             @RequestParam(required = false, name = "tag") String tagName,
             @RequestParam(required = false) String q
     ) {
-        return postQueryService.getFeed(cursor, size, sourceIds, tagName, q);
+        return postFeedCache.getFeed(cursor, size, sourceIds, tagName, q);
+    }
+
+    @GetMapping("/search")
+    public PostSearchResponse searchPosts(
+            @RequestParam String q,
+            @RequestParam(required = false) Integer page,
+            @RequestParam(required = false) Integer size
+    ) {
+        return postQueryService.search(q, page, size);
     }
 
     @GetMapping("/{id}")
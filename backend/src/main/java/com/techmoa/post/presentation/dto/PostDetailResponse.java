@@ -1,7 +1,7 @@
 package com.techmoa.post.presentation.dto;
 
 import com.techmoa.common.url.UrlResolver;
-import com.techmoa.post.domain.Post;
+import com.techmoa.post.domain.PostDetailRow;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
 
@@ -18,21 +18,21 @@ public record PostDetailResponse(
 ) {
     private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
 
-    public static PostDetailResponse from(Post post) {
+    public static PostDetailResponse from(PostDetailRow row, List<String> tagNames) {
         return new PostDetailResponse(
-                post.getId(),
-                post.getTitle(),
-                post.getSummary(),
+                row.id(),
+                row.title(),
+                row.summary(),
                 UrlResolver.resolveAbsoluteUrl(
-                        post.getThumbnailUrl(),
-                        post.getCanonicalUrl(),
-                        post.getSource().getBaseUrl()
+                        row.thumbnailUrl(),
+                        row.canonicalUrl(),
+                        row.sourceBaseUrl()
                 ),
-                post.getSource().getName(),
-                post.getCanonicalUrl(),
-                post.getAuthor(),
-                post.getTags().stream().map(tag -> tag.getName()).sorted().toList(),
-                post.getPublishedAt().format(FORMATTER)
+                row.sourceName(),
+                row.canonicalUrl(),
+                row.author(),
+                tagNames.stream().sorted().toList(),
+                row.publishedAt().format(FORMATTER)
         );
     }
 }
@@ -4,7 +4,7 @@ import java.util.List;
 
 public record PostFeedResponse(
         List<PostItemResponse> items,
-        Long nextCursor,
+        String nextCursor,
         boolean hasNext
 ) {
 }
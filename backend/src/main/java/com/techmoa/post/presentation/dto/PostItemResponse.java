@@ -1,7 +1,7 @@
 package com.techmoa.post.presentation.dto;
 
 import com.techmoa.common.url.UrlResolver;
-import com.techmoa.post.domain.Post;
+import com.techmoa.post.domain.PostFeedRow;
 import java.time.format.DateTimeFormatter;
 
 public record PostItemResponse(
@@ -15,19 +15,19 @@ public record PostItemResponse(
 ) {
     private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
 
-    public static PostItemResponse from(Post post) {
+    public static PostItemResponse from(PostFeedRow row) {
         return new PostItemResponse(
-                post.getId(),
-                post.getTitle(),
-                post.getSummary(),
+                row.id(),
+                row.title(),
+                row.summary(),
                 UrlResolver.resolveAbsoluteUrl(
-                        post.getThumbnailUrl(),
-                        post.getCanonicalUrl(),
-                        post.getSource().getBaseUrl()
+                        row.thumbnailUrl(),
+                        row.canonicalUrl(),
+                        row.sourceBaseUrl()
                 ),
-                post.getSource().getName(),
-                post.getCanonicalUrl(),
-                post.getPublishedAt().format(FORMATTER)
+                row.sourceName(),
+                row.canonicalUrl(),
+                row.publishedAt().format(FORMATTER)
         );
     }
 }
@@ -0,0 +1,10 @@
+package com.techmoa.post.presentation.dto;
+
+import java.util.List;
+
+public record PostSearchResponse(
+        List<PostItemResponse> items,
+        long totalHits,
+        boolean hasNext
+) {
+}
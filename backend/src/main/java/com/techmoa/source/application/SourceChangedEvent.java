@@ -0,0 +1,6 @@
+package com.techmoa.source.application;
+
+public record SourceChangedEvent(
+        Long sourceId
+) {
+}
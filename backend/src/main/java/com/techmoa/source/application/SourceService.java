@@ -6,6 +6,7 @@ import com.techmoa.source.domain.SourceRepository;
 import java.net.URI;
 import java.util.Comparator;
 import java.util.List;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -13,9 +14,11 @@ import org.springframework.transaction.annotation.Transactional;
 public class SourceService {
 
     private final SourceRepository sourceRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public SourceService(SourceRepository sourceRepository) {
+    public SourceService(SourceRepository sourceRepository, ApplicationEventPublisher eventPublisher) {
         this.sourceRepository = sourceRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional(readOnly = true)
@@ -33,8 +36,25 @@ public class SourceService {
             ParserType parserType,
             Integer intervalMin,
             Boolean active
+    ) {
+        return createSource(name, baseUrl, feedUrl, parserType, intervalMin, null, null, active);
+    }
+
+    @Transactional
+    public Source createSource(
+            String name,
+            String baseUrl,
+            String feedUrl,
+            ParserType parserType,
+            Integer intervalMin,
+            Integer minIntervalMin,
+            Integer maxIntervalMin,
+            Boolean active
     ) {
         validateUrl(baseUrl, "baseUrl");
+        if (minIntervalMin != null && maxIntervalMin != null && minIntervalMin > maxIntervalMin) {
+            throw new IllegalArgumentException("minIntervalMin must not exceed maxIntervalMin");
+        }
         if (parserType == ParserType.RSS) {
             if (feedUrl == null || feedUrl.isBlank()) {
                 throw new IllegalArgumentException("feedUrl is required for RSS parser");
@@ -50,9 +70,13 @@ public class SourceService {
                 feedUrl,
                 parserType,
                 intervalMin,
+                minIntervalMin,
+                maxIntervalMin,
                 active
         );
-        return sourceRepository.save(source);
+        Source saved = sourceRepository.save(source);
+        eventPublisher.publishEvent(new SourceChangedEvent(saved.getId()));
+        return saved;
     }
 
     private void validateUrl(String value, String fieldName) {
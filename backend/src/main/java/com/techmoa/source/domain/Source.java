@@ -8,6 +8,7 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import java.time.LocalDateTime;
 
@@ -16,7 +17,8 @@ import java.time.LocalDateTime;
 public class Source {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "sources_id_seq")
+    @SequenceGenerator(name = "sources_id_seq", sequenceName = "sources_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, unique = true, length = 100)
@@ -34,9 +36,27 @@ public class Source {
     @Column(nullable = false)
     private Integer intervalMin;
 
+    @Column
+    private Integer minIntervalMin;
+
+    @Column
+    private Integer maxIntervalMin;
+
+    @Column
+    private Integer effectiveIntervalMin;
+
     @Column(nullable = false)
     private Boolean active;
 
+    @Column
+    private LocalDateTime nextSyncAt;
+
+    @Column(length = 100)
+    private String leaseOwner;
+
+    @Column
+    private LocalDateTime leaseExpiresAt;
+
     @Column(nullable = false)
     private LocalDateTime createdAt;
 
@@ -53,12 +73,27 @@ public class Source {
             ParserType parserType,
             Integer intervalMin,
             Boolean active
+    ) {
+        this(name, baseUrl, feedUrl, parserType, intervalMin, null, null, active);
+    }
+
+    public Source(
+            String name,
+            String baseUrl,
+            String feedUrl,
+            ParserType parserType,
+            Integer intervalMin,
+            Integer minIntervalMin,
+            Integer maxIntervalMin,
+            Boolean active
     ) {
         this.name = name;
         this.baseUrl = baseUrl;
         this.feedUrl = feedUrl;
         this.parserType = parserType;
         this.intervalMin = intervalMin;
+        this.minIntervalMin = minIntervalMin;
+        this.maxIntervalMin = maxIntervalMin;
         this.active = active;
         this.createdAt = LocalDateTime.now();
         this.updatedAt = LocalDateTime.now();
@@ -88,7 +123,44 @@ public class Source {
         return intervalMin;
     }
 
+    public Integer getMinIntervalMin() {
+        return minIntervalMin;
+    }
+
+    public Integer getMaxIntervalMin() {
+        return maxIntervalMin;
+    }
+
+    public Integer getEffectiveIntervalMin() {
+        return effectiveIntervalMin;
+    }
+
     public Boolean getActive() {
         return active;
     }
+
+    public LocalDateTime getNextSyncAt() {
+        return nextSyncAt;
+    }
+
+    public String getLeaseOwner() {
+        return leaseOwner;
+    }
+
+    public LocalDateTime getLeaseExpiresAt() {
+        return leaseExpiresAt;
+    }
+
+    public boolean isSyncDue(LocalDateTime now) {
+        return nextSyncAt == null || !nextSyncAt.isAfter(now);
+    }
+
+    public void scheduleNextSync(LocalDateTime nextSyncAt) {
+        this.nextSyncAt = nextSyncAt;
+    }
+
+    public void applyEffectiveInterval(Integer effectiveIntervalMin, LocalDateTime nextSyncAt) {
+        this.effectiveIntervalMin = effectiveIntervalMin;
+        this.nextSyncAt = nextSyncAt;
+    }
 }
@@ -1,9 +1,113 @@
 package com.techmoa.source.domain;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface SourceRepository extends JpaRepository<Source, Long> {
 
     List<Source> findByActiveTrue();
+
+    @Query("select s.nextSyncAt from Source s where s.id = :id")
+    Optional<LocalDateTime> findNextSyncAtById(@Param("id") Long id);
+
+    @Transactional
+    @Modifying
+    @Query("""
+            update Source s
+            set s.leaseOwner = :owner,
+                s.leaseExpiresAt = :leaseExpiresAt,
+                s.nextSyncAt = :nextSyncAt
+            where s.id = :id
+              and (s.leaseExpiresAt is null or s.leaseExpiresAt < :now)
+            """)
+    int claimLease(
+            @Param("id") Long id,
+            @Param("owner") String owner,
+            @Param("now") LocalDateTime now,
+            @Param("leaseExpiresAt") LocalDateTime leaseExpiresAt,
+            @Param("nextSyncAt") LocalDateTime nextSyncAt
+    );
+
+    // 수집 일정은 건드리지 않고 리스만 잡는다. 실패 글 재시도처럼 정기 수집과 겹치지만 않으면 되는 작업용.
+    @Transactional
+    @Modifying
+    @Query("""
+            update Source s
+            set s.leaseOwner = :owner,
+                s.leaseExpiresAt = :leaseExpiresAt
+            where s.id = :id
+              and (s.leaseExpiresAt is null or s.leaseExpiresAt < :now)
+            """)
+    int claimLeaseKeepingSchedule(
+            @Param("id") Long id,
+            @Param("owner") String owner,
+            @Param("now") LocalDateTime now,
+            @Param("leaseExpiresAt") LocalDateTime leaseExpiresAt
+    );
+
+    @Transactional
+    @Modifying
+    @Query("""
+            update Source s
+            set s.leaseOwner = :owner,
+                s.leaseExpiresAt = :leaseExpiresAt,
+                s.nextSyncAt = :nextSyncAt
+            where s.id = :id
+              and s.active = true
+              and (s.nextSyncAt is null or s.nextSyncAt <= :now)
+              and (s.leaseExpiresAt is null or s.leaseExpiresAt < :now)
+            """)
+    int claimDueLease(
+            @Param("id") Long id,
+            @Param("owner") String owner,
+            @Param("now") LocalDateTime now,
+            @Param("leaseExpiresAt") LocalDateTime leaseExpiresAt,
+            @Param("nextSyncAt") LocalDateTime nextSyncAt
+    );
+
+    @Transactional
+    @Modifying
+    @Query("""
+            update Source s
+            set s.effectiveIntervalMin = :effectiveIntervalMin,
+                s.nextSyncAt = :nextSyncAt
+            where s.id = :id
+            """)
+    int updateEffectiveInterval(
+            @Param("id") Long id,
+            @Param("effectiveIntervalMin") Integer effectiveIntervalMin,
+            @Param("nextSyncAt") LocalDateTime nextSyncAt
+    );
+
+    @Transactional
+    @Modifying
+    @Query("""
+            update Source s
+            set s.leaseExpiresAt = :leaseExpiresAt
+            where s.id in :ids
+              and s.leaseOwner = :owner
+            """)
+    int renewLeases(
+            @Param("ids") Collection<Long> ids,
+            @Param("owner") String owner,
+            @Param("leaseExpiresAt") LocalDateTime leaseExpiresAt
+    );
+
+    @Transactional
+    @Modifying
+    @Query("""
+            update Source s
+            set s.leaseOwner = null,
+                s.leaseExpiresAt = null
+            where s.id = :id
+              and s.leaseOwner = :owner
+            """)
+    int releaseLease(@Param("id") Long id, @Param("owner") String owner);
 }
@@ -0,0 +1,110 @@
+package com.techmoa.tag.application;
+
+import com.techmoa.tag.domain.Tag;
+import com.techmoa.tag.domain.TagRepository;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Component
+public class TagDictionary {
+
+    private static final Logger log = LoggerFactory.getLogger(TagDictionary.class);
+
+    private final TagRepository tagRepository;
+    private final int maxSize;
+    // 접근 순서로 정렬해 가득 차면 가장 오래 안 쓴 태그부터 밀어낸다. 조회도 순서를 바꾸므로 맵 전체를 동기화한다.
+    private final Map<String, Long> idsByName;
+
+    public TagDictionary(
+            TagRepository tagRepository,
+            @Value("${techmoa.tag.dictionary-max-size:50000}") int maxSize
+    ) {
+        this.tagRepository = tagRepository;
+        this.maxSize = Math.max(1, maxSize);
+        this.idsByName = Collections.synchronizedMap(new LinkedHashMap<String, Long>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+                return size() > TagDictionary.this.maxSize;
+            }
+        });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        try {
+            // 최근에 만든 태그가 다시 쓰일 가능성이 높으므로 그것부터 채우고, 가장 최근 것이 가장 늦게 밀려나도록 오래된 순으로 넣는다.
+            List<Tag> recentTags = tagRepository.findAll(
+                    PageRequest.of(0, maxSize, Sort.by(Sort.Direction.DESC, "id"))
+            ).getContent();
+            for (Tag tag : recentTags.reversed()) {
+                idsByName.put(tag.getName(), tag.getId());
+            }
+            log.info("Tag dictionary warmed up. size={}", idsByName.size());
+        } catch (Exception e) {
+            log.warn("Failed to warm up tag dictionary. message={}", e.getMessage());
+        }
+    }
+
+    public Map<String, Long> resolveIds(Collection<String> names) {
+        Map<String, Long> resolved = new HashMap<>();
+        Set<String> missing = new LinkedHashSet<>();
+        for (String name : names) {
+            Long id = idsByName.get(name);
+            if (id == null) {
+                missing.add(name);
+            } else {
+                resolved.put(name, id);
+            }
+        }
+        if (missing.isEmpty()) {
+            return resolved;
+        }
+
+        Map<String, Long> created = tagRepository.upsertNames(missing);
+        resolved.putAll(created);
+        remember(created);
+        return resolved;
+    }
+
+    // 조회 전용. 없는 태그를 만들지 않는다.
+    public Optional<Long> findId(String name) {
+        Long id = idsByName.get(name);
+        if (id != null) {
+            return Optional.of(id);
+        }
+        Optional<Long> found = tagRepository.findByName(name).map(Tag::getId);
+        found.ifPresent(foundId -> idsByName.put(name, foundId));
+        return found;
+    }
+
+    private void remember(Map<String, Long> tagIds) {
+        // 롤백되면 새로 넣은 태그 id가 사라지므로 커밋된 뒤에만 사전에 올린다.
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            idsByName.putAll(tagIds);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                idsByName.putAll(tagIds);
+            }
+        });
+    }
+}
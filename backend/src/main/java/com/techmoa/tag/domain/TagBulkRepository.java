@@ -0,0 +1,9 @@
+package com.techmoa.tag.domain;
+
+import java.util.Collection;
+import java.util.Map;
+
+public interface TagBulkRepository {
+
+    Map<String, Long> upsertNames(Collection<String> names);
+}
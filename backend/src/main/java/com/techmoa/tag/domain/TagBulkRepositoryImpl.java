@@ -0,0 +1,119 @@
+package com.techmoa.tag.domain;
+
+import com.techmoa.common.jdbc.DatabaseProduct;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+public class TagBulkRepositoryImpl implements TagBulkRepository {
+
+    // 동시에 같은 태그를 만들어도 유니크 제약 위반 없이 한쪽만 들어가도록 DO NOTHING으로 넘기고 다시 읽는다.
+    // tags_id_seq는 한 번에 50씩 올라가므로(V11) 없는 이름에만 nextval 한 번으로 받은 50개 id 구간을 나눠 준다.
+    private static final String INSERT_MISSING_TAGS_SQL = """
+            WITH fresh AS (
+                SELECT n.name, row_number() OVER (ORDER BY n.name) - 1 AS i
+                FROM unnest(?::text[]) AS n(name)
+                WHERE NOT EXISTS (SELECT 1 FROM tags t WHERE t.name = n.name)
+            ),
+            blocks AS MATERIALIZED (
+                SELECT b, nextval('tags_id_seq') AS lo
+                FROM generate_series(0, ((SELECT count(*) FROM fresh) + 49) / 50 - 1) AS b
+            )
+            INSERT INTO tags (id, name, created_at)
+            SELECT bl.lo + f.i % 50, f.name, now()
+            FROM fresh f
+            JOIN blocks bl ON bl.b = f.i / 50
+            ORDER BY f.name
+            ON CONFLICT (name) DO NOTHING
+            """;
+
+    private static final String SELECT_TAG_IDS_SQL = """
+            SELECT id, name
+            FROM tags
+            WHERE name = ANY(?::text[])
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private volatile Boolean postgres;
+
+    public TagBulkRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public Map<String, Long> upsertNames(Collection<String> names) {
+        if (names.isEmpty()) {
+            return new HashMap<>();
+        }
+        if (!isPostgres()) {
+            return insertMissingPortably(names);
+        }
+
+        String[] values = new TreeSet<>(names).toArray(String[]::new);
+        jdbcTemplate.update(connection -> {
+            PreparedStatement statement = connection.prepareStatement(INSERT_MISSING_TAGS_SQL);
+            statement.setArray(1, connection.createArrayOf("text", values));
+            return statement;
+        });
+        Map<String, Long> tagIds = new HashMap<>();
+        jdbcTemplate.query(
+                connection -> {
+                    PreparedStatement statement = connection.prepareStatement(SELECT_TAG_IDS_SQL);
+                    statement.setArray(1, connection.createArrayOf("text", values));
+                    return statement;
+                },
+                resultSet -> {
+                    tagIds.put(resultSet.getString("name"), resultSet.getLong("id"));
+                }
+        );
+        return tagIds;
+    }
+
+    private Map<String, Long> insertMissingPortably(Collection<String> names) {
+        // PostgreSQL이 아닌 DB(테스트용 H2)에서는 동시성 보장 없이 조회 후 없는 것만 넣는다.
+        List<String> sortedNames = List.copyOf(new TreeSet<>(names));
+        Map<String, Long> tagIds = selectIds(sortedNames);
+        List<Object[]> missing = sortedNames.stream()
+                .filter(name -> !tagIds.containsKey(name))
+                .map(name -> new Object[]{name, Timestamp.valueOf(LocalDateTime.now())})
+                .toList();
+        if (!missing.isEmpty()) {
+            // H2 스키마는 Hibernate가 만들어 id 기본값이 없으므로 엔티티와 같은 시퀀스에서 직접 꺼낸다.
+            jdbcTemplate.batchUpdate(
+                    "INSERT INTO tags (id, name, created_at) VALUES (NEXT VALUE FOR tags_id_seq, ?, ?)",
+                    missing
+            );
+            tagIds.putAll(selectIds(sortedNames));
+        }
+        return tagIds;
+    }
+
+    private Map<String, Long> selectIds(List<String> names) {
+        Map<String, Long> tagIds = new HashMap<>();
+        String placeholders = String.join(", ", Collections.nCopies(names.size(), "?"));
+        jdbcTemplate.query(
+                "SELECT id, name FROM tags WHERE name IN (" + placeholders + ")",
+                resultSet -> {
+                    tagIds.put(resultSet.getString("name"), resultSet.getLong("id"));
+                },
+                names.toArray()
+        );
+        return tagIds;
+    }
+
+    private boolean isPostgres() {
+        Boolean value = postgres;
+        if (value == null) {
+            value = DatabaseProduct.isPostgres(jdbcTemplate);
+            postgres = value;
+        }
+        return value;
+    }
+}
@@ -0,0 +1,3 @@
+ALTER TABLE posts ADD COLUMN content_hash VARCHAR(64);
+
+ALTER TABLE sync_jobs ADD COLUMN unchanged_count INT NOT NULL DEFAULT 0;
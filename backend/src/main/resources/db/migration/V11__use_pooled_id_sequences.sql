@@ -0,0 +1,8 @@
+-- JPA 엔티티가 IDENTITY 대신 시퀀스를 쓰도록 바꾼다. nextval 한 번에 50개 id를 받아 INSERT를 JDBC 배치로 묶는다.
+-- 애플리케이션은 pooled-lo 최적화기를 쓰므로 nextval 값 v에 대해 v ~ v+49 구간을 쓴다.
+-- 컬럼 기본값(nextval)으로 들어가는 벌크 INSERT는 구간의 첫 값만 쓰므로 두 경로의 id가 겹치지 않는다.
+ALTER SEQUENCE sources_id_seq INCREMENT BY 50;
+ALTER SEQUENCE posts_id_seq INCREMENT BY 50;
+ALTER SEQUENCE tags_id_seq INCREMENT BY 50;
+ALTER SEQUENCE sync_jobs_id_seq INCREMENT BY 50;
+ALTER SEQUENCE fetch_validators_id_seq INCREMENT BY 50;
@@ -0,0 +1,16 @@
+CREATE TABLE crawl_failures (
+    id BIGSERIAL PRIMARY KEY,
+    source_id BIGINT NOT NULL REFERENCES sources (id),
+    url TEXT NOT NULL,
+    error_class VARCHAR(200) NOT NULL,
+    error_message TEXT,
+    attempt_count INT NOT NULL DEFAULT 0,
+    next_retry_at TIMESTAMP,
+    first_failed_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    last_failed_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+ALTER SEQUENCE crawl_failures_id_seq INCREMENT BY 50;
+
+CREATE UNIQUE INDEX uk_crawl_failures_source_url ON crawl_failures (source_id, url);
+CREATE INDEX idx_crawl_failures_next_retry_at ON crawl_failures (next_retry_at) WHERE next_retry_at IS NOT NULL;
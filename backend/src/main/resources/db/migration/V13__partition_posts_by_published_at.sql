@@ -0,0 +1,91 @@
+-- posts를 published_at 기준 월 단위 범위 파티션으로 바꾼다.
+-- 파티션 테이블의 유니크 제약에는 파티션 키가 들어가야 하므로
+--   * PK는 (id, published_at)이 되고,
+--   * 전역 canonical_url 유일성은 post_urls가 맡으며,
+--   * 파티션 테이블을 가리키는 외래 키도 파티션 키가 필요하므로 post_tags.post_id의 외래 키는 없앤다(글은 지우지 않고, 연결은 replaceTagLinks가 관리한다).
+
+ALTER TABLE posts RENAME TO posts_legacy;
+ALTER TABLE posts_legacy RENAME CONSTRAINT posts_pkey TO posts_legacy_pkey;
+ALTER TABLE post_tags DROP CONSTRAINT post_tags_post_id_fkey;
+ALTER SEQUENCE posts_id_seq OWNED BY NONE;
+
+CREATE TABLE posts (
+    id BIGINT NOT NULL DEFAULT nextval('posts_id_seq'),
+    source_id BIGINT NOT NULL REFERENCES sources (id),
+    canonical_url TEXT NOT NULL,
+    title VARCHAR(500) NOT NULL,
+    summary TEXT,
+    author VARCHAR(200),
+    thumbnail_url TEXT,
+    published_at TIMESTAMP NOT NULL,
+    fetched_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    content_hash VARCHAR(64),
+    PRIMARY KEY (id, published_at)
+) PARTITION BY RANGE (published_at);
+
+ALTER SEQUENCE posts_id_seq OWNED BY posts.id;
+
+-- 아직 파티션이 없는 범위(먼 미래 날짜 등)의 글을 받아 두는 곳. 해당 월 파티션이 생기면 그쪽으로 옮긴다.
+CREATE TABLE posts_default PARTITION OF posts DEFAULT;
+
+CREATE FUNCTION ensure_posts_partitions(from_at TIMESTAMP, to_at TIMESTAMP) RETURNS INT AS $$
+DECLARE
+    month_start TIMESTAMP := date_trunc('month', from_at);
+    month_end TIMESTAMP;
+    partition_name TEXT;
+    created INT := 0;
+BEGIN
+    -- 여러 워커가 동시에 같은 월 파티션을 만들지 않도록 직렬화한다.
+    PERFORM pg_advisory_xact_lock(hashtext('ensure_posts_partitions'));
+    WHILE month_start <= to_at LOOP
+        month_end := month_start + INTERVAL '1 month';
+        partition_name := 'posts_p' || to_char(month_start, 'YYYYMM');
+        IF to_regclass(partition_name) IS NULL THEN
+            CREATE TEMP TABLE posts_moving AS
+                SELECT * FROM posts_default
+                WHERE published_at >= month_start AND published_at < month_end;
+            DELETE FROM posts_default
+                WHERE published_at >= month_start AND published_at < month_end;
+            EXECUTE format(
+                'CREATE TABLE %I PARTITION OF posts FOR VALUES FROM (%L) TO (%L)',
+                partition_name, month_start, month_end
+            );
+            INSERT INTO posts SELECT * FROM posts_moving;
+            DROP TABLE posts_moving;
+            created := created + 1;
+        END IF;
+        month_start := month_end;
+    END LOOP;
+    RETURN created;
+END;
+$$ LANGUAGE plpgsql;
+
+SELECT ensure_posts_partitions(
+    COALESCE((SELECT min(published_at) FROM posts_legacy), CURRENT_TIMESTAMP::timestamp),
+    (CURRENT_TIMESTAMP + INTERVAL '3 months')::timestamp
+);
+
+INSERT INTO posts (
+    id, source_id, canonical_url, title, summary, author, thumbnail_url,
+    published_at, fetched_at, created_at, updated_at, content_hash
+)
+SELECT id, source_id, canonical_url, title, summary, author, thumbnail_url,
+       published_at, fetched_at, created_at, updated_at, content_hash
+FROM posts_legacy;
+
+CREATE TABLE post_urls (
+    canonical_url TEXT PRIMARY KEY,
+    post_id BIGINT NOT NULL
+);
+
+INSERT INTO post_urls (canonical_url, post_id)
+SELECT canonical_url, id
+FROM posts_legacy;
+
+DROP TABLE posts_legacy;
+
+CREATE INDEX idx_posts_published_at ON posts (published_at DESC, id DESC);
+CREATE INDEX idx_posts_source_published ON posts (source_id, published_at DESC);
+CREATE INDEX idx_posts_canonical_url ON posts (canonical_url);
@@ -0,0 +1,50 @@
+-- 검색어 q를 부분 일치로 찾는 LOWER(...) LIKE '%q%'는 인덱스를 못 타서 매번 전체를 읽었다.
+-- 소문자 제목+요약을 생성 컬럼으로 두고 pg_trgm GIN 인덱스를 건다.
+-- 한글도 트라이그램으로 잘리려면 DB가 UTF-8 로케일(C 로케일이 아닌)이어야 한다.
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+ALTER TABLE posts
+    ADD COLUMN search_text TEXT
+    GENERATED ALWAYS AS (lower(title || ' ' || COALESCE(summary, ''))) STORED;
+
+CREATE INDEX idx_posts_search_text_trgm ON posts USING gin (search_text gin_trgm_ops);
+
+-- 생성 컬럼에는 값을 넣을 수 없으므로 DEFAULT 파티션에서 행을 옮길 때 컬럼을 명시하도록 다시 정의한다.
+CREATE OR REPLACE FUNCTION ensure_posts_partitions(from_at TIMESTAMP, to_at TIMESTAMP) RETURNS INT AS $$
+DECLARE
+    month_start TIMESTAMP := date_trunc('month', from_at);
+    month_end TIMESTAMP;
+    partition_name TEXT;
+    created INT := 0;
+BEGIN
+    PERFORM pg_advisory_xact_lock(hashtext('ensure_posts_partitions'));
+    WHILE month_start <= to_at LOOP
+        month_end := month_start + INTERVAL '1 month';
+        partition_name := 'posts_p' || to_char(month_start, 'YYYYMM');
+        IF to_regclass(partition_name) IS NULL THEN
+            CREATE TEMP TABLE posts_moving AS
+                SELECT id, source_id, canonical_url, title, summary, author, thumbnail_url,
+                       published_at, fetched_at, created_at, updated_at, content_hash
+                FROM posts_default
+                WHERE published_at >= month_start AND published_at < month_end;
+            DELETE FROM posts_default
+                WHERE published_at >= month_start AND published_at < month_end;
+            EXECUTE format(
+                'CREATE TABLE %I PARTITION OF posts FOR VALUES FROM (%L) TO (%L)',
+                partition_name, month_start, month_end
+            );
+            INSERT INTO posts (
+                id, source_id, canonical_url, title, summary, author, thumbnail_url,
+                published_at, fetched_at, created_at, updated_at, content_hash
+            )
+            SELECT id, source_id, canonical_url, title, summary, author, thumbnail_url,
+                   published_at, fetched_at, created_at, updated_at, content_hash
+            FROM posts_moving;
+            DROP TABLE posts_moving;
+            created := created + 1;
+        END IF;
+        month_start := month_end;
+    END LOOP;
+    RETURN created;
+END;
+$$ LANGUAGE plpgsql;
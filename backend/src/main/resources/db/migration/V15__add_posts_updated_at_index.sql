@@ -0,0 +1,2 @@
+-- 검색 색인이 재시작하거나 다른 워커가 쓴 글을 따라잡을 때 updated_at 순으로 끊어 읽는다.
+CREATE INDEX idx_posts_updated_at ON posts (updated_at, id);
@@ -0,0 +1,16 @@
+-- 태그 필터 피드가 posts를 발행일 순으로 훑으며 글마다 post_tags를 확인하던 것을,
+-- post_tags에 글의 발행일을 함께 두고 (tag_id, published_at DESC, post_id DESC) 순서로 바로 읽도록 바꾼다.
+-- 값은 PostBulkRepositoryImpl.replaceTagLinks가 글을 저장할 때마다 맞춰 둔다.
+ALTER TABLE post_tags ADD COLUMN published_at TIMESTAMP;
+
+UPDATE post_tags pt
+SET published_at = p.published_at
+FROM posts p
+WHERE p.id = pt.post_id;
+
+-- 글이 없는 연결(외래 키가 없어진 뒤 남은 것)은 피드에 나올 수 없으므로 정리한다.
+DELETE FROM post_tags WHERE published_at IS NULL;
+
+ALTER TABLE post_tags ALTER COLUMN published_at SET NOT NULL;
+
+CREATE INDEX idx_post_tags_tag_feed ON post_tags (tag_id, published_at DESC, post_id DESC);
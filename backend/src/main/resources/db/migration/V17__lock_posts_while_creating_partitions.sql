@@ -0,0 +1,36 @@
+-- 월 파티션을 만들 때 DEFAULT 파티션의 글을 옮기는 동안 수집 트랜잭션이 같은 달의 글을 DEFAULT에 넣으면,
+-- 옮긴 뒤 CREATE ... PARTITION OF가 DEFAULT에 남은 그 글 때문에 실패한다.
+-- 파티션을 새로 만들 때만 posts(모든 파티션 포함)에 대한 쓰기를 막고, 진행 중인 쓰기가 커밋된 뒤에 옮긴다.
+-- 부모와 DEFAULT를 한 번에 잠가야 CREATE가 부모 잠금을 올리는 동안 다른 쓰기와 서로 기다리지 않는다.
+CREATE OR REPLACE FUNCTION ensure_posts_partitions(from_at TIMESTAMP, to_at TIMESTAMP) RETURNS INT AS $$
+DECLARE
+    month_start TIMESTAMP := date_trunc('month', from_at);
+    month_end TIMESTAMP;
+    partition_name TEXT;
+    created INT := 0;
+BEGIN
+    -- 여러 워커가 동시에 같은 월 파티션을 만들지 않도록 직렬화한다.
+    PERFORM pg_advisory_xact_lock(hashtext('ensure_posts_partitions'));
+    WHILE month_start <= to_at LOOP
+        month_end := month_start + INTERVAL '1 month';
+        partition_name := 'posts_p' || to_char(month_start, 'YYYYMM');
+        IF to_regclass(partition_name) IS NULL THEN
+            LOCK TABLE posts IN SHARE ROW EXCLUSIVE MODE;
+            CREATE TEMP TABLE posts_moving AS
+                SELECT * FROM posts_default
+                WHERE published_at >= month_start AND published_at < month_end;
+            DELETE FROM posts_default
+                WHERE published_at >= month_start AND published_at < month_end;
+            EXECUTE format(
+                'CREATE TABLE %I PARTITION OF posts FOR VALUES FROM (%L) TO (%L)',
+                partition_name, month_start, month_end
+            );
+            INSERT INTO posts SELECT * FROM posts_moving;
+            DROP TABLE posts_moving;
+            created := created + 1;
+        END IF;
+        month_start := month_end;
+    END LOOP;
+    RETURN created;
+END;
+$$ LANGUAGE plpgsql;
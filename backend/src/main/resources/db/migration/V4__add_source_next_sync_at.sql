@@ -0,0 +1,12 @@
+ALTER TABLE sources ADD COLUMN next_sync_at TIMESTAMP;
+
+UPDATE sources s
+SET next_sync_at = latest.started_at + make_interval(mins => s.interval_min)
+FROM (
+    SELECT source_id, MAX(started_at) AS started_at
+    FROM sync_jobs
+    GROUP BY source_id
+) latest
+WHERE latest.source_id = s.id;
+
+CREATE INDEX idx_sources_active_next_sync ON sources (active, next_sync_at);
@@ -0,0 +1,2 @@
+ALTER TABLE sources ADD COLUMN lease_owner VARCHAR(100);
+ALTER TABLE sources ADD COLUMN lease_expires_at TIMESTAMP;
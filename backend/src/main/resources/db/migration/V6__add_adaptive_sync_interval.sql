@@ -0,0 +1,5 @@
+ALTER TABLE sources ADD COLUMN min_interval_min INT;
+ALTER TABLE sources ADD COLUMN max_interval_min INT;
+ALTER TABLE sources ADD COLUMN effective_interval_min INT;
+
+ALTER TABLE sync_jobs ADD COLUMN new_post_count INT NOT NULL DEFAULT 0;
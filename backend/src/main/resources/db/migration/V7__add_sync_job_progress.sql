@@ -0,0 +1,3 @@
+ALTER TABLE sync_jobs ADD COLUMN discovered_count INT NOT NULL DEFAULT 0;
+ALTER TABLE sync_jobs ADD COLUMN fetched_count INT NOT NULL DEFAULT 0;
+ALTER TABLE sync_jobs ADD COLUMN cancel_requested BOOLEAN NOT NULL DEFAULT FALSE;
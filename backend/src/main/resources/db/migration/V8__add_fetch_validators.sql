@@ -0,0 +1,10 @@
+CREATE TABLE fetch_validators (
+    id BIGSERIAL PRIMARY KEY,
+    source_id BIGINT NOT NULL REFERENCES sources (id),
+    url TEXT NOT NULL,
+    etag VARCHAR(500),
+    last_modified VARCHAR(100),
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE UNIQUE INDEX uk_fetch_validators_source_url ON fetch_validators (source_id, url);
@@ -0,0 +1,2 @@
+ALTER TABLE fetch_validators
+    ADD COLUMN sitemap_lastmod TIMESTAMP;
@@ -5,7 +5,9 @@ import org.springframework.boot.test.context.SpringBootTest;
 
 @SpringBootTest(properties = {
         "spring.flyway.enabled=false",
-        "spring.jpa.hibernate.ddl-auto=create-drop"
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "techmoa.search.index-dir=build/test-search-index",
+        "techmoa.feed.cursor-secret=test-secret"
 })
 class TechmoaApplicationTests {
 
@@ -2,11 +2,12 @@ package com.techmoa.admin.presentation;
 
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.httpBasic;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.techmoa.common.config.SecurityConfig;
 import com.techmoa.ingestion.application.SourceSyncService;
-import com.techmoa.ingestion.application.SyncResult;
+import com.techmoa.ingestion.domain.SyncJob;
 import com.techmoa.ingestion.parser.ParserType;
 import com.techmoa.source.application.SourceService;
 import com.techmoa.source.domain.Source;
@@ -16,12 +17,14 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.test.web.servlet.MockMvc;
 
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.when;
 
 @WebMvcTest(AdminSourceController.class)
@@ -62,6 +65,8 @@ class AdminSourceControllerSecurityTest {
                 anyString(),
                 eq(ParserType.RSS),
                 anyInt(),
+                isNull(),
+                isNull(),
                 anyBoolean()
         )).thenReturn(new Source(
                 "카카오테크",
@@ -96,12 +101,24 @@ class AdminSourceControllerSecurityTest {
 
     @Test
     void backfill_acceptsAuthenticatedAdmin() throws Exception {
-        when(sourceSyncService.backfillSourceById(eq(1L), anyString()))
-                .thenReturn(new SyncResult("카카오테크", 120, 118));
+        Source source = new Source(
+                "카카오테크",
+                "https://tech.kakao.com",
+                "https://tech.kakao.com/feed",
+                ParserType.RSS,
+                30,
+                true
+        );
+        ReflectionTestUtils.setField(source, "id", 1L);
+        SyncJob syncJob = SyncJob.queue(source);
+        ReflectionTestUtils.setField(syncJob, "id", 42L);
+        when(sourceSyncService.enqueueBackfill(eq(1L), anyString())).thenReturn(syncJob);
 
         mockMvc.perform(post("/api/admin/sources/1/backfill")
                         .with(httpBasic("admin", "admin1234"))
                         .queryParam("sitemapUrl", "https://tech.kakao.com/sitemap.xml"))
-                .andExpect(status().isOk());
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.jobId").value(42))
+                .andExpect(jsonPath("$.status").value("QUEUED"));
     }
 }
@@ -0,0 +1,75 @@
+package com.techmoa.common.jdbc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+class ReplicaRoutingDataSourceTest {
+
+    private final AtomicBoolean replicaAvailable = new AtomicBoolean(true);
+
+    private JdbcTemplate jdbcTemplate;
+
+    private TransactionTemplate readWriteTransaction;
+
+    private TransactionTemplate readOnlyTransaction;
+
+    @BeforeEach
+    void setUp() {
+        // 서로 다른 두 DB에 자기 이름을 넣어 두고, 쿼리가 어느 쪽으로 갔는지 읽어서 확인한다.
+        DataSource primary = database("routing-primary");
+        DataSource replica = database("routing-replica");
+        DataSource routing = new LazyConnectionDataSourceProxy(
+                new ReplicaRoutingDataSource(primary, replica, replicaAvailable::get)
+        );
+
+        jdbcTemplate = new JdbcTemplate(routing);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(routing);
+        readWriteTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
+
+    @Test
+    void routesReadOnlyTransactionsToReplicaAndWritesToPrimary() {
+        assertThat(readOnlyTransaction.execute(status -> currentNode())).isEqualTo("routing-replica");
+        assertThat(readWriteTransaction.execute(status -> currentNode())).isEqualTo("routing-primary");
+        assertThat(currentNode()).isEqualTo("routing-primary");
+    }
+
+    @Test
+    void fallsBackToPrimaryWhenReplicaIsUnavailable() {
+        replicaAvailable.set(false);
+
+        assertThat(readOnlyTransaction.execute(status -> currentNode())).isEqualTo("routing-primary");
+    }
+
+    @Test
+    void keepsPinnedWorkOnPrimary() {
+        String node = DataSourceRouting.callOnPrimary(() -> readOnlyTransaction.execute(status -> currentNode()));
+
+        assertThat(node).isEqualTo("routing-primary");
+        assertThat(readOnlyTransaction.execute(status -> currentNode())).isEqualTo("routing-replica");
+    }
+
+    private String currentNode() {
+        return jdbcTemplate.queryForObject("SELECT name FROM node", String.class);
+    }
+
+    private DataSource database(String name) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1");
+        JdbcTemplate template = new JdbcTemplate(dataSource);
+        template.execute("CREATE TABLE IF NOT EXISTS node (name VARCHAR(50))");
+        template.update("DELETE FROM node");
+        template.update("INSERT INTO node (name) VALUES (?)", name);
+        return dataSource;
+    }
+}
@@ -0,0 +1,128 @@
+package com.techmoa.ingestion.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+import com.techmoa.ingestion.domain.SyncJob;
+import com.techmoa.ingestion.domain.SyncJobRepository;
+import com.techmoa.ingestion.parser.ParserType;
+import com.techmoa.post.domain.PostRepository;
+import com.techmoa.source.domain.Source;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class AdaptiveIntervalPolicyTest {
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private SyncJobRepository syncJobRepository;
+
+    private AdaptiveIntervalPolicy adaptiveIntervalPolicy;
+
+    @BeforeEach
+    void setUp() {
+        adaptiveIntervalPolicy = new AdaptiveIntervalPolicy(postRepository, syncJobRepository, true, 10, 1440);
+    }
+
+    @Test
+    void computeIntervalMin_followsMedianPublishGap() {
+        Source source = source(null, null);
+        givenPublishedEvery(source, 240);
+        givenRecentJobs(source, completedJob(source, 1));
+
+        // 4시간 간격으로 발행되는 블로그는 발행 간격의 1/4 주기로 확인한다.
+        assertThat(adaptiveIntervalPolicy.computeIntervalMin(source)).isEqualTo(60);
+    }
+
+    @Test
+    void computeIntervalMin_backsOffWhileSyncsFindNothing() {
+        Source source = source(null, null);
+        givenPublishedEvery(source, 240);
+        givenRecentJobs(source, completedJob(source, 0), completedJob(source, 0), completedJob(source, 1));
+
+        assertThat(adaptiveIntervalPolicy.computeIntervalMin(source)).isEqualTo(135);
+    }
+
+    @Test
+    void computeIntervalMin_backsOffExponentiallyOnFailures() {
+        Source source = source(null, null);
+        givenPublishedEvery(source, 240);
+        givenRecentJobs(source, failedJob(source), failedJob(source), completedJob(source, 1));
+
+        assertThat(adaptiveIntervalPolicy.computeIntervalMin(source)).isEqualTo(240);
+    }
+
+    @Test
+    void computeIntervalMin_tightensOnBurstButRespectsSourceFloor() {
+        Source source = source(45, null);
+        givenPublishedEvery(source, 240);
+        givenRecentJobs(source, completedJob(source, 5));
+
+        assertThat(adaptiveIntervalPolicy.computeIntervalMin(source)).isEqualTo(45);
+    }
+
+    @Test
+    void computeIntervalMin_fallsBackToConfiguredIntervalWithoutHistory() {
+        Source source = source(null, 120);
+        when(postRepository.findRecentPublishedAtBySourceId(eq(source.getId()), any(Pageable.class)))
+                .thenReturn(List.of());
+        givenRecentJobs(source);
+
+        assertThat(adaptiveIntervalPolicy.computeIntervalMin(source)).isEqualTo(30);
+    }
+
+    private Source source(Integer minIntervalMin, Integer maxIntervalMin) {
+        Source source = new Source(
+                "카카오테크",
+                "https://tech.kakao.com",
+                "https://tech.kakao.com/feed",
+                ParserType.RSS,
+                30,
+                minIntervalMin,
+                maxIntervalMin,
+                true
+        );
+        ReflectionTestUtils.setField(source, "id", 1L);
+        return source;
+    }
+
+    private void givenPublishedEvery(Source source, int gapMin) {
+        LocalDateTime latest = LocalDateTime.of(2025, 3, 1, 12, 0);
+        List<LocalDateTime> publishedAts = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            publishedAts.add(latest.minusMinutes((long) gapMin * i));
+        }
+        when(postRepository.findRecentPublishedAtBySourceId(eq(source.getId()), any(Pageable.class)))
+                .thenReturn(publishedAts);
+    }
+
+    private void givenRecentJobs(Source source, SyncJob... jobs) {
+        when(syncJobRepository.findTop10BySource_IdOrderByStartedAtDesc(source.getId()))
+                .thenReturn(List.of(jobs));
+    }
+
+    private SyncJob completedJob(Source source, int newPostCount) {
+        SyncJob job = SyncJob.start(source);
+        job.complete(newPostCount, newPostCount);
+        return job;
+    }
+
+    private SyncJob failedJob(Source source) {
+        SyncJob job = SyncJob.start(source);
+        job.fail("timeout");
+        return job;
+    }
+}
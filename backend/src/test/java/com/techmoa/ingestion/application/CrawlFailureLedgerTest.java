@@ -0,0 +1,105 @@
+package com.techmoa.ingestion.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.techmoa.ingestion.domain.CrawlFailure;
+import com.techmoa.ingestion.domain.CrawlFailureRepository;
+import com.techmoa.ingestion.parser.FetchFailure;
+import com.techmoa.ingestion.parser.ParserType;
+import com.techmoa.source.domain.Source;
+import com.techmoa.source.domain.SourceRepository;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.flyway.enabled=false"
+})
+class CrawlFailureLedgerTest {
+
+    private static final String POST_URL = "https://ledger.example.com/posts/1";
+
+    @Autowired
+    private SourceRepository sourceRepository;
+
+    @Autowired
+    private CrawlFailureRepository crawlFailureRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private CrawlFailureLedger ledger;
+
+    @BeforeEach
+    void setUp() {
+        ledger = new CrawlFailureLedger(crawlFailureRepository, 60_000, 600_000, 3, 60_000);
+    }
+
+    @Test
+    void record_backsOffExponentiallyAndStopsAfterMaxAttempts() {
+        Source source = saveSource();
+
+        ledger.record(source, List.of(timeout(POST_URL)));
+        CrawlFailure first = reload(source);
+        assertThat(first.getAttemptCount()).isEqualTo(1);
+        assertThat(first.getErrorClass()).isEqualTo("java.net.http.HttpTimeoutException");
+        assertThat(Duration.between(first.getLastFailedAt(), first.getNextRetryAt())).isEqualTo(Duration.ofMinutes(1));
+
+        ledger.record(source, List.of(timeout(POST_URL)));
+        CrawlFailure second = reload(source);
+        assertThat(second.getAttemptCount()).isEqualTo(2);
+        assertThat(Duration.between(second.getLastFailedAt(), second.getNextRetryAt())).isEqualTo(Duration.ofMinutes(2));
+
+        ledger.record(source, List.of(timeout(POST_URL)));
+        CrawlFailure third = reload(source);
+        assertThat(third.getAttemptCount()).isEqualTo(3);
+        assertThat(third.getNextRetryAt()).isNull();
+        assertThat(third.getFirstFailedAt()).isEqualTo(first.getFirstFailedAt());
+    }
+
+    @Test
+    void claimDue_claimsOnlyDueEntriesOnce() {
+        Source source = saveSource();
+        ledger.record(source, List.of(timeout(POST_URL), timeout("https://ledger.example.com/posts/2")));
+        CrawlFailure due = reload(source);
+        due.scheduleRetry(LocalDateTime.now().minusMinutes(1));
+        entityManager.flush();
+        entityManager.clear();
+
+        List<CrawlFailure> claimed = ledger.claimDue(10);
+
+        assertThat(claimed).extracting(CrawlFailure::getUrl).containsExactly(POST_URL);
+        assertThat(ledger.claimDue(10)).isEmpty();
+
+        ledger.resolve(source.getId(), List.of(POST_URL));
+        entityManager.clear();
+        assertThat(crawlFailureRepository.findBySource_IdAndUrlIn(source.getId(), List.of(POST_URL))).isEmpty();
+    }
+
+    private CrawlFailure reload(Source source) {
+        entityManager.flush();
+        entityManager.clear();
+        return crawlFailureRepository.findBySource_IdAndUrlIn(source.getId(), List.of(POST_URL)).getFirst();
+    }
+
+    private FetchFailure timeout(String url) {
+        return new FetchFailure(url, "java.net.http.HttpTimeoutException", "request timed out");
+    }
+
+    private Source saveSource() {
+        return sourceRepository.save(new Source(
+                "원장테스트",
+                "https://ledger.example.com",
+                "https://ledger.example.com/sitemap.xml",
+                ParserType.SITEMAP,
+                30,
+                true
+        ));
+    }
+}
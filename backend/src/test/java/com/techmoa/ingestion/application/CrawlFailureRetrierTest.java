@@ -0,0 +1,106 @@
+package com.techmoa.ingestion.application;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.techmoa.ingestion.domain.CrawlFailure;
+import com.techmoa.ingestion.parser.FetchContext;
+import com.techmoa.ingestion.parser.ParserType;
+import com.techmoa.ingestion.parser.SourceProfile;
+import com.techmoa.ingestion.parser.sitemap.SitemapTechBlogParser;
+import com.techmoa.post.application.PostUpsertService;
+import com.techmoa.source.domain.Source;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class CrawlFailureRetrierTest {
+
+    private static final String POST_URL = "https://retry.example.com/posts/1";
+
+    @Mock
+    private CrawlFailureLedger crawlFailureLedger;
+
+    @Mock
+    private SitemapTechBlogParser sitemapTechBlogParser;
+
+    @Mock
+    private PostUpsertService postUpsertService;
+
+    @Mock
+    private SyncLeaseService syncLeaseService;
+
+    private SourceSyncExecutor sourceSyncExecutor;
+
+    private CrawlFailureRetrier retrier;
+
+    private Source source;
+
+    @BeforeEach
+    void setUp() {
+        sourceSyncExecutor = new SourceSyncExecutor(4, 1, 10_000, 10_000);
+        retrier = new CrawlFailureRetrier(
+                crawlFailureLedger,
+                sitemapTechBlogParser,
+                postUpsertService,
+                sourceSyncExecutor,
+                syncLeaseService,
+                true,
+                100,
+                200
+        );
+        source = new Source(
+                "재시도소스",
+                "https://retry.example.com",
+                "https://retry.example.com/sitemap.xml",
+                ParserType.SITEMAP,
+                30,
+                true
+        );
+        ReflectionTestUtils.setField(source, "id", 1L);
+        when(crawlFailureLedger.claimDue(anyInt())).thenReturn(List.of(new CrawlFailure(source, POST_URL)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        sourceSyncExecutor.destroy();
+    }
+
+    @Test
+    void retryDue_refetchesUnderSourceLease() {
+        when(syncLeaseService.tryAcquireKeepingSchedule(source)).thenReturn(true);
+        when(postUpsertService.findFetchedAt(eq(source), anyCollection())).thenReturn(Map.of());
+
+        retrier.retryDue();
+
+        verify(syncLeaseService, timeout(2_000)).release(source);
+        verify(sitemapTechBlogParser).refetchPosts(any(SourceProfile.class), eq(List.of(POST_URL)), any(FetchContext.class), any());
+        verify(crawlFailureLedger).resolve(1L, List.of(POST_URL));
+    }
+
+    @Test
+    void retryDue_skipsSourceWhileItsSyncHoldsLease() {
+        when(syncLeaseService.tryAcquireKeepingSchedule(source)).thenReturn(false);
+
+        retrier.retryDue();
+
+        verify(syncLeaseService, timeout(2_000)).tryAcquireKeepingSchedule(source);
+        verify(sitemapTechBlogParser, after(200).never()).refetchPosts(any(), anyList(), any(), any());
+        verify(syncLeaseService, never()).release(any(Source.class));
+    }
+}
@@ -0,0 +1,92 @@
+package com.techmoa.ingestion.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.techmoa.ingestion.parser.ParserType;
+import com.techmoa.source.domain.Source;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class SourceSyncExecutorTest {
+
+    private SourceSyncExecutor executor;
+
+    @AfterEach
+    void tearDown() {
+        if (executor != null) {
+            executor.destroy();
+        }
+    }
+
+    @Test
+    void submit_capsConcurrencyPerHost() throws Exception {
+        executor = new SourceSyncExecutor(8, 1, 10_000, 10_000);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        Runnable task = () -> {
+            int current = running.incrementAndGet();
+            maxRunning.accumulateAndGet(current, Math::max);
+            sleep(50);
+            running.decrementAndGet();
+        };
+
+        CompletableFuture.allOf(
+                executor.submit(source("A", "https://same.example.com/a.xml"), task),
+                executor.submit(source("B", "https://same.example.com/b.xml"), task),
+                executor.submit(source("C", "https://same.example.com/c.xml"), task)
+        ).get(5, TimeUnit.SECONDS);
+
+        assertThat(maxRunning.get()).isEqualTo(1);
+    }
+
+    @Test
+    void submit_interruptsStalledSourceWithoutBlockingOtherHosts() throws Exception {
+        executor = new SourceSyncExecutor(2, 1, 200, 200);
+        CountDownLatch interrupted = new CountDownLatch(1);
+
+        CompletableFuture<Void> stalled = executor.submit(source("느린소스", "https://slow.example.com/feed"), () -> {
+            try {
+                Thread.sleep(60_000);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+        });
+        CompletableFuture<Void> healthy = executor.submit(source("빠른소스", "https://fast.example.com/feed"), () -> {
+        });
+
+        healthy.get(1, TimeUnit.SECONDS);
+        assertThat(interrupted.await(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(stalled).isCompletedExceptionally();
+    }
+
+    @Test
+    void submit_startsTimeoutOnlyAfterPermitsAreAcquired() throws Exception {
+        executor = new SourceSyncExecutor(8, 1, 300, 300);
+        List<CompletableFuture<Void>> queued = List.of(
+                executor.submit(source("A", "https://same.example.com/a.xml"), () -> sleep(150)),
+                executor.submit(source("B", "https://same.example.com/b.xml"), () -> sleep(150)),
+                executor.submit(source("C", "https://same.example.com/c.xml"), () -> sleep(150))
+        );
+
+        // 세 번째 작업은 300ms 넘게 기다리지만 실행 자체는 제한 시간 안에 끝난다.
+        CompletableFuture.allOf(queued.toArray(CompletableFuture[]::new)).get(5, TimeUnit.SECONDS);
+        assertThat(queued).allMatch(future -> !future.isCompletedExceptionally());
+    }
+
+    private Source source(String name, String feedUrl) {
+        return new Source(name, "https://example.com", feedUrl, ParserType.RSS, 30, true);
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
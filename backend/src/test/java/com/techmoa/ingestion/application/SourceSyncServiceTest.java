@@ -1,31 +1,47 @@
 package com.techmoa.ingestion.application;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.techmoa.ingestion.domain.SyncJob;
 import com.techmoa.ingestion.domain.SyncJobRepository;
+import com.techmoa.ingestion.domain.SyncJobStatus;
+import com.techmoa.ingestion.parser.FetchContext;
+import com.techmoa.ingestion.parser.HttpValidator;
 import com.techmoa.ingestion.parser.ParsedPost;
 import com.techmoa.ingestion.parser.ParserType;
 import com.techmoa.ingestion.parser.SourceProfile;
 import com.techmoa.ingestion.parser.TechBlogParser;
 import com.techmoa.ingestion.parser.sitemap.SitemapTechBlogParser;
 import com.techmoa.post.application.PostUpsertService;
+import com.techmoa.post.application.UpsertResult;
 import com.techmoa.source.domain.Source;
 import com.techmoa.source.domain.SourceRepository;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
+import org.mockito.invocation.InvocationOnMock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
 
@@ -47,43 +63,54 @@ class SourceSyncServiceTest {
     @Mock
     private SitemapTechBlogParser sitemapTechBlogParser;
 
+    @Mock
+    private SyncLeaseService syncLeaseService;
+
+    @Mock
+    private AdaptiveIntervalPolicy adaptiveIntervalPolicy;
+
+    @Mock
+    private FetchValidatorStore fetchValidatorStore;
+
+    @Mock
+    private CrawlFailureLedger crawlFailureLedger;
+
+    private SourceSyncExecutor sourceSyncExecutor;
+
+    private SyncProgressTracker syncProgressTracker;
+
+    private final AtomicLong jobIds = new AtomicLong();
+
     private SourceSyncService sourceSyncService;
 
     @BeforeEach
     void setUp() {
+        sourceSyncExecutor = new SourceSyncExecutor(4, 1, 10_000, 10_000);
+        syncProgressTracker = new SyncProgressTracker(syncJobRepository);
         sourceSyncService = new SourceSyncService(
                 sourceRepository,
                 syncJobRepository,
                 postUpsertService,
                 List.of(parser),
-                sitemapTechBlogParser
+                sitemapTechBlogParser,
+                sourceSyncExecutor,
+                new SyncSchedulePolicy(0.1, 0),
+                syncLeaseService,
+                adaptiveIntervalPolicy,
+                syncProgressTracker,
+                fetchValidatorStore,
+                crawlFailureLedger,
+                2
         );
     }
 
-    @Test
-    void syncActiveSources_skipsWhenIntervalNotElapsed() {
-        Source source = new Source(
-                "카카오테크",
-                "https://tech.kakao.com",
-                "https://tech.kakao.com/feed.xml",
-                ParserType.RSS,
-                30,
-                true
-        );
-        ReflectionTestUtils.setField(source, "id", 1L);
-        when(sourceRepository.findByActiveTrue()).thenReturn(List.of(source));
-        when(syncJobRepository.findLatestStartedAtBySourceId(source.getId()))
-                .thenReturn(Optional.of(LocalDateTime.now().minusMinutes(5)));
-
-        sourceSyncService.syncActiveSources();
-
-        verify(parser, never()).fetch(any(SourceProfile.class));
-        verify(postUpsertService, never()).upsert(any(Source.class), anyList());
-        verify(syncJobRepository, never()).save(any(SyncJob.class));
+    @AfterEach
+    void tearDown() {
+        sourceSyncExecutor.destroy();
     }
 
     @Test
-    void syncActiveSources_runsWhenIntervalElapsed() {
+    void submitSync_runsDueSourceUnderLease() throws Exception {
         Source source = new Source(
                 "카카오테크",
                 "https://tech.kakao.com",
@@ -93,11 +120,10 @@ class SourceSyncServiceTest {
                 true
         );
         ReflectionTestUtils.setField(source, "id", 2L);
-        when(sourceRepository.findByActiveTrue()).thenReturn(List.of(source));
-        when(syncJobRepository.findLatestStartedAtBySourceId(source.getId()))
-                .thenReturn(Optional.of(LocalDateTime.now().minusMinutes(15)));
+        source.scheduleNextSync(LocalDateTime.now().minusMinutes(5));
+        when(syncLeaseService.tryAcquire(eq(source), any(LocalDateTime.class), eq(true))).thenReturn(true);
         when(parser.supports(ParserType.RSS)).thenReturn(true);
-        when(parser.fetch(any(SourceProfile.class))).thenReturn(List.of(
+        givenParsedPosts(
                 new ParsedPost(
                         "title",
                         "https://example.com/post",
@@ -107,19 +133,65 @@ class SourceSyncServiceTest {
                         LocalDateTime.of(2026, 2, 21, 10, 0),
                         List.of()
                 )
-        ));
-        when(postUpsertService.upsert(any(Source.class), anyList())).thenReturn(1);
-        when(syncJobRepository.save(any(SyncJob.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        );
+        when(postUpsertService.upsert(any(Source.class), anyList())).thenReturn(new UpsertResult(1, 1, 0, 0));
+        when(syncJobRepository.save(any(SyncJob.class))).thenAnswer(this::assignId);
 
-        sourceSyncService.syncActiveSources();
+        sourceSyncService.submitSync(source).get(2, TimeUnit.SECONDS);
 
-        verify(parser).fetch(any(SourceProfile.class));
+        verify(parser).fetch(any(SourceProfile.class), any(FetchContext.class), any());
         verify(postUpsertService).upsert(any(Source.class), anyList());
         verify(syncJobRepository, times(2)).save(any(SyncJob.class));
+        verify(syncLeaseService).tryAcquire(eq(source), argThat(next -> next.isAfter(LocalDateTime.now())), eq(true));
+        verify(syncLeaseService).release(source);
+        assertThat(source.isSyncDue(LocalDateTime.now())).isFalse();
     }
 
     @Test
-    void backfillSourceById_usesSitemapParserAndOverridesSitemapUrl() {
+    void submitSync_skipsSourceClaimedByAnotherWorker() throws Exception {
+        Source source = new Source(
+                "카카오테크",
+                "https://tech.kakao.com",
+                "https://tech.kakao.com/feed.xml",
+                ParserType.RSS,
+                30,
+                true
+        );
+        ReflectionTestUtils.setField(source, "id", 4L);
+        LocalDateTime claimedNextSyncAt = LocalDateTime.now().plusMinutes(30);
+        when(syncLeaseService.tryAcquire(eq(source), any(LocalDateTime.class), eq(true))).thenReturn(false);
+        when(sourceRepository.findNextSyncAtById(4L)).thenReturn(Optional.of(claimedNextSyncAt));
+
+        sourceSyncService.submitSync(source).get(2, TimeUnit.SECONDS);
+
+        verify(parser, never()).fetch(any(SourceProfile.class), any(FetchContext.class), any());
+        verify(syncJobRepository, never()).save(any(SyncJob.class));
+        verify(syncLeaseService, never()).release(any(Source.class));
+        assertThat(source.getNextSyncAt()).isEqualTo(claimedNextSyncAt);
+    }
+
+    @Test
+    void enqueueSync_throwsWhenLeaseIsHeldElsewhere() {
+        Source source = new Source(
+                "카카오테크",
+                "https://tech.kakao.com",
+                "https://tech.kakao.com/feed.xml",
+                ParserType.RSS,
+                30,
+                true
+        );
+        ReflectionTestUtils.setField(source, "id", 5L);
+        when(sourceRepository.findById(5L)).thenReturn(Optional.of(source));
+        when(syncLeaseService.tryAcquire(eq(source), any(LocalDateTime.class), eq(false))).thenReturn(false);
+
+        assertThatThrownBy(() -> sourceSyncService.enqueueSync(5L))
+                .isInstanceOf(SyncLeaseUnavailableException.class);
+        verify(syncJobRepository, never()).save(any(SyncJob.class));
+        verify(parser, never()).fetch(any(SourceProfile.class), any(FetchContext.class), any());
+    }
+
+    @Test
+    void enqueueBackfill_returnsQueuedJobAndUsesSitemapParserInBackground() {
         Source source = new Source(
                 "카카오테크",
                 "https://tech.kakao.com",
@@ -131,8 +203,9 @@ class SourceSyncServiceTest {
         ReflectionTestUtils.setField(source, "id", 3L);
 
         when(sourceRepository.findById(3L)).thenReturn(Optional.of(source));
+        when(syncLeaseService.tryAcquire(eq(source), any(), eq(false))).thenReturn(true);
         when(parser.supports(ParserType.SITEMAP)).thenReturn(true);
-        when(parser.fetch(any(SourceProfile.class))).thenReturn(List.of(
+        givenParsedPosts(
                 new ParsedPost(
                         "historic post",
                         "https://tech.kakao.com/posts/1",
@@ -142,19 +215,191 @@ class SourceSyncServiceTest {
                         LocalDateTime.of(2025, 1, 1, 12, 0),
                         List.of("Java")
                 )
-        ));
-        when(postUpsertService.upsert(any(Source.class), anyList())).thenReturn(1);
-        when(syncJobRepository.save(any(SyncJob.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        );
+        when(postUpsertService.upsert(any(Source.class), anyList())).thenReturn(new UpsertResult(1, 1, 0, 0));
+        when(syncJobRepository.save(any(SyncJob.class))).thenAnswer(this::assignId);
 
-        SyncResult result = sourceSyncService.backfillSourceById(3L, "https://tech.kakao.com/sitemap.xml");
+        SyncJob syncJob = sourceSyncService.enqueueBackfill(3L, "https://tech.kakao.com/sitemap.xml");
 
-        assertThat(result.parsedCount()).isEqualTo(1);
-        assertThat(result.savedCount()).isEqualTo(1);
+        assertThat(syncJob.getId()).isNotNull();
+        verify(syncLeaseService, timeout(2_000)).release(source);
         verify(parser).fetch(argThat(profile ->
                 profile.parserType() == ParserType.SITEMAP
                         && "https://tech.kakao.com/sitemap.xml".equals(profile.feedUrl())
-        ));
+        ), any(FetchContext.class), any());
         verify(postUpsertService).upsert(any(Source.class), anyList());
-        verify(syncJobRepository, times(2)).save(any(SyncJob.class));
+        assertThat(syncJob.getStatus()).isEqualTo(SyncJobStatus.COMPLETED);
+        assertThat(syncJob.getSuccessCount()).isEqualTo(1);
+        assertThat(syncJob.getNewPostCount()).isZero();
+        assertThat(syncProgressTracker.find(syncJob.getId())).isEmpty();
+    }
+
+    @Test
+    void enqueueSync_stopsCrawlWhenCancelRequested() {
+        Source source = new Source(
+                "카카오테크",
+                "https://tech.kakao.com",
+                "https://tech.kakao.com/feed.xml",
+                ParserType.RSS,
+                30,
+                true
+        );
+        ReflectionTestUtils.setField(source, "id", 6L);
+
+        when(sourceRepository.findById(6L)).thenReturn(Optional.of(source));
+        when(syncLeaseService.tryAcquire(eq(source), any(LocalDateTime.class), eq(false))).thenReturn(true);
+        when(parser.supports(ParserType.RSS)).thenReturn(true);
+        doAnswer(invocation -> {
+            FetchContext context = invocation.getArgument(1);
+            context.addDiscovered(10);
+            context.addFetched(3);
+            // 크롤 도중 관리자가 취소를 요청한 상황
+            context.requestCancel();
+            return null;
+        }).when(parser).fetch(any(SourceProfile.class), any(FetchContext.class), any());
+        when(syncJobRepository.save(any(SyncJob.class))).thenAnswer(this::assignId);
+
+        SyncJob syncJob = sourceSyncService.enqueueSync(6L);
+
+        verify(syncLeaseService, timeout(2_000)).release(source);
+        assertThat(syncJob.getStatus()).isEqualTo(SyncJobStatus.CANCELLED);
+        assertThat(syncJob.getDiscoveredCount()).isEqualTo(10);
+        assertThat(syncJob.getFetchedCount()).isEqualTo(3);
+    }
+
+    @Test
+    void enqueueSync_recordsNotModifiedWithoutUpsert() {
+        Source source = new Source(
+                "카카오테크",
+                "https://tech.kakao.com",
+                "https://tech.kakao.com/feed.xml",
+                ParserType.RSS,
+                30,
+                true
+        );
+        ReflectionTestUtils.setField(source, "id", 7L);
+        HttpValidator validator = new HttpValidator("\"abc\"", null);
+
+        when(sourceRepository.findById(7L)).thenReturn(Optional.of(source));
+        when(syncLeaseService.tryAcquire(eq(source), any(LocalDateTime.class), eq(false))).thenReturn(true);
+        when(fetchValidatorStore.load(7L)).thenReturn(Map.of("https://tech.kakao.com/feed.xml", validator));
+        when(parser.supports(ParserType.RSS)).thenReturn(true);
+        doAnswer(invocation -> {
+            FetchContext context = invocation.getArgument(1);
+            assertThat(context.knownValidator("https://tech.kakao.com/feed.xml")).contains(validator);
+            context.markNotModified();
+            return null;
+        }).when(parser).fetch(any(SourceProfile.class), any(FetchContext.class), any());
+        when(syncJobRepository.save(any(SyncJob.class))).thenAnswer(this::assignId);
+
+        SyncJob syncJob = sourceSyncService.enqueueSync(7L);
+
+        verify(syncLeaseService, timeout(2_000)).release(source);
+        assertThat(syncJob.getStatus()).isEqualTo(SyncJobStatus.NOT_MODIFIED);
+        verify(postUpsertService, never()).upsert(any(Source.class), anyList());
+        verify(fetchValidatorStore, never()).save(any(Source.class), any(), any());
+    }
+
+    @Test
+    void enqueueSync_keepsCommittedChunksWhenLaterChunkFails() {
+        Source source = new Source(
+                "카카오테크",
+                "https://tech.kakao.com",
+                "https://tech.kakao.com/feed.xml",
+                ParserType.RSS,
+                30,
+                true
+        );
+        ReflectionTestUtils.setField(source, "id", 8L);
+
+        when(sourceRepository.findById(8L)).thenReturn(Optional.of(source));
+        when(syncLeaseService.tryAcquire(eq(source), any(LocalDateTime.class), eq(false))).thenReturn(true);
+        when(parser.supports(ParserType.RSS)).thenReturn(true);
+        givenParsedPosts(post("https://tech.kakao.com/posts/1"), post("https://tech.kakao.com/posts/2"),
+                post("https://tech.kakao.com/posts/3"));
+        when(postUpsertService.upsert(any(Source.class), anyList()))
+                .thenReturn(new UpsertResult(2, 2, 0, 0))
+                .thenThrow(new IllegalStateException("connection lost"));
+        when(syncJobRepository.save(any(SyncJob.class))).thenAnswer(this::assignId);
+
+        SyncJob syncJob = sourceSyncService.enqueueSync(8L);
+
+        verify(syncLeaseService, timeout(2_000)).release(source);
+        // 청크 크기 2: 첫 청크는 커밋된 채 남고 마지막 청크만 실패한다.
+        verify(postUpsertService, times(2)).upsert(any(Source.class), anyList());
+        assertThat(syncJob.getStatus()).isEqualTo(SyncJobStatus.FAILED);
+        assertThat(syncJob.getSuccessCount()).isEqualTo(2);
+        assertThat(syncJob.getNewPostCount()).isEqualTo(2);
+        verify(fetchValidatorStore, never()).save(any(Source.class), any(), any());
+    }
+
+    @Test
+    void enqueueSync_exposesCommittedChunksWhileRunning() {
+        Source source = new Source(
+                "카카오테크",
+                "https://tech.kakao.com",
+                "https://tech.kakao.com/feed.xml",
+                ParserType.RSS,
+                30,
+                true
+        );
+        ReflectionTestUtils.setField(source, "id", 9L);
+        SyncJobService syncJobService = new SyncJobService(syncJobRepository, syncProgressTracker);
+        AtomicReference<SyncJob> midRun = new AtomicReference<>();
+
+        when(sourceRepository.findById(9L)).thenReturn(Optional.of(source));
+        when(syncLeaseService.tryAcquire(eq(source), any(LocalDateTime.class), eq(false))).thenReturn(true);
+        when(parser.supports(ParserType.RSS)).thenReturn(true);
+        when(syncJobRepository.findWithSourceById(anyLong())).thenAnswer(invocation -> Optional.of(SyncJob.queue(source)));
+        doAnswer(invocation -> {
+            FetchContext context = invocation.getArgument(1);
+            Consumer<ParsedPost> sink = invocation.getArgument(2);
+            context.addDiscovered(3);
+            context.addFetched(2);
+            sink.accept(post("https://tech.kakao.com/posts/1"));
+            sink.accept(post("https://tech.kakao.com/posts/2"));
+            // 첫 청크가 커밋된 뒤, 마지막 청크가 남은 채로 관리자가 작업을 조회하는 상황
+            syncProgressTracker.flush();
+            midRun.set(syncJobService.getJob(jobIds.get()));
+            context.addFetched(1);
+            sink.accept(post("https://tech.kakao.com/posts/3"));
+            return null;
+        }).when(parser).fetch(any(SourceProfile.class), any(FetchContext.class), any());
+        when(postUpsertService.upsert(any(Source.class), anyList()))
+                .thenReturn(new UpsertResult(1, 1, 0, 1))
+                .thenReturn(new UpsertResult(1, 1, 0, 0));
+        when(syncJobRepository.save(any(SyncJob.class))).thenAnswer(this::assignId);
+
+        SyncJob syncJob = sourceSyncService.enqueueSync(9L);
+
+        verify(syncLeaseService, timeout(2_000)).release(source);
+        verify(syncJobRepository).updateProgress(syncJob.getId(), 3, 2, 1, 1);
+        assertThat(midRun.get().getSuccessCount()).isEqualTo(1);
+        assertThat(midRun.get().getUnchangedCount()).isEqualTo(1);
+        assertThat(midRun.get().getFetchedCount()).isEqualTo(2);
+        assertThat(syncJob.getStatus()).isEqualTo(SyncJobStatus.COMPLETED);
+        assertThat(syncJob.getSuccessCount()).isEqualTo(2);
+    }
+
+    private void givenParsedPosts(ParsedPost... parsedPosts) {
+        doAnswer(invocation -> {
+            Consumer<ParsedPost> sink = invocation.getArgument(2);
+            for (ParsedPost parsedPost : parsedPosts) {
+                sink.accept(parsedPost);
+            }
+            return null;
+        }).when(parser).fetch(any(SourceProfile.class), any(FetchContext.class), any());
+    }
+
+    private ParsedPost post(String url) {
+        return new ParsedPost("title", url, "summary", "author", null, LocalDateTime.of(2026, 2, 21, 10, 0), List.of());
+    }
+
+    private SyncJob assignId(InvocationOnMock invocation) {
+        SyncJob syncJob = invocation.getArgument(0);
+        if (syncJob.getId() == null) {
+            ReflectionTestUtils.setField(syncJob, "id", jobIds.incrementAndGet());
+        }
+        return syncJob;
     }
 }
@@ -0,0 +1,103 @@
+package com.techmoa.ingestion.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.techmoa.ingestion.domain.SyncJob;
+import com.techmoa.ingestion.domain.SyncJobRepository;
+import com.techmoa.ingestion.domain.SyncJobStatus;
+import com.techmoa.ingestion.parser.ParserType;
+import com.techmoa.source.domain.Source;
+import com.techmoa.source.domain.SourceRepository;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.flyway.enabled=false"
+})
+class SyncLeaseServiceTest {
+
+    @Autowired
+    private SourceRepository sourceRepository;
+
+    @Autowired
+    private SyncJobRepository syncJobRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    void tryAcquire_allowsSingleWorkerUntilReleased() {
+        Source source = saveSource();
+        SyncLeaseService workerA = new SyncLeaseService(sourceRepository, syncJobRepository, "worker-a", 60_000);
+        SyncLeaseService workerB = new SyncLeaseService(sourceRepository, syncJobRepository, "worker-b", 60_000);
+        LocalDateTime nextSyncAt = LocalDateTime.now().plusMinutes(30);
+
+        assertThat(workerA.tryAcquire(source, nextSyncAt, true)).isTrue();
+        assertThat(workerB.tryAcquire(source, nextSyncAt, false)).isFalse();
+
+        workerA.release(source);
+
+        assertThat(workerB.tryAcquire(source, nextSyncAt, false)).isTrue();
+    }
+
+    @Test
+    void tryAcquire_requiresDueSourceForScheduledSync() {
+        Source source = saveSource();
+        SyncLeaseService workerA = new SyncLeaseService(sourceRepository, syncJobRepository, "worker-a", 60_000);
+        SyncLeaseService workerB = new SyncLeaseService(sourceRepository, syncJobRepository, "worker-b", 60_000);
+
+        assertThat(workerA.tryAcquire(source, LocalDateTime.now().plusMinutes(30), true)).isTrue();
+        workerA.release(source);
+
+        assertThat(workerB.tryAcquire(source, LocalDateTime.now().plusMinutes(30), true)).isFalse();
+        assertThat(sourceRepository.findNextSyncAtById(source.getId()))
+                .hasValueSatisfying(next -> assertThat(next).isAfter(LocalDateTime.now()));
+    }
+
+    @Test
+    void tryAcquireKeepingSchedule_excludesSyncWithoutMovingNextSyncAt() {
+        Source source = saveSource();
+        LocalDateTime nextSyncAt = LocalDateTime.now().plusMinutes(10).withNano(0);
+        source.scheduleNextSync(nextSyncAt);
+        sourceRepository.saveAndFlush(source);
+        SyncLeaseService retrier = new SyncLeaseService(sourceRepository, syncJobRepository, "worker-a", 60_000);
+        SyncLeaseService syncer = new SyncLeaseService(sourceRepository, syncJobRepository, "worker-b", 60_000);
+
+        assertThat(retrier.tryAcquireKeepingSchedule(source)).isTrue();
+        assertThat(syncer.tryAcquire(source, LocalDateTime.now().plusMinutes(30), false)).isFalse();
+        assertThat(sourceRepository.findNextSyncAtById(source.getId())).contains(nextSyncAt);
+    }
+
+    @Test
+    void tryAcquire_takesOverExpiredLeaseAndFailsAbandonedJob() {
+        Source source = saveSource();
+        SyncLeaseService crashedWorker = new SyncLeaseService(sourceRepository, syncJobRepository, "worker-a", -1_000);
+        SyncLeaseService survivor = new SyncLeaseService(sourceRepository, syncJobRepository, "worker-b", 60_000);
+
+        assertThat(crashedWorker.tryAcquire(source, LocalDateTime.now().plusMinutes(30), false)).isTrue();
+        SyncJob abandoned = syncJobRepository.save(SyncJob.start(source));
+        entityManager.flush();
+
+        assertThat(survivor.tryAcquire(source, LocalDateTime.now().plusMinutes(30), false)).isTrue();
+
+        entityManager.clear();
+        SyncJob reloaded = syncJobRepository.findById(abandoned.getId()).orElseThrow();
+        assertThat(reloaded.getStatus()).isEqualTo(SyncJobStatus.FAILED);
+        assertThat(reloaded.getErrorMessage()).contains("expired sync lease");
+    }
+
+    private Source saveSource() {
+        return sourceRepository.save(new Source(
+                "리스테스트",
+                "https://lease.example.com",
+                "https://lease.example.com/feed.xml",
+                ParserType.RSS,
+                30,
+                true
+        ));
+    }
+}
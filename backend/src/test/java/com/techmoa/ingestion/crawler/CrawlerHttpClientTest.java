@@ -0,0 +1,149 @@
+package com.techmoa.ingestion.crawler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.sun.net.httpserver.HttpServer;
+import com.techmoa.ingestion.parser.HttpValidator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.http.HttpTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.GZIPOutputStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class CrawlerHttpClientTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private CrawlerHttpClient crawlerHttpClient;
+
+    private HttpServer server;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        crawlerHttpClient = new CrawlerHttpClient(meterRegistry, 5_000, 5_000, 1_000, "TechmoaBot/1.0");
+        server = HttpServer.create(new InetSocketAddress(0), 0);
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+        crawlerHttpClient.destroy();
+    }
+
+    @Test
+    void get_decompressesGzipBodyAndCountsWireBytes() throws Exception {
+        byte[] compressed = gzip("<rss>압축된 피드</rss>");
+        AtomicReference<String> acceptEncoding = new AtomicReference<>();
+        server.createContext("/feed.xml", exchange -> {
+            acceptEncoding.set(exchange.getRequestHeaders().getFirst("Accept-Encoding"));
+            exchange.getResponseHeaders().set("Content-Encoding", "gzip");
+            exchange.getResponseHeaders().set("ETag", "\"v1\"");
+            exchange.sendResponseHeaders(200, compressed.length);
+            try (OutputStream outputStream = exchange.getResponseBody()) {
+                outputStream.write(compressed);
+            }
+        });
+        server.start();
+
+        try (CrawlResponse response = crawlerHttpClient.get(baseUrl() + "/feed.xml")) {
+            assertThat(new String(response.body().readAllBytes(), StandardCharsets.UTF_8))
+                    .isEqualTo("<rss>압축된 피드</rss>");
+            assertThat(response.validator()).isEqualTo(new HttpValidator("\"v1\"", null));
+        }
+
+        assertThat(acceptEncoding.get()).contains("gzip");
+        assertThat(meterRegistry.get("techmoa.crawler.received.bytes").tag("host", "127.0.0.1").counter().count())
+                .isEqualTo(compressed.length);
+        assertThat(meterRegistry.get("techmoa.crawler.requests").tag("status", "200").timer().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void get_sendsValidatorsAndReportsNotModified() throws Exception {
+        server.createContext("/sitemap.xml", exchange -> {
+            boolean matches = "\"v1\"".equals(exchange.getRequestHeaders().getFirst("If-None-Match"));
+            exchange.sendResponseHeaders(matches ? 304 : 500, -1);
+            exchange.close();
+        });
+        server.start();
+
+        try (CrawlResponse response = crawlerHttpClient.get(
+                baseUrl() + "/sitemap.xml",
+                new HttpValidator("\"v1\"", null)
+        )) {
+            assertThat(response.isNotModified()).isTrue();
+        }
+    }
+
+    @Test
+    void get_throwsWithStatusCodeOnErrorResponse() throws Exception {
+        server.createContext("/busy", exchange -> {
+            exchange.sendResponseHeaders(429, -1);
+            exchange.close();
+        });
+        server.start();
+
+        assertThatThrownBy(() -> crawlerHttpClient.get(baseUrl() + "/busy"))
+                .isInstanceOfSatisfying(CrawlHttpStatusException.class, e ->
+                        assertThat(e.getStatusCode()).isEqualTo(429)
+                );
+    }
+
+    @Test
+    void get_abortsBodyThatStallsPastResponseTimeout() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        server.createContext("/stalled.xml", exchange -> {
+            exchange.sendResponseHeaders(200, 0);
+            OutputStream outputStream = exchange.getResponseBody();
+            outputStream.write("<rss>".getBytes(StandardCharsets.UTF_8));
+            outputStream.flush();
+            try {
+                // 헤더와 본문 일부만 보내고 멈춘 서버
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.close();
+        });
+        server.start();
+
+        try (CrawlResponse response = crawlerHttpClient.get(baseUrl() + "/stalled.xml")) {
+            long startedAt = System.nanoTime();
+            assertThatThrownBy(() -> response.body().readAllBytes()).isInstanceOf(HttpTimeoutException.class);
+            assertThat(Duration.ofNanos(System.nanoTime() - startedAt)).isLessThan(Duration.ofSeconds(5));
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    void get_rejectsLocalResourceUrls() {
+        // 사이트맵이나 피드가 로컬 파일을 가리켜도 읽지 않는다.
+        assertThatThrownBy(() -> crawlerHttpClient.get("file:///etc/passwd")).isInstanceOf(IOException.class);
+        assertThatThrownBy(() -> crawlerHttpClient.get("jar:file:///app.jar!/application.yml"))
+                .isInstanceOf(IOException.class);
+    }
+
+    private String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    private byte[] gzip(String value) throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(bytes)) {
+            gzip.write(value.getBytes(StandardCharsets.UTF_8));
+        }
+        return bytes.toByteArray();
+    }
+}
@@ -0,0 +1,72 @@
+package com.techmoa.ingestion.crawler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class HostConcurrencyLimiterTest {
+
+    private static final String HOST = "tech.example.com";
+
+    @Test
+    void acquire_growsLimitAdditivelyWhileLatencyIsStable() throws Exception {
+        HostConcurrencyLimiter limiter = new HostConcurrencyLimiter(2, 8);
+
+        for (int i = 0; i < 40; i++) {
+            limiter.acquire(HOST).succeeded(TimeUnit.MILLISECONDS.toNanos(100));
+        }
+
+        assertThat(limiter.currentLimit(HOST)).isEqualTo(8);
+    }
+
+    @Test
+    void throttled_halvesLimitButNeverBelowOne() throws Exception {
+        HostConcurrencyLimiter limiter = new HostConcurrencyLimiter(8, 16);
+
+        limiter.acquire(HOST).throttled();
+        assertThat(limiter.currentLimit(HOST)).isEqualTo(4);
+
+        for (int i = 0; i < 5; i++) {
+            limiter.acquire(HOST).throttled();
+        }
+        assertThat(limiter.currentLimit(HOST)).isEqualTo(1);
+    }
+
+    @Test
+    void succeeded_shrinksLimitWhenLatencyGrows() throws Exception {
+        HostConcurrencyLimiter limiter = new HostConcurrencyLimiter(8, 8);
+        limiter.acquire(HOST).succeeded(TimeUnit.MILLISECONDS.toNanos(100));
+
+        for (int i = 0; i < 10; i++) {
+            limiter.acquire(HOST).succeeded(TimeUnit.SECONDS.toNanos(2));
+        }
+
+        assertThat(limiter.currentLimit(HOST)).isLessThan(8);
+    }
+
+    @Test
+    void acquire_blocksUntilPermitIsReleased() throws Exception {
+        HostConcurrencyLimiter limiter = new HostConcurrencyLimiter(1, 1);
+        HostConcurrencyLimiter.Permit held = limiter.acquire(HOST);
+        CountDownLatch acquired = new CountDownLatch(1);
+
+        Thread waiter = Thread.ofVirtual().start(() -> {
+            try {
+                limiter.acquire(HOST).failed();
+                acquired.countDown();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        assertThat(acquired.await(200, TimeUnit.MILLISECONDS)).isFalse();
+        held.failed();
+        assertThat(acquired.await(2, TimeUnit.SECONDS)).isTrue();
+        waiter.join();
+
+        // 다른 호스트는 서로의 한도에 영향을 주지 않는다.
+        limiter.acquire("other.example.com").failed();
+    }
+}
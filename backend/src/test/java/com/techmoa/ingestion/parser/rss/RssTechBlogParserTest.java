@@ -2,29 +2,66 @@ package com.techmoa.ingestion.parser.rss;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import com.sun.net.httpserver.HttpServer;
+import com.techmoa.ingestion.crawler.CrawlerHttpClient;
 import com.techmoa.ingestion.parser.ParsedPost;
 import com.techmoa.ingestion.parser.ParserType;
 import com.techmoa.ingestion.parser.SourceProfile;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
-import java.net.URL;
 import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 class RssTechBlogParserTest {
 
-    private final RssTechBlogParser parser = new RssTechBlogParser();
+    private final RssTechBlogParser parser = new RssTechBlogParser(
+            new CrawlerHttpClient(new SimpleMeterRegistry(), 10_000, 10_000, 30_000, "TechmoaBot/1.0")
+    );
+
+    private HttpServer server;
+
+    // 크롤러는 http(s)만 읽으므로 픽스처도 로컬 HTTP 서버로 내준다.
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(0), 0);
+        server.createContext("/fixtures/", exchange -> {
+            try (InputStream fixture = getClass().getClassLoader()
+                    .getResourceAsStream(exchange.getRequestURI().getPath().substring(1))) {
+                if (fixture == null) {
+                    exchange.sendResponseHeaders(404, -1);
+                    exchange.close();
+                    return;
+                }
+                byte[] bytes = fixture.readAllBytes();
+                exchange.getResponseHeaders().set("Content-Type", "application/xml; charset=utf-8");
+                exchange.sendResponseHeaders(200, bytes.length);
+                try (OutputStream outputStream = exchange.getResponseBody()) {
+                    outputStream.write(bytes);
+                }
+            }
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
 
     @Test
     void fetch_parsesRssFeed() {
-        URL resource = getClass().getClassLoader().getResource("fixtures/sample-rss.xml");
-        assertThat(resource).isNotNull();
-
         SourceProfile sourceProfile = new SourceProfile(
                 1L,
                 "test",
                 "https://example.com",
-                resource.toString(),
+                fixtureUrl("sample-rss.xml"),
                 ParserType.RSS
         );
 
@@ -44,14 +81,11 @@ class RssTechBlogParserTest {
 
     @Test
     void fetch_usesUpdatedDateWhenPublishedDateIsMissing() {
-        URL resource = getClass().getClassLoader().getResource("fixtures/sample-atom.xml");
-        assertThat(resource).isNotNull();
-
         SourceProfile sourceProfile = new SourceProfile(
                 2L,
                 "atom-test",
                 "https://example.com",
-                resource.toString(),
+                fixtureUrl("sample-atom.xml"),
                 ParserType.RSS
         );
 
@@ -68,4 +102,8 @@ class RssTechBlogParserTest {
                         .toLocalDateTime()
         );
     }
+
+    private String fixtureUrl(String name) {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + "/fixtures/" + name;
+    }
 }
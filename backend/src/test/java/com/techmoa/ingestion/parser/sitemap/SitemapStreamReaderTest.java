@@ -0,0 +1,123 @@
+package com.techmoa.ingestion.parser.sitemap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+import org.junit.jupiter.api.Test;
+
+class SitemapStreamReaderTest {
+
+    private final SitemapStreamReader reader = new SitemapStreamReader();
+
+    @Test
+    void read_emitsDirectLocAndLastmodOfEachUrl() throws Exception {
+        String xml = """
+                <?xml version="1.0" encoding="UTF-8"?>
+                <urlset xmlns="http://www.sitemaps.org/schemas/sitemap/0.9"
+                        xmlns:image="http://www.google.com/schemas/sitemap-image/1.1">
+                  <url>
+                    <loc>https://example.com/posts/1?a=1&amp;b=2</loc>
+                    <lastmod>2025-03-01</lastmod>
+                    <image:image><image:loc>https://example.com/images/1.png</image:loc></image:image>
+                  </url>
+                  <url><loc>https://example.com/posts/2</loc></url>
+                </urlset>
+                """;
+
+        RecordingHandler handler = new RecordingHandler();
+        reader.read(new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8)), handler);
+
+        assertThat(handler.urls).containsExactly(
+                "https://example.com/posts/1?a=1&b=2|2025-03-01",
+                "https://example.com/posts/2|null"
+        );
+        assertThat(handler.childSitemaps).isEmpty();
+    }
+
+    @Test
+    void read_decompressesGzippedSitemapIndex() throws Exception {
+        String xml = """
+                <sitemapindex xmlns="http://www.sitemaps.org/schemas/sitemap/0.9">
+                  <sitemap><loc>https://example.com/posts-1.xml.gz</loc><lastmod>2025-03-01T10:00:00Z</lastmod></sitemap>
+                </sitemapindex>
+                """;
+
+        RecordingHandler handler = new RecordingHandler();
+        reader.read(new ByteArrayInputStream(gzip(xml)), handler);
+
+        assertThat(handler.childSitemaps).containsExactly("https://example.com/posts-1.xml.gz|2025-03-01T10:00:00Z");
+    }
+
+    @Test
+    void read_stopsWhenHandlerDeclinesMoreEntries() throws Exception {
+        String xml = """
+                <urlset xmlns="http://www.sitemaps.org/schemas/sitemap/0.9">
+                  <url><loc>https://example.com/posts/1</loc></url>
+                  <url><loc>https://example.com/posts/2</loc></url>
+                </urlset>
+                """;
+        List<String> urls = new ArrayList<>();
+
+        reader.read(new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8)), new SitemapStreamReader.EntryHandler() {
+            @Override
+            public boolean onChildSitemap(String loc, String lastmod) {
+                return true;
+            }
+
+            @Override
+            public boolean onUrl(String loc, String lastmod) {
+                urls.add(loc);
+                return false;
+            }
+        });
+
+        assertThat(urls).containsExactly("https://example.com/posts/1");
+    }
+
+    @Test
+    void read_rejectsExternalEntities() {
+        String xml = """
+                <?xml version="1.0"?>
+                <!DOCTYPE urlset [<!ENTITY secret SYSTEM "file:///etc/passwd">]>
+                <urlset><url><loc>&secret;</loc></url></urlset>
+                """;
+
+        RecordingHandler handler = new RecordingHandler();
+        assertThatThrownBy(() -> reader.read(new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8)), handler))
+                .isInstanceOf(IOException.class);
+        assertThat(handler.urls).isEmpty();
+    }
+
+    private byte[] gzip(String value) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzipOutputStream = new GZIPOutputStream(outputStream)) {
+            gzipOutputStream.write(value.getBytes(StandardCharsets.UTF_8));
+        }
+        return outputStream.toByteArray();
+    }
+
+    private static final class RecordingHandler implements SitemapStreamReader.EntryHandler {
+
+        private final List<String> childSitemaps = new ArrayList<>();
+        private final List<String> urls = new ArrayList<>();
+
+        @Override
+        public boolean onChildSitemap(String loc, String lastmod) {
+            childSitemaps.add(loc + "|" + lastmod);
+            return true;
+        }
+
+        @Override
+        public boolean onUrl(String loc, String lastmod) {
+            urls.add(loc + "|" + lastmod);
+            return true;
+        }
+    }
+}
@@ -4,34 +4,48 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import com.sun.net.httpserver.HttpExchange;
 import com.sun.net.httpserver.HttpServer;
+import com.techmoa.ingestion.crawler.CrawlerHttpClient;
+import com.techmoa.ingestion.crawler.HostConcurrencyLimiter;
+import com.techmoa.ingestion.crawler.PipelinedPageFetcher;
+import com.techmoa.ingestion.parser.FetchContext;
+import com.techmoa.ingestion.parser.FetchFailure;
+import com.techmoa.ingestion.parser.HttpValidator;
 import com.techmoa.ingestion.parser.ParsedPost;
 import com.techmoa.ingestion.parser.ParserType;
 import com.techmoa.ingestion.parser.SourceProfile;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.net.InetSocketAddress;
 import java.nio.charset.StandardCharsets;
-import java.nio.file.Files;
-import java.nio.file.Path;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.OffsetDateTime;
 import java.time.ZoneId;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.Test;
 
 class SitemapTechBlogParserTest {
 
-    private final SitemapTechBlogParser parser = new SitemapTechBlogParser();
+    private final CrawlerHttpClient crawlerHttpClient =
+            new CrawlerHttpClient(new SimpleMeterRegistry(), 10_000, 10_000, 30_000, "TechmoaBot/1.0");
+
+    private final SitemapTechBlogParser parser = new SitemapTechBlogParser(
+            crawlerHttpClient,
+            new PipelinedPageFetcher(crawlerHttpClient, new HostConcurrencyLimiter(4, 16), 8, 2, 30_000)
+    );
 
     @Test
     void fetch_parsesSitemapIndexAndPostPages() throws Exception {
-        Path tempDir = Files.createTempDirectory("sitemap-parser-test");
+        HttpServer server = HttpServer.create(new InetSocketAddress(0), 0);
         String canonicalA = "https://example.com/post-a-canonical";
         String canonicalB = "https://example.com/post-b-canonical";
 
-        Path postAFile = tempDir.resolve("post-a.html");
-        Files.writeString(postAFile, """
+        server.createContext("/post-a.html", exchange -> respondHtml(exchange, """
                 <html>
                   <head>
                     <title>Fallback Title A</title>
@@ -46,10 +60,8 @@ class SitemapTechBlogParserTest {
                   </head>
                   <body><article><h1>Ignored h1</h1></article></body>
                 </html>
-                """.formatted(canonicalA));
-
-        Path postBFile = tempDir.resolve("post-b.html");
-        Files.writeString(postBFile, """
+                """.formatted(canonicalA)));
+        server.createContext("/post-b.html", exchange -> respondHtml(exchange, """
                 <html>
                   <head>
                     <title>Post B Title</title>
@@ -64,32 +76,35 @@ class SitemapTechBlogParserTest {
                     </article>
                   </body>
                 </html>
-                """.formatted(canonicalB));
-
-        Path postsSitemap = tempDir.resolve("posts.xml");
-        Files.writeString(postsSitemap, """
+                """.formatted(canonicalB)));
+        server.createContext("/posts.xml", exchange -> respondXml(exchange, """
                 <urlset xmlns="http://www.sitemaps.org/schemas/sitemap/0.9">
-                  <url><loc>%s</loc></url>
-                  <url><loc>%s</loc></url>
+                  <url><loc>%1$s/post-a.html</loc></url>
+                  <url><loc>%1$s/post-b.html</loc></url>
                 </urlset>
-                """.formatted(postAFile.toUri(), postBFile.toUri()));
-
-        Path rootSitemap = tempDir.resolve("sitemap.xml");
-        Files.writeString(rootSitemap, """
+                """.formatted("http://127.0.0.1:" + server.getAddress().getPort())));
+        server.createContext("/sitemap.xml", exchange -> respondXml(exchange, """
                 <sitemapindex xmlns="http://www.sitemaps.org/schemas/sitemap/0.9">
-                  <sitemap><loc>%s</loc></sitemap>
+                  <sitemap><loc>%s/posts.xml</loc></sitemap>
                 </sitemapindex>
-                """.formatted(postsSitemap.toUri()));
-
-        SourceProfile sourceProfile = new SourceProfile(
-                1L,
-                "테스트소스",
-                tempDir.toUri().toString(),
-                rootSitemap.toUri().toString(),
-                ParserType.SITEMAP
-        );
+                """.formatted("http://127.0.0.1:" + server.getAddress().getPort())));
 
-        List<ParsedPost> parsedPosts = parser.fetch(sourceProfile);
+        server.start();
+        List<ParsedPost> parsedPosts;
+        try {
+            String baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+            SourceProfile sourceProfile = new SourceProfile(
+                    1L,
+                    "테스트소스",
+                    baseUrl,
+                    baseUrl + "/sitemap.xml",
+                    ParserType.SITEMAP
+            );
+
+            parsedPosts = parser.fetch(sourceProfile);
+        } finally {
+            server.stop(0);
+        }
 
         assertThat(parsedPosts).hasSize(2);
 
@@ -117,6 +132,176 @@ class SitemapTechBlogParserTest {
         );
     }
 
+    @Test
+    void fetch_skipsUnchangedSitemapWithConditionalGet() throws Exception {
+        HttpServer server = HttpServer.create(new InetSocketAddress(0), 0);
+        AtomicInteger postRequests = new AtomicInteger();
+
+        server.createContext("/sitemap.xml", exchange -> {
+            if ("\"v1\"".equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+                exchange.sendResponseHeaders(304, -1);
+                exchange.close();
+                return;
+            }
+            exchange.getResponseHeaders().set("ETag", "\"v1\"");
+            String baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+            respondXml(exchange, """
+                    <urlset xmlns="http://www.sitemaps.org/schemas/sitemap/0.9">
+                      <url><loc>%s/posts/1</loc></url>
+                    </urlset>
+                    """.formatted(baseUrl));
+        });
+        server.createContext("/posts/1", exchange -> {
+            postRequests.incrementAndGet();
+            respondHtml(exchange, "<html><head><title>Post 1</title></head><body></body></html>");
+        });
+
+        server.start();
+        try {
+            String baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+            SourceProfile sourceProfile = new SourceProfile(
+                    1L,
+                    "조건부요청",
+                    baseUrl,
+                    baseUrl + "/sitemap.xml",
+                    ParserType.SITEMAP
+            );
+
+            FetchContext firstContext = new FetchContext();
+            assertThat(parser.fetch(sourceProfile, firstContext)).hasSize(1);
+            assertThat(firstContext.isNotModified()).isFalse();
+            assertThat(firstContext.getObservedValidators())
+                    .containsEntry(baseUrl + "/sitemap.xml", new HttpValidator("\"v1\"", null));
+
+            FetchContext secondContext = new FetchContext();
+            secondContext.useKnownValidators(firstContext.getObservedValidators());
+            assertThat(parser.fetch(sourceProfile, secondContext)).isEmpty();
+            assertThat(secondContext.isNotModified()).isTrue();
+            assertThat(postRequests.get()).isEqualTo(1);
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    void fetch_skipsUnchangedChildSitemapsAndKnownPosts() throws Exception {
+        HttpServer server = HttpServer.create(new InetSocketAddress(0), 0);
+        List<String> requestedPaths = new CopyOnWriteArrayList<>();
+
+        server.createContext("/", exchange -> {
+            String path = exchange.getRequestURI().getPath();
+            requestedPaths.add(path);
+            String baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+            switch (path) {
+                case "/sitemap.xml" -> respondXml(exchange, """
+                        <sitemapindex xmlns="http://www.sitemaps.org/schemas/sitemap/0.9">
+                          <sitemap><loc>%1$s/posts-2024.xml</loc><lastmod>2024-12-31</lastmod></sitemap>
+                          <sitemap><loc>%1$s/posts-2025.xml</loc><lastmod>2025-03-02T10:00:00Z</lastmod></sitemap>
+                        </sitemapindex>
+                        """.formatted(baseUrl));
+                case "/posts-2025.xml" -> respondXml(exchange, """
+                        <urlset xmlns="http://www.sitemaps.org/schemas/sitemap/0.9">
+                          <url><loc>%1$s/posts/known</loc><lastmod>2025-02-01</lastmod></url>
+                          <url><loc>%1$s/posts/edited</loc><lastmod>2025-03-02T09:00:00Z</lastmod></url>
+                          <url><loc>%1$s/posts/new</loc><lastmod>2025-03-02T10:00:00Z</lastmod></url>
+                        </urlset>
+                        """.formatted(baseUrl));
+                default -> respondHtml(exchange, "<html><head><title>" + path + "</title></head><body></body></html>");
+            }
+        });
+
+        server.start();
+        try {
+            String baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+            SourceProfile sourceProfile = new SourceProfile(
+                    1L,
+                    "증분수집",
+                    baseUrl,
+                    baseUrl + "/sitemap.xml",
+                    ParserType.SITEMAP
+            );
+            LocalDateTime lastCrawledAt = LocalDateTime.of(2025, 3, 1, 0, 0);
+
+            FetchContext context = new FetchContext();
+            context.useKnownSitemapLastmods(Map.of(
+                    baseUrl + "/posts-2024.xml", LocalDateTime.of(2024, 12, 31, 0, 0),
+                    baseUrl + "/posts-2025.xml", LocalDateTime.of(2025, 2, 1, 0, 0)
+            ));
+            context.useKnownPostLookup(urls -> Map.of(
+                    baseUrl + "/posts/known", lastCrawledAt,
+                    baseUrl + "/posts/edited", lastCrawledAt
+            ));
+
+            List<ParsedPost> parsedPosts = parser.fetch(sourceProfile, context);
+
+            assertThat(parsedPosts).extracting(ParsedPost::title).containsExactly("/posts/edited", "/posts/new");
+            assertThat(requestedPaths).doesNotContain("/posts-2024.xml", "/posts/known");
+            assertThat(context.getObservedSitemapLastmods())
+                    .containsOnlyKeys(baseUrl + "/posts-2025.xml");
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    void fetch_keepsSitemapOrderWhileFetchingPostsConcurrently() throws Exception {
+        HttpServer server = HttpServer.create(new InetSocketAddress(0), 0);
+        server.setExecutor(Executors.newFixedThreadPool(4));
+
+        server.createContext("/sitemap.xml", exchange -> {
+            exchange.getResponseHeaders().set("ETag", "\"v1\"");
+            String baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+            respondXml(exchange, """
+                    <urlset xmlns="http://www.sitemaps.org/schemas/sitemap/0.9">
+                      <url><loc>%1$s/posts/1</loc></url>
+                      <url><loc>%1$s/posts/2</loc></url>
+                      <url><loc>%1$s/posts/missing</loc></url>
+                      <url><loc>%1$s/posts/3</loc></url>
+                    </urlset>
+                    """.formatted(baseUrl));
+        });
+        server.createContext("/posts/", exchange -> {
+            String path = exchange.getRequestURI().getPath();
+            if (path.endsWith("/missing")) {
+                exchange.sendResponseHeaders(404, -1);
+                exchange.close();
+                return;
+            }
+            if (path.endsWith("/1")) {
+                // 첫 글이 가장 늦게 도착해도 결과 순서는 사이트맵 순서를 따른다.
+                try {
+                    Thread.sleep(300);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            String number = path.substring(path.lastIndexOf('/') + 1);
+            respondHtml(exchange, "<html><head><title>Post " + number + "</title></head><body></body></html>");
+        });
+
+        server.start();
+        try {
+            String baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+            SourceProfile sourceProfile = new SourceProfile(
+                    1L,
+                    "병렬수집",
+                    baseUrl,
+                    baseUrl + "/sitemap.xml",
+                    ParserType.SITEMAP
+            );
+
+            FetchContext context = new FetchContext();
+            List<ParsedPost> parsedPosts = parser.fetch(sourceProfile, context);
+
+            assertThat(parsedPosts).extracting(ParsedPost::title).containsExactly("Post 1", "Post 2", "Post 3");
+            assertThat(context.getFetchedCount()).isEqualTo(4);
+            assertThat(context.getFailures()).extracting(FetchFailure::url).containsExactly(baseUrl + "/posts/missing");
+            assertThat(context.getObservedValidators()).doesNotContainKey(baseUrl + "/sitemap.xml");
+        } finally {
+            server.stop(0);
+        }
+    }
+
     @Test
     void discoverSitemapUrlFromRobots_extractsSitemapEntry() throws Exception {
         HttpServer server = HttpServer.create(new InetSocketAddress(0), 0);
@@ -0,0 +1,65 @@
+package com.techmoa.ingestion.scheduler;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.techmoa.ingestion.application.SourceSyncService;
+import com.techmoa.ingestion.application.SyncSchedulePolicy;
+import com.techmoa.ingestion.parser.ParserType;
+import com.techmoa.source.domain.Source;
+import com.techmoa.source.domain.SourceRepository;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class SourceSyncSchedulerTest {
+
+    private final SourceRepository sourceRepository = mock(SourceRepository.class);
+    private final SourceSyncService sourceSyncService = mock(SourceSyncService.class);
+    private final SourceSyncScheduler scheduler = new SourceSyncScheduler(
+            sourceRepository,
+            sourceSyncService,
+            new SyncSchedulePolicy(0.1, 0),
+            true
+    );
+
+    @AfterEach
+    void tearDown() {
+        scheduler.stop();
+    }
+
+    @Test
+    void start_dispatchesOnlySourcesWhoseIntervalElapsed() {
+        Source due = source(1L, "카카오테크", LocalDateTime.now().minusMinutes(5));
+        Source notDue = source(2L, "네이버테크", LocalDateTime.now().plusMinutes(25));
+        when(sourceRepository.findByActiveTrue()).thenReturn(List.of(due, notDue));
+        when(sourceSyncService.submitSync(any(Source.class))).thenReturn(CompletableFuture.completedFuture(null));
+
+        scheduler.start();
+
+        verify(sourceSyncService, timeout(2_000)).submitSync(due);
+        verify(sourceSyncService, after(300).never()).submitSync(notDue);
+    }
+
+    private Source source(Long id, String name, LocalDateTime nextSyncAt) {
+        Source source = new Source(
+                name,
+                "https://example.com/" + id,
+                "https://example.com/" + id + "/feed.xml",
+                ParserType.RSS,
+                30,
+                true
+        );
+        ReflectionTestUtils.setField(source, "id", id);
+        source.scheduleNextSync(nextSyncAt);
+        return source;
+    }
+}
@@ -0,0 +1,55 @@
+package com.techmoa.post.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class FeedCursorCodecTest {
+
+    private final FeedCursorCodec codec = new FeedCursorCodec("test-secret");
+
+    @Test
+    void decode_restoresEncodedPosition() {
+        FeedCursor cursor = new FeedCursor(LocalDateTime.of(2026, 2, 21, 9, 30, 15, 123_000_000), 1201L);
+        int filterHash = FeedCursorCodec.filterHash(List.of(3L, 1L), "Java", "kafka");
+
+        String token = codec.encode(cursor, filterHash);
+
+        assertThat(token).doesNotContain("1201");
+        assertThat(codec.decode(token, FeedCursorCodec.filterHash(List.of(1L, 3L), "Java", "kafka"))).isEqualTo(cursor);
+    }
+
+    @Test
+    void decode_rejectsTamperedCursor() {
+        String token = codec.encode(new FeedCursor(LocalDateTime.of(2026, 2, 21, 9, 0), 10L), 0);
+        char[] chars = token.toCharArray();
+        chars[5] = chars[5] == 'A' ? 'B' : 'A';
+
+        assertThatThrownBy(() -> codec.decode(new String(chars), 0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Invalid cursor");
+        assertThatThrownBy(() -> new FeedCursorCodec("other-secret").decode(token, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void decode_rejectsCursorFromDifferentFilters() {
+        int filterHash = FeedCursorCodec.filterHash(null, null, "kafka");
+        String token = codec.encode(new FeedCursor(LocalDateTime.of(2026, 2, 21, 9, 0), 10L), filterHash);
+
+        assertThatThrownBy(() -> codec.decode(token, FeedCursorCodec.filterHash(null, null, "redis")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Cursor does not match the current filters");
+    }
+
+    @Test
+    void constructor_rejectsMissingSecret() {
+        // 공용 설정에는 기본값이 없으므로 TECHMOA_FEED_CURSOR_SECRET 없이 뜨는 운영 서버는 여기서 멈춘다.
+        assertThatThrownBy(() -> new FeedCursorCodec(""))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("TECHMOA_FEED_CURSOR_SECRET");
+    }
+}
@@ -0,0 +1,93 @@
+package com.techmoa.post.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.techmoa.post.presentation.dto.PostFeedResponse;
+import com.techmoa.post.presentation.dto.PostItemResponse;
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.SocketOptions;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+// 응답하지 않는 주소를 Redis로 두고, 피드가 타임아웃만큼만 기다린 뒤 DB에서 나오고 연달아 실패하면 Redis를 건너뛰는지 본다.
+class PostFeedCacheRedisDownTest {
+
+    private static final Duration REDIS_TIMEOUT = Duration.ofMillis(200);
+
+    private final PostQueryService postQueryService = mock(PostQueryService.class);
+    private LettuceConnectionFactory connectionFactory;
+    private PostFeedCache postFeedCache;
+
+    @BeforeEach
+    void setUp() {
+        connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration("10.255.255.1", 6379),
+                LettuceClientConfiguration.builder()
+                        .commandTimeout(REDIS_TIMEOUT)
+                        .clientOptions(ClientOptions.builder()
+                                .socketOptions(SocketOptions.builder().connectTimeout(REDIS_TIMEOUT).build())
+                                .build())
+                        .build()
+        );
+        connectionFactory.afterPropertiesSet();
+        postFeedCache = new PostFeedCache(
+                postQueryService,
+                new StringRedisTemplate(connectionFactory),
+                new ObjectMapper(),
+                true,
+                3,
+                60_000,
+                600_000,
+                200,
+                3,
+                60_000
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        postFeedCache.close();
+        connectionFactory.destroy();
+    }
+
+    @Test
+    void unreachableRedis_servesFeedFromDatabaseWithoutWaitingEachTime() {
+        when(postQueryService.getFeed(any(), any(), any(), any(), any())).thenReturn(page("DB 글"));
+
+        for (int i = 0; i < 3; i++) {
+            long startedAt = System.nanoTime();
+            assertThat(titles(postFeedCache.getFeed(null, 20, null, null, null))).containsExactly("DB 글");
+            assertThat(Duration.ofNanos(System.nanoTime() - startedAt)).isLessThan(Duration.ofSeconds(1));
+        }
+
+        // 세 번 연달아 실패했으므로 이후 요청은 Redis를 건드리지 않고 바로 DB로 간다.
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < 20; i++) {
+            assertThat(titles(postFeedCache.getFeed(null, 20, null, null, null))).containsExactly("DB 글");
+        }
+        assertThat(Duration.ofNanos(System.nanoTime() - startedAt)).isLessThan(REDIS_TIMEOUT);
+    }
+
+    private PostFeedResponse page(String title) {
+        return new PostFeedResponse(
+                List.of(new PostItemResponse(1L, title, null, null, "소스", "https://example.com/1", "2026-02-21")),
+                null,
+                false
+        );
+    }
+
+    private List<String> titles(PostFeedResponse response) {
+        return response.items().stream().map(PostItemResponse::title).toList();
+    }
+}
@@ -0,0 +1,132 @@
+package com.techmoa.post.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.techmoa.post.presentation.dto.PostFeedResponse;
+import com.techmoa.post.presentation.dto.PostItemResponse;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+@Testcontainers(disabledWithoutDocker = true)
+class PostFeedCacheTest {
+
+    @Container
+    private static final GenericContainer<?> REDIS = new GenericContainer<>("redis:7").withExposedPorts(6379);
+
+    private static StringRedisTemplate redisTemplate;
+
+    private final PostQueryService postQueryService = mock(PostQueryService.class);
+    private PostFeedCache postFeedCache;
+
+    @BeforeAll
+    static void setUpRedis() {
+        LettuceConnectionFactory connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(REDIS.getHost(), REDIS.getMappedPort(6379))
+        );
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.execute(connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        }, true);
+        postFeedCache = new PostFeedCache(postQueryService, redisTemplate, new ObjectMapper(), true, 3, 60_000, 600_000, 200, 3, 10_000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        postFeedCache.close();
+    }
+
+    @Test
+    void firstPage_isServedFromCacheUntilPostsChange() {
+        when(postQueryService.getFeed(isNull(), any(), any(), any(), any()))
+                .thenReturn(page("첫 글", null))
+                .thenReturn(page("새 글", null));
+
+        assertThat(titles(postFeedCache.getFeed(null, 20, null, null, null))).containsExactly("첫 글");
+        assertThat(titles(postFeedCache.getFeed(" ", null, null, null, null))).containsExactly("첫 글");
+        verify(postQueryService, times(1)).getFeed(isNull(), any(), any(), any(), any());
+
+        postFeedCache.invalidateAfterCommit();
+
+        assertThat(titles(postFeedCache.getFeed(null, 20, null, null, null))).containsExactly("새 글");
+    }
+
+    @Test
+    void stalePage_isServedWhileDatabaseIsSlow() {
+        when(postQueryService.getFeed(isNull(), any(), any(), eq("Kafka"), any()))
+                .thenReturn(page("이전 글", null))
+                .thenAnswer(invocation -> {
+                    Thread.sleep(1_000);
+                    return page("새 글", null);
+                });
+        postFeedCache.getFeed(null, 20, null, "Kafka", null);
+        postFeedCache.invalidateAfterCommit();
+
+        assertThat(titles(postFeedCache.getFeed(null, 20, null, "Kafka", null))).containsExactly("이전 글");
+
+        verify(postQueryService, timeout(3_000).times(2)).getFeed(isNull(), any(), any(), eq("Kafka"), any());
+    }
+
+    @Test
+    void nextPage_isCachedOnlyWhenReachedFromCachedPage() {
+        when(postQueryService.getFeed(isNull(), any(), any(), any(), any())).thenReturn(page("1페이지", "cursor-2"));
+        when(postQueryService.getFeed(eq("cursor-2"), any(), any(), any(), any())).thenReturn(page("2페이지", null));
+        when(postQueryService.getFeed(eq("cursor-x"), any(), any(), any(), any())).thenReturn(page("다른 페이지", null));
+
+        postFeedCache.getFeed(null, 20, List.of(7L), null, null);
+        postFeedCache.getFeed("cursor-2", 20, List.of(7L), null, null);
+        postFeedCache.getFeed("cursor-2", 20, List.of(7L), null, null);
+        postFeedCache.getFeed("cursor-x", 20, List.of(7L), null, null);
+        postFeedCache.getFeed("cursor-x", 20, List.of(7L), null, null);
+
+        verify(postQueryService, times(1)).getFeed(eq("cursor-2"), any(), any(), any(), any());
+        verify(postQueryService, times(2)).getFeed(eq("cursor-x"), any(), any(), any(), any());
+    }
+
+    @Test
+    void keywordAndCombinedFilters_bypassCache() {
+        when(postQueryService.getFeed(any(), any(), any(), any(), any())).thenReturn(page("글", null));
+
+        postFeedCache.getFeed(null, 20, null, null, "kafka");
+        postFeedCache.getFeed(null, 20, null, null, "kafka");
+        postFeedCache.getFeed(null, 20, List.of(1L), "Kafka", null);
+        postFeedCache.getFeed(null, 20, List.of(1L), "Kafka", null);
+
+        verify(postQueryService, times(4)).getFeed(any(), any(), any(), any(), any());
+    }
+
+    private PostFeedResponse page(String title, String nextCursor) {
+        return new PostFeedResponse(
+                List.of(new PostItemResponse(1L, title, null, null, "소스", "https://example.com/1", "2026-02-21")),
+                nextCursor,
+                nextCursor != null
+        );
+    }
+
+    private List<String> titles(PostFeedResponse response) {
+        return response.items().stream().map(PostItemResponse::title).toList();
+    }
+}
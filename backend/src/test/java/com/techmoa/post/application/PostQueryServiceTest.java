@@ -0,0 +1,102 @@
+package com.techmoa.post.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.techmoa.post.domain.PostFeedQuery;
+import com.techmoa.post.domain.PostFeedRow;
+import com.techmoa.post.domain.PostRepository;
+import com.techmoa.post.presentation.dto.PostFeedResponse;
+import com.techmoa.tag.application.TagDictionary;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class PostQueryServiceTest {
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private PostSearchIndex postSearchIndex;
+
+    @Mock
+    private TagDictionary tagDictionary;
+
+    private PostQueryService postQueryService;
+
+    @BeforeEach
+    void setUp() {
+        postQueryService = new PostQueryService(
+                postRepository,
+                postSearchIndex,
+                new FeedCursorCodec("test-secret"),
+                tagDictionary
+        );
+    }
+
+    @Test
+    void getFeed_returnsShortPageFromRecentWindowWithoutSecondQuery() {
+        when(postRepository.findFeed(any())).thenReturn(List.of(row(2L, 3), row(1L, 10)));
+        when(postRepository.findOldestPublishedAt()).thenReturn(Optional.of(LocalDateTime.now().minusYears(3)));
+
+        PostFeedResponse response = postQueryService.getFeed(null, 20, null, null, null);
+
+        // 구간 안에 글이 있으면 덜 찬 페이지라도 바로 내주고, 더 오래된 글은 다음 커서로 이어 읽는다.
+        verify(postRepository, times(1)).findFeed(any());
+        assertThat(response.items()).hasSize(2);
+        assertThat(response.hasNext()).isTrue();
+        assertThat(response.nextCursor()).isNotNull();
+    }
+
+    @Test
+    void getFeed_endsWithoutSecondQueryWhenNothingIsOlderThanWindow() {
+        when(postRepository.findFeed(any())).thenReturn(List.of(row(1L, 3)));
+        when(postRepository.findOldestPublishedAt()).thenReturn(Optional.of(LocalDateTime.now().minusDays(3)));
+
+        PostFeedResponse response = postQueryService.getFeed(null, 20, null, null, null);
+
+        verify(postRepository, times(1)).findFeed(any());
+        assertThat(response.hasNext()).isFalse();
+        assertThat(response.nextCursor()).isNull();
+    }
+
+    @Test
+    void getFeed_widensToFullRangeOnlyWhenRecentWindowIsEmpty() {
+        when(postRepository.findFeed(any()))
+                .thenReturn(List.of())
+                .thenReturn(List.of(row(1L, 400)));
+        when(postRepository.findOldestPublishedAt()).thenReturn(Optional.of(LocalDateTime.now().minusYears(3)));
+
+        PostFeedResponse response = postQueryService.getFeed(null, 20, null, null, null);
+
+        ArgumentCaptor<PostFeedQuery> queries = ArgumentCaptor.forClass(PostFeedQuery.class);
+        verify(postRepository, times(2)).findFeed(queries.capture());
+        assertThat(queries.getAllValues().get(1).lowerBound()).isBefore(LocalDateTime.now().minusYears(100));
+        assertThat(response.items()).hasSize(1);
+        assertThat(response.hasNext()).isFalse();
+    }
+
+    private PostFeedRow row(Long id, int daysAgo) {
+        return new PostFeedRow(
+                id,
+                "글 " + id,
+                null,
+                null,
+                "https://example.com/posts/" + id,
+                LocalDateTime.now().minusDays(daysAgo),
+                "소스",
+                "https://example.com"
+        );
+    }
+}
@@ -0,0 +1,49 @@
+package com.techmoa.post.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class PostSearchIndexTest {
+
+    @TempDir
+    private Path indexDir;
+
+    @Test
+    void search_matchesKoreanSubstringByBigramsAndRanksTitleFirst() throws Exception {
+        PostSearchIndex index = new PostSearchIndex(indexDir.toString());
+        index.index(List.of(
+                new PostSearchDocument(1L, "배포 회고", "쿠버네티스 오토스케일링을 정리했다", List.of()),
+                new PostSearchDocument(2L, "쿠버네티스 오토스케일링 튜닝기", null, List.of("Kubernetes")),
+                new PostSearchDocument(3L, "Spring Batch 이야기", "대용량 배치", List.of("Spring"))
+        ));
+
+        PostSearchHits hits = index.search("오토스케일", 0, 10);
+
+        assertThat(hits.postIds()).containsExactly(2L, 1L);
+        assertThat(hits.totalHits()).isEqualTo(2);
+        assertThat(index.search("spring", 0, 10).postIds()).containsExactly(3L);
+        index.close();
+    }
+
+    @Test
+    void search_reflectsUpdatesAndSurvivesReopen() throws Exception {
+        PostSearchIndex index = new PostSearchIndex(indexDir.toString());
+        index.index(List.of(new PostSearchDocument(1L, "카프카 컨슈머", null, List.of())));
+        index.index(List.of(new PostSearchDocument(1L, "레디스 캐시", null, List.of())));
+        LocalDateTime watermark = LocalDateTime.of(2026, 3, 1, 12, 0);
+        index.commit(watermark);
+        index.close();
+
+        PostSearchIndex reopened = new PostSearchIndex(indexDir.toString());
+
+        assertThat(reopened.getWatermark()).isEqualTo(watermark);
+        assertThat(reopened.search("카프카", 0, 10).postIds()).isEmpty();
+        assertThat(reopened.search("레디스", 0, 10).postIds()).containsExactly(1L);
+        reopened.close();
+    }
+}
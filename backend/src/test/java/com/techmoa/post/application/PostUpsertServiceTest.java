@@ -1,6 +1,9 @@
 package com.techmoa.post.application;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 import com.techmoa.ingestion.parser.ParsedPost;
 import com.techmoa.ingestion.parser.ParserType;
@@ -8,6 +11,7 @@ import com.techmoa.post.domain.Post;
 import com.techmoa.post.domain.PostRepository;
 import com.techmoa.source.domain.Source;
 import com.techmoa.source.domain.SourceRepository;
+import com.techmoa.tag.application.TagDictionary;
 import com.techmoa.tag.domain.TagRepository;
 import java.time.LocalDateTime;
 import java.util.List;
@@ -15,12 +19,13 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
 
 @DataJpaTest(properties = {
         "spring.jpa.hibernate.ddl-auto=create-drop",
         "spring.flyway.enabled=false"
 })
-@Import(PostUpsertService.class)
+@Import({PostUpsertService.class, PostPartitionManager.class, TagDictionary.class})
 class PostUpsertServiceTest {
 
     @Autowired
@@ -35,6 +40,12 @@ class PostUpsertServiceTest {
     @Autowired
     private TagRepository tagRepository;
 
+    @MockitoBean
+    private PostSearchIndexer postSearchIndexer;
+
+    @MockitoBean
+    private PostFeedCache postFeedCache;
+
     @Test
     void upsert_savesPostAndTags() {
         Source source = sourceRepository.save(new Source(
@@ -56,11 +67,16 @@ class PostUpsertServiceTest {
                 List.of("Java", "Spring")
         );
 
-        int savedCount = postUpsertService.upsert(source, List.of(parsedPost));
+        UpsertResult result = postUpsertService.upsert(source, List.of(parsedPost));
 
-        assertThat(savedCount).isEqualTo(1);
+        assertThat(result.savedCount()).isEqualTo(1);
+        assertThat(result.insertedCount()).isEqualTo(1);
         assertThat(postRepository.findAll()).hasSize(1);
         assertThat(tagRepository.findAll()).hasSize(2);
+        verify(postSearchIndexer).indexAfterCommit(argThat(documents -> documents.size() == 1
+                && documents.get(0).title().equals("테스트 글")
+                && documents.get(0).tagNames().equals(List.of("Java", "Spring"))));
+        verify(postFeedCache).invalidateAfterCommit();
     }
 
     @Test
@@ -94,12 +110,58 @@ class PostUpsertServiceTest {
         );
 
         postUpsertService.upsert(source, List.of(first));
-        postUpsertService.upsert(source, List.of(second));
+        UpsertResult result = postUpsertService.upsert(source, List.of(second));
 
+        assertThat(result.insertedCount()).isZero();
+        assertThat(result.updatedCount()).isEqualTo(1);
         List<Post> posts = postRepository.findAll();
         assertThat(posts).hasSize(1);
         assertThat(posts.get(0).getTitle()).isEqualTo("변경 제목");
         assertThat(posts.get(0).getThumbnailUrl()).isEqualTo("https://cdn.example.com/updated.png");
         assertThat(tagRepository.findAll()).hasSize(2);
     }
+
+    @Test
+    void upsert_skipsUnchangedPost() {
+        Source source = sourceRepository.save(new Source(
+                "테스트소스",
+                "https://example.com",
+                "https://example.com/feed.xml",
+                ParserType.RSS,
+                30,
+                true
+        ));
+        ParsedPost parsedPost = new ParsedPost(
+                "같은 제목",
+                "https://example.com/post-1",
+                "요약",
+                "작성자",
+                null,
+                null,
+                List.of("Spring", "Java")
+        );
+
+        postUpsertService.upsert(source, List.of(parsedPost));
+        LocalDateTime firstPublishedAt = postRepository.findAll().get(0).getPublishedAt();
+        LocalDateTime firstFetchedAt = postUpsertService.findFetchedAt(source, List.of("https://example.com/post-1"))
+                .get("https://example.com/post-1");
+        UpsertResult result = postUpsertService.upsert(source, List.of(new ParsedPost(
+                "같은 제목",
+                "https://example.com/post-1",
+                "요약",
+                "작성자",
+                null,
+                null,
+                List.of("Java", "Spring")
+        )));
+
+        assertThat(result.savedCount()).isZero();
+        assertThat(result.unchangedCount()).isEqualTo(1);
+        assertThat(postRepository.findAll().get(0).getPublishedAt()).isEqualTo(firstPublishedAt);
+        // 내용이 같아도 다시 받아 온 시각은 남겨 사이트맵 lastmod 비교가 같은 글을 또 받지 않게 한다.
+        assertThat(postUpsertService.findFetchedAt(source, List.of("https://example.com/post-1")))
+                .hasEntrySatisfying("https://example.com/post-1", fetchedAt -> assertThat(fetchedAt).isAfter(firstFetchedAt));
+        // 바뀐 글이 없으면 피드 캐시를 비우지 않는다.
+        verify(postFeedCache, times(1)).invalidateAfterCommit();
+    }
 }
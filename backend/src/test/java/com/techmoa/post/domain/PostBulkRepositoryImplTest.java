@@ -0,0 +1,126 @@
+package com.techmoa.post.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+@Testcontainers(disabledWithoutDocker = true)
+class PostBulkRepositoryImplTest {
+
+    private static final String POST_URL = "https://example.com/posts/race";
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16");
+
+    private static JdbcTemplate jdbcTemplate;
+    private static TransactionTemplate transaction;
+    private static PostBulkRepositoryImpl repository;
+    private static Long sourceId;
+
+    @BeforeAll
+    static void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                POSTGRES.getJdbcUrl(),
+                POSTGRES.getUsername(),
+                POSTGRES.getPassword()
+        );
+        Flyway.configure().dataSource(dataSource).load().migrate();
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transaction = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        repository = new PostBulkRepositoryImpl(jdbcTemplate);
+        sourceId = jdbcTemplate.queryForObject("SELECT min(id) FROM sources", Long.class);
+    }
+
+    @Test
+    void upsertAll_updatesPostThatConcurrentSyncInsertedFirst() throws Exception {
+        CountDownLatch firstInserted = new CountDownLatch(1);
+        CountDownLatch releaseFirst = new CountDownLatch(1);
+        CompletableFuture<Void> first = CompletableFuture.runAsync(() -> transaction.executeWithoutResult(status -> {
+            repository.upsertAll(sourceId, List.of(row("이전 제목", "hash-1")));
+            firstInserted.countDown();
+            await(releaseFirst);
+        }));
+        assertThat(firstInserted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // 두 번째 수집은 같은 새 URL을 등록하려다 첫 번째 트랜잭션의 커밋을 기다린다.
+        CompletableFuture<List<PostUpsertOutcome>> second = CompletableFuture.supplyAsync(() -> transaction.execute(
+                status -> repository.upsertAll(sourceId, List.of(row("새 제목", "hash-2")))
+        ));
+        waitUntilBlockedOnLock();
+        releaseFirst.countDown();
+        first.get(5, TimeUnit.SECONDS);
+
+        List<PostUpsertOutcome> outcomes = second.get(5, TimeUnit.SECONDS);
+        assertThat(outcomes).singleElement().satisfies(outcome -> assertThat(outcome.inserted()).isFalse());
+        assertThat(jdbcTemplate.queryForList(
+                "SELECT title FROM posts WHERE canonical_url = ?", String.class, POST_URL
+        )).containsExactly("새 제목");
+    }
+
+    @Test
+    void upsertAll_takesOneSequenceBlockForNewPostsInBatch() {
+        Long before = jdbcTemplate.queryForObject("SELECT nextval('posts_id_seq')", Long.class);
+        List<PostUpsertRow> rows = List.of(
+                row("https://example.com/posts/block-1", "글 1", "hash-1"),
+                row("https://example.com/posts/block-2", "글 2", "hash-2"),
+                row("https://example.com/posts/block-3", "글 3", "hash-3")
+        );
+
+        transaction.executeWithoutResult(status -> repository.upsertAll(sourceId, rows));
+
+        // 새 글 세 개가 nextval 한 번으로 받은 구간의 연속된 id를 쓴다.
+        List<Long> ids = jdbcTemplate.queryForList(
+                "SELECT id FROM posts WHERE canonical_url LIKE 'https://example.com/posts/block-%' ORDER BY id",
+                Long.class
+        );
+        assertThat(ids).hasSize(3);
+        assertThat(ids.get(2) - ids.get(0)).isEqualTo(2);
+        assertThat(jdbcTemplate.queryForObject("SELECT last_value FROM posts_id_seq", Long.class))
+                .isEqualTo(before + 50);
+    }
+
+    private PostUpsertRow row(String title, String contentHash) {
+        return row(POST_URL, title, contentHash);
+    }
+
+    private PostUpsertRow row(String canonicalUrl, String title, String contentHash) {
+        return new PostUpsertRow(canonicalUrl, title, null, null, null, LocalDateTime.of(2026, 1, 15, 9, 0), contentHash);
+    }
+
+    private void waitUntilBlockedOnLock() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (System.currentTimeMillis() < deadline) {
+            Integer waiting = jdbcTemplate.queryForObject(
+                    "SELECT count(*) FROM pg_stat_activity WHERE wait_event_type = 'Lock'",
+                    Integer.class
+            );
+            if (waiting != null && waiting > 0) {
+                return;
+            }
+            Thread.sleep(50);
+        }
+        throw new AssertionError("Second upsert never waited for the first transaction");
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
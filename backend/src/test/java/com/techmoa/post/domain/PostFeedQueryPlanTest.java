@@ -0,0 +1,179 @@
+package com.techmoa.post.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+// 실제 마이그레이션을 올린 Postgres에 3년치 합성 데이터를 넣고, 필터 조합별 실행 계획이 인덱스를 타는지 본다.
+// 월 파티션을 만드는 동안 들어온 글이 DEFAULT 파티션에 남아 파티션 생성을 깨뜨리지 않는지도 여기서 본다.
+@Testcontainers(disabledWithoutDocker = true)
+class PostFeedQueryPlanTest {
+
+    private static final LocalDateTime LATEST = LocalDateTime.of(9999, 12, 31, 0, 0);
+    private static final LocalDateTime OLDEST = LocalDateTime.of(1900, 1, 1, 0, 0);
+    private static final LocalDateTime RECENT_WINDOW_START = LocalDateTime.of(2025, 10, 1, 0, 0);
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16");
+
+    private static DataSource dataSource;
+    private static JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    static void setUp() {
+        dataSource = new DriverManagerDataSource(
+                POSTGRES.getJdbcUrl(),
+                POSTGRES.getUsername(),
+                POSTGRES.getPassword()
+        );
+        Flyway.configure().dataSource(dataSource).load().migrate();
+        jdbcTemplate = new JdbcTemplate(dataSource);
+
+        // 10분 간격으로 16만 건(2023-01 ~ 2026-01). 제목 키워드는 다섯 가지를 돌려 쓰고, 2만 건마다 드문 키워드를 섞는다.
+        jdbcTemplate.execute("SELECT ensure_posts_partitions(TIMESTAMP '2023-01-01', TIMESTAMP '2026-02-01')");
+        jdbcTemplate.execute("""
+                INSERT INTO posts (source_id, canonical_url, title, summary, published_at)
+                SELECT s.ids[1 + g % array_length(s.ids, 1)],
+                       'https://example.com/posts/' || g,
+                       CASE WHEN g % 20000 = 0 THEN '주키퍼 마이그레이션 ' || g
+                            ELSE (ARRAY['스프링', '카프카', '레디스', '쿠버네티스', '리액트'])[1 + g % 5] || ' 튜닝기 ' || g
+                       END,
+                       '요약 ' || g,
+                       TIMESTAMP '2023-01-01' + g * INTERVAL '10 minutes'
+                FROM generate_series(1, 160000) g,
+                     (SELECT array_agg(id ORDER BY id) AS ids FROM sources) s
+                """);
+        jdbcTemplate.execute("INSERT INTO tags (name) SELECT 'tag-' || g FROM generate_series(1, 200) g");
+        jdbcTemplate.execute("""
+                INSERT INTO post_tags (post_id, tag_id, published_at)
+                SELECT p.id, t.id, p.published_at
+                FROM posts p
+                JOIN tags t ON t.name = 'tag-' || (1 + p.id % 200)
+                """);
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    @Test
+    void unfilteredFeed_walksPublishedAtIndexOfRecentPartitionsOnly() {
+        List<String> plan = explain(new PostFeedQuery(LATEST, Long.MAX_VALUE, RECENT_WINDOW_START, null, null, null, 21));
+
+        assertNoSequentialScanOnPosts(plan);
+        assertThat(plan).anyMatch(line -> line.contains("Index Scan") && line.contains("published_at"));
+        assertThat(plan).noneMatch(line -> line.contains("posts_p2023") || line.contains("posts_p2024"));
+    }
+
+    @Test
+    void sourceFilteredFeed_usesIndexes() {
+        List<Long> sourceIds = jdbcTemplate.queryForList("SELECT id FROM sources ORDER BY id LIMIT 2", Long.class);
+
+        assertNoSequentialScanOnPosts(explain(new PostFeedQuery(LATEST, Long.MAX_VALUE, OLDEST, sourceIds, null, null, 21)));
+    }
+
+    @Test
+    void tagFilteredFeed_walksTagFeedIndex() {
+        Long tagId = jdbcTemplate.queryForObject("SELECT id FROM tags WHERE name = 'tag-7'", Long.class);
+        List<String> plan = explain(new PostFeedQuery(LATEST, Long.MAX_VALUE, OLDEST, null, tagId, null, 21));
+
+        assertNoSequentialScanOnPosts(plan);
+        assertThat(plan).anyMatch(line -> line.contains("idx_post_tags_tag_feed"));
+        assertThat(plan).noneMatch(line -> line.contains("Sort"));
+    }
+
+    @Test
+    void keywordFeed_usesTrigramIndex() {
+        List<String> plan = explain(new PostFeedQuery(LATEST, Long.MAX_VALUE, OLDEST, null, null, "주키퍼", 21));
+
+        assertNoSequentialScanOnPosts(plan);
+        assertThat(plan).anyMatch(line -> line.contains("Bitmap Index Scan") && line.contains("search_text"));
+    }
+
+    @Test
+    void keysetNextPage_keepsUsingIndexes() {
+        LocalDateTime cursorPublishedAt = LocalDateTime.of(2025, 6, 1, 12, 0);
+        List<String> plan = explain(new PostFeedQuery(cursorPublishedAt, 150_000L, OLDEST, null, null, null, 21));
+
+        assertNoSequentialScanOnPosts(plan);
+        assertThat(plan).noneMatch(line -> line.contains("posts_p202507") || line.contains("posts_p2026"));
+    }
+
+    @Test
+    void ensurePartitions_movesDefaultRowsCommittedByConcurrentInsert() throws Exception {
+        LocalDateTime publishedAt = LocalDateTime.of(2031, 3, 15, 9, 0);
+        Long sourceId = jdbcTemplate.queryForObject("SELECT min(id) FROM sources", Long.class);
+        try (Connection ingestion = dataSource.getConnection()) {
+            // 파티션이 없는 달의 글을 DEFAULT에 넣고 아직 커밋하지 않은 수집 트랜잭션
+            ingestion.setAutoCommit(false);
+            try (PreparedStatement insert = ingestion.prepareStatement("""
+                    INSERT INTO posts (source_id, canonical_url, title, published_at)
+                    VALUES (?, 'https://example.com/posts/partition-race', '파티션 경합', ?)
+                    """)) {
+                insert.setLong(1, sourceId);
+                insert.setTimestamp(2, Timestamp.valueOf(publishedAt));
+                insert.executeUpdate();
+            }
+
+            CompletableFuture<Integer> created = CompletableFuture.supplyAsync(() -> jdbcTemplate.queryForObject(
+                    "SELECT ensure_posts_partitions(?, ?)",
+                    Integer.class,
+                    Timestamp.valueOf(publishedAt),
+                    Timestamp.valueOf(publishedAt)
+            ));
+            waitUntilBlockedOnLock();
+            ingestion.commit();
+
+            assertThat(created.get(10, TimeUnit.SECONDS)).isEqualTo(1);
+        }
+
+        try {
+            assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM posts_p203103", Integer.class)).isEqualTo(1);
+            assertThat(jdbcTemplate.queryForObject(
+                    "SELECT count(*) FROM posts_default WHERE published_at >= '2031-03-01'",
+                    Integer.class
+            )).isZero();
+        } finally {
+            jdbcTemplate.execute("DROP TABLE posts_p203103");
+        }
+    }
+
+    private void waitUntilBlockedOnLock() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (System.currentTimeMillis() < deadline) {
+            Integer waiting = jdbcTemplate.queryForObject(
+                    "SELECT count(*) FROM pg_stat_activity WHERE wait_event_type = 'Lock'",
+                    Integer.class
+            );
+            if (waiting != null && waiting > 0) {
+                return;
+            }
+            Thread.sleep(50);
+        }
+        throw new AssertionError("Partition creation never waited for the open insert");
+    }
+
+    private List<String> explain(PostFeedQuery query) {
+        PostFeedSql feedSql = PostFeedSql.of(query, true);
+        return jdbcTemplate.queryForList("EXPLAIN " + feedSql.sql(), String.class, feedSql.parameters().toArray());
+    }
+
+    private void assertNoSequentialScanOnPosts(List<String> plan) {
+        // 비어 있는 DEFAULT 파티션은 순차 스캔이 가장 싸므로 월 파티션만 본다.
+        assertThat(plan)
+                .as(String.join("\n", plan))
+                .noneMatch(line -> line.contains("Seq Scan on posts_p"));
+    }
+}
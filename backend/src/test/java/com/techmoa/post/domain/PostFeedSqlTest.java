@@ -0,0 +1,51 @@
+package com.techmoa.post.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class PostFeedSqlTest {
+
+    private static final LocalDateTime LATEST = LocalDateTime.of(9999, 12, 31, 0, 0);
+    private static final LocalDateTime OLDEST = LocalDateTime.of(1900, 1, 1, 0, 0);
+
+    @Test
+    void of_leavesOutAbsentFilters() {
+        PostFeedSql feedSql = PostFeedSql.of(new PostFeedQuery(LATEST, Long.MAX_VALUE, OLDEST, null, null, null, 21), true);
+
+        assertThat(feedSql.sql())
+                .doesNotContain("source_id", "post_tags", "search_text", "IS NULL");
+        assertThat(feedSql.parameters()).hasSize(5);
+    }
+
+    @Test
+    void of_addsOnlyRequestedFilters() {
+        PostFeedSql feedSql = PostFeedSql.of(new PostFeedQuery(
+                LATEST,
+                Long.MAX_VALUE,
+                OLDEST,
+                List.of(3L, 7L),
+                11L,
+                "컨슈머",
+                21
+        ), false);
+
+        assertThat(feedSql.sql())
+                .contains("p.source_id IN (?, ?)", "pt.tag_id = ?", "p.search_text LIKE ?")
+                .doesNotContain("IS NULL");
+        assertThat(feedSql.parameters())
+                .containsSubsequence(11L, 3L, 7L, "%컨슈머%", 21);
+    }
+
+    @Test
+    void of_walksTagFeedIndexWhenAvailable() {
+        PostFeedSql feedSql = PostFeedSql.of(new PostFeedQuery(LATEST, Long.MAX_VALUE, OLDEST, null, 11L, null, 21), true);
+
+        assertThat(feedSql.sql())
+                .contains("FROM post_tags pt", "pt.tag_id = ?", "ORDER BY pt.published_at DESC, pt.post_id DESC")
+                .doesNotContain("EXISTS");
+        assertThat(feedSql.parameters().getFirst()).isEqualTo(11L);
+    }
+}
@@ -5,12 +5,14 @@ import static org.assertj.core.api.Assertions.assertThat;
 import com.techmoa.ingestion.parser.ParserType;
 import com.techmoa.source.domain.Source;
 import com.techmoa.source.domain.SourceRepository;
+import com.techmoa.tag.domain.Tag;
+import com.techmoa.tag.domain.TagRepository;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Set;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
-import org.springframework.data.domain.PageRequest;
 
 @DataJpaTest(properties = {
         "spring.jpa.hibernate.ddl-auto=create-drop",
@@ -18,12 +20,18 @@ import org.springframework.data.domain.PageRequest;
 })
 class PostRepositoryTest {
 
+    private static final LocalDateTime LATEST = LocalDateTime.of(9999, 12, 31, 0, 0);
+    private static final LocalDateTime OLDEST = LocalDateTime.of(1900, 1, 1, 0, 0);
+
     @Autowired
     private PostRepository postRepository;
 
     @Autowired
     private SourceRepository sourceRepository;
 
+    @Autowired
+    private TagRepository tagRepository;
+
     @Test
     void findFeed_filtersByMultipleSourcesWithOrCondition() {
         Source sourceA = sourceRepository.save(new Source(
@@ -78,43 +86,151 @@ class PostRepositoryTest {
                 null,
                 LocalDateTime.of(2026, 2, 21, 9, 2)
         ));
+        // 피드는 JDBC로 읽으므로 저장한 글을 먼저 DB에 내보낸다.
+        postRepository.flush();
 
-        List<Post> posts = postRepository.findFeed(
-                null,
-                null,
-                null,
-                null,
-                PageRequest.of(0, 20)
-        );
+        List<PostFeedRow> posts = postRepository.findFeed(firstPage(OLDEST, null, null, null));
 
         assertThat(posts).hasSize(3);
         assertThat(posts)
-                .extracting(Post::getTitle)
+                .extracting(PostFeedRow::title)
                 .containsExactly("C 글", "B 글", "A 글");
 
-        Post second = posts.get(1);
-        List<Post> nextPage = postRepository.findFeed(
-                second.getId(),
-                second.getPublishedAt(),
+        PostFeedRow second = posts.get(1);
+        List<PostFeedRow> nextPage = postRepository.findFeed(new PostFeedQuery(
+                second.publishedAt(),
+                second.id(),
+                OLDEST,
                 null,
                 null,
-                PageRequest.of(0, 20)
-        );
+                null,
+                20
+        ));
         assertThat(nextPage)
-                .extracting(Post::getTitle)
+                .extracting(PostFeedRow::title)
                 .containsExactly("A 글");
 
-        posts = postRepository.findFeedBySourceIds(
-                null,
-                null,
-                List.of(sourceA.getId(), sourceB.getId()),
-                null,
-                null,
-                PageRequest.of(0, 20)
+        List<PostFeedRow> recentWindow = postRepository.findFeed(
+                firstPage(LocalDateTime.of(2026, 2, 21, 9, 1), null, null, null)
+        );
+        assertThat(recentWindow)
+                .extracting(PostFeedRow::title)
+                .containsExactly("C 글", "B 글");
+
+        posts = postRepository.findFeed(
+                firstPage(OLDEST, List.of(sourceA.getId(), sourceB.getId()), null, null)
         );
 
         assertThat(posts)
-                .extracting(post -> post.getSource().getName())
+                .extracting(PostFeedRow::sourceName)
                 .containsExactlyInAnyOrder("소스A", "소스B");
     }
+
+    @Test
+    void findFetchStamps_returnsOnlyRequestedUrlsOfSource() {
+        Source source = sourceRepository.save(new Source(
+                "소스A",
+                "https://a.example.com",
+                "https://a.example.com/sitemap.xml",
+                ParserType.SITEMAP,
+                30,
+                true
+        ));
+        Source otherSource = sourceRepository.save(new Source(
+                "소스B",
+                "https://b.example.com",
+                "https://b.example.com/feed.xml",
+                ParserType.RSS,
+                30,
+                true
+        ));
+        postRepository.save(new Post(source, "https://a.example.com/post-1", "A 글 1", null, null, null,
+                LocalDateTime.of(2026, 2, 21, 9, 0)));
+        postRepository.save(new Post(source, "https://a.example.com/post-2", "A 글 2", null, null, null,
+                LocalDateTime.of(2026, 2, 21, 9, 0)));
+        postRepository.save(new Post(otherSource, "https://b.example.com/post-1", "B 글", null, null, null,
+                LocalDateTime.of(2026, 2, 21, 9, 0)));
+
+        List<PostFetchStamp> stamps = postRepository.findFetchStamps(
+                source.getId(),
+                List.of("https://a.example.com/post-1", "https://a.example.com/post-3", "https://b.example.com/post-1")
+        );
+
+        assertThat(stamps)
+                .extracting(PostFetchStamp::canonicalUrl)
+                .containsExactly("https://a.example.com/post-1");
+        assertThat(stamps.getFirst().fetchedAt()).isNotNull();
+    }
+
+    @Test
+    void findFeed_matchesLowercasedKeywordInTitleOrSummary() {
+        Source source = sourceRepository.save(new Source(
+                "소스A",
+                "https://a.example.com",
+                "https://a.example.com/feed.xml",
+                ParserType.RSS,
+                30,
+                true
+        ));
+        postRepository.save(new Post(source, "https://a.example.com/post-1", "Kafka 컨슈머 튜닝기", null, null, null,
+                LocalDateTime.of(2026, 2, 21, 9, 0)));
+        postRepository.save(new Post(source, "https://a.example.com/post-2", "배포 회고", "쿠버네티스 오토스케일링 정리", null, null,
+                LocalDateTime.of(2026, 2, 21, 9, 1)));
+        postRepository.save(new Post(source, "https://a.example.com/post-3", "Spring 이야기", null, null, null,
+                LocalDateTime.of(2026, 2, 21, 9, 2)));
+        postRepository.flush();
+
+        assertThat(postRepository.findFeed(firstPage(OLDEST, null, null, "kafka")))
+                .extracting(PostFeedRow::title)
+                .containsExactly("Kafka 컨슈머 튜닝기");
+        assertThat(postRepository.findFeed(firstPage(OLDEST, null, null, "오토스케일")))
+                .extracting(PostFeedRow::title)
+                .containsExactly("배포 회고");
+    }
+
+    @Test
+    void findFeed_combinesTagAndSourceFilters() {
+        Source sourceA = sourceRepository.save(new Source(
+                "소스A",
+                "https://a.example.com",
+                "https://a.example.com/feed.xml",
+                ParserType.RSS,
+                30,
+                true
+        ));
+        Source sourceB = sourceRepository.save(new Source(
+                "소스B",
+                "https://b.example.com",
+                "https://b.example.com/feed.xml",
+                ParserType.RSS,
+                30,
+                true
+        ));
+        Tag kafka = tagRepository.save(new Tag("Kafka"));
+        Post taggedA = new Post(sourceA, "https://a.example.com/post-1", "A 카프카 글", null, null, null,
+                LocalDateTime.of(2026, 2, 21, 9, 0));
+        taggedA.replaceTags(Set.of(kafka));
+        Post taggedB = new Post(sourceB, "https://b.example.com/post-1", "B 카프카 글", null, null, null,
+                LocalDateTime.of(2026, 2, 21, 9, 1));
+        taggedB.replaceTags(Set.of(kafka));
+        postRepository.save(taggedA);
+        postRepository.save(taggedB);
+        postRepository.save(new Post(sourceA, "https://a.example.com/post-2", "A 태그 없는 글", null, null, null,
+                LocalDateTime.of(2026, 2, 21, 9, 2)));
+        postRepository.flush();
+
+        assertThat(postRepository.findFeed(firstPage(OLDEST, null, kafka.getId(), null)))
+                .extracting(PostFeedRow::title)
+                .containsExactly("B 카프카 글", "A 카프카 글");
+        assertThat(postRepository.findFeed(firstPage(OLDEST, List.of(sourceA.getId()), kafka.getId(), null)))
+                .extracting(PostFeedRow::title)
+                .containsExactly("A 카프카 글");
+        assertThat(postRepository.findFeed(firstPage(OLDEST, List.of(sourceA.getId()), null, null)))
+                .extracting(PostFeedRow::sourceName)
+                .containsOnly("소스A");
+    }
+
+    private PostFeedQuery firstPage(LocalDateTime lowerBound, List<Long> sourceIds, Long tagId, String keyword) {
+        return new PostFeedQuery(LATEST, Long.MAX_VALUE, lowerBound, sourceIds, tagId, keyword, 20);
+    }
 }
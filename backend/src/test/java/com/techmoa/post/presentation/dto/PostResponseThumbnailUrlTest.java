@@ -2,61 +2,49 @@ package com.techmoa.post.presentation.dto;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
-import com.techmoa.ingestion.parser.ParserType;
-import com.techmoa.post.domain.Post;
-import com.techmoa.source.domain.Source;
+import com.techmoa.post.domain.PostDetailRow;
+import com.techmoa.post.domain.PostFeedRow;
 import java.time.LocalDateTime;
+import java.util.List;
 import org.junit.jupiter.api.Test;
 
 class PostResponseThumbnailUrlTest {
 
     @Test
     void postItemResponse_resolvesRelativeThumbnailUrlToAbsolute() {
-        Source source = new Source(
-                "네이버테크",
-                "https://d2.naver.com",
-                "https://d2.naver.com/d2.atom",
-                ParserType.RSS,
-                30,
-                true
-        );
-        Post post = new Post(
-                source,
-                "https://d2.naver.com/helloworld/1111",
+        PostFeedRow row = new PostFeedRow(
+                1L,
                 "title",
                 "summary",
-                "author",
                 "/content/images/sample.png",
-                LocalDateTime.now()
+                "https://d2.naver.com/helloworld/1111",
+                LocalDateTime.now(),
+                "네이버테크",
+                "https://d2.naver.com"
         );
 
-        PostItemResponse response = PostItemResponse.from(post);
+        PostItemResponse response = PostItemResponse.from(row);
 
         assertThat(response.thumbnailUrl()).isEqualTo("https://d2.naver.com/content/images/sample.png");
     }
 
     @Test
     void postDetailResponse_resolvesRelativeThumbnailUrlToAbsolute() {
-        Source source = new Source(
-                "인프런테크",
-                "https://tech.inflab.com",
-                "https://tech.inflab.com/rss.xml",
-                ParserType.RSS,
-                30,
-                true
-        );
-        Post post = new Post(
-                source,
-                "https://tech.inflab.com/2026-01-01",
+        PostDetailRow row = new PostDetailRow(
+                1L,
                 "title",
                 "summary",
-                "author",
                 "/static/sample.png",
-                LocalDateTime.now()
+                "https://tech.inflab.com/2026-01-01",
+                "author",
+                LocalDateTime.now(),
+                "인프런테크",
+                "https://tech.inflab.com"
         );
 
-        PostDetailResponse response = PostDetailResponse.from(post);
+        PostDetailResponse response = PostDetailResponse.from(row, List.of("Spring", "Kafka"));
 
         assertThat(response.thumbnailUrl()).isEqualTo("https://tech.inflab.com/static/sample.png");
+        assertThat(response.tags()).containsExactly("Kafka", "Spring");
     }
 }
@@ -13,6 +13,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 @ExtendWith(MockitoExtension.class)
 class SourceServiceTest {
@@ -20,11 +21,14 @@ class SourceServiceTest {
     @Mock
     private SourceRepository sourceRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     private SourceService sourceService;
 
     @BeforeEach
     void setUp() {
-        sourceService = new SourceService(sourceRepository);
+        sourceService = new SourceService(sourceRepository, eventPublisher);
     }
 
     @Test
@@ -0,0 +1,80 @@
+package com.techmoa.tag.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.techmoa.tag.domain.Tag;
+import com.techmoa.tag.domain.TagRepository;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class TagDictionaryTest {
+
+    @Mock
+    private TagRepository tagRepository;
+
+    @Test
+    void resolveIds_servesWarmedTagsWithoutQuery() {
+        TagDictionary tagDictionary = new TagDictionary(tagRepository, 100);
+        when(tagRepository.findAll(any(Pageable.class))).thenReturn(new PageImpl<>(List.of(tag(1L, "Java"))));
+
+        tagDictionary.warmUp();
+
+        assertThat(tagDictionary.resolveIds(List.of("Java"))).containsExactly(Map.entry("Java", 1L));
+        verify(tagRepository, never()).upsertNames(any());
+    }
+
+    @Test
+    void resolveIds_createsOnlyMissingTagsOnceAndRemembersThem() {
+        TagDictionary tagDictionary = new TagDictionary(tagRepository, 100);
+        when(tagRepository.upsertNames(Set.of("Spring"))).thenReturn(Map.of("Spring", 2L));
+
+        assertThat(tagDictionary.resolveIds(List.of("Spring"))).containsEntry("Spring", 2L);
+        assertThat(tagDictionary.resolveIds(List.of("Spring"))).containsEntry("Spring", 2L);
+
+        verify(tagRepository).upsertNames(Set.of("Spring"));
+    }
+
+    @Test
+    void resolveIds_evictsLeastRecentlyUsedTagBeyondMaxSize() {
+        TagDictionary tagDictionary = new TagDictionary(tagRepository, 2);
+        when(tagRepository.upsertNames(any())).thenAnswer(invocation -> {
+            Collection<String> names = invocation.getArgument(0);
+            return names.stream().collect(Collectors.toMap(Function.identity(), name -> (long) name.length()));
+        });
+
+        tagDictionary.resolveIds(List.of("Java"));
+        tagDictionary.resolveIds(List.of("Spring"));
+        tagDictionary.resolveIds(List.of("Java"));
+        tagDictionary.resolveIds(List.of("Kotlin"));
+
+        // 가득 찬 상태에서 Kotlin이 들어오면 가장 오래 안 쓴 Spring이 밀려나고, 방금 쓴 Java는 남는다.
+        assertThat(tagDictionary.resolveIds(List.of("Java", "Kotlin"))).containsOnlyKeys("Java", "Kotlin");
+        assertThat(tagDictionary.resolveIds(List.of("Spring"))).containsEntry("Spring", 6L);
+        verify(tagRepository, times(2)).upsertNames(Set.of("Spring"));
+        verify(tagRepository, times(1)).upsertNames(Set.of("Java"));
+        verify(tagRepository, times(1)).upsertNames(Set.of("Kotlin"));
+    }
+
+    private Tag tag(Long id, String name) {
+        Tag tag = new Tag(name);
+        ReflectionTestUtils.setField(tag, "id", id);
+        return tag;
+    }
+}
@@ -93,7 +93,7 @@ export function App() {
       size: 20,
       cursor: pageParam
     }),
-    initialPageParam: null as number | null,
+    initialPageParam: null as string | null,
     getNextPageParam: (lastPage) => lastPage.hasNext ? lastPage.nextCursor : undefined,
   });
 
@@ -6,7 +6,7 @@ type FetchPostsParams = {
   tag?: string;
   q?: string;
   size?: number;
-  cursor?: number | null;
+  cursor?: string | null;
 };
 
 export function fetchPosts(params: FetchPostsParams): Promise<PostFeed> {
@@ -23,7 +23,7 @@ export function fetchPosts(params: FetchPostsParams): Promise<PostFeed> {
     query.set("tag", params.tag);
   }
   if (params.cursor !== null && params.cursor !== undefined) {
-    query.set("cursor", String(params.cursor));
+    query.set("cursor", params.cursor);
   }
   query.set("size", String(params.size ?? 20));
 
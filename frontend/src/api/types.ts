@@ -19,7 +19,7 @@ export type PostItem = {
 
 export type PostFeed = {
   items: PostItem[];
-  nextCursor: number | null;
+  nextCursor: string | null;
   hasNext: boolean;
 };
 